@@ -0,0 +1,104 @@
+package com.riversoforion.numeris;
+
+import com.diffplug.common.base.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+
+/**
+ * Whole-array conversion through the batch APIs, sequential and parallel, compared with mapping the functional
+ * interfaces over a stream.
+ */
+@OperationsPerInvocation(InputGenerator.SIZE)
+public class BatchBenchmark extends BenchmarkDefaults {
+
+    private static final IntegerToRoman ENCODER = new IntegerToRoman();
+    private static final RomanToInteger DECODER = new RomanToInteger();
+    private static final ParallelConverter PARALLEL = new ParallelConverter();
+    private static final int LARGE_SIZE = 1 << 20;
+
+    /**
+     * Per-thread arrays of inputs, plus reusable error collectors.
+     */
+    @State(Scope.Thread)
+    public static class Batches {
+
+        @Param({ "0.0", "0.25" })
+        public double errorRate;
+
+        long[] numbers;
+        String[] numerals;
+        long[] largeNumbers;
+        final ConversionErrors errors = new ConversionErrors();
+
+        @Setup(Level.Trial)
+        public void generate() {
+
+            this.numbers = InputGenerator.numbers(InputGenerator.Distribution.UNIFORM, this.errorRate);
+            this.numerals = InputGenerator.numerals(InputGenerator.Distribution.UNIFORM,
+                                                    InputGenerator.Style.CANONICAL,
+                                                    this.errorRate);
+            this.largeNumbers = new long[LARGE_SIZE];
+            for (int i = 0; i < LARGE_SIZE; i++) {
+                this.largeNumbers[i] = this.numbers[i & InputGenerator.MASK];
+            }
+        }
+    }
+
+    @Benchmark
+    public String[] encodeBatch(Batches batches) {
+
+        return ENCODER.convertAll(batches.numbers, batches.errors);
+    }
+
+    @Benchmark
+    public Object[] encodeStream(Batches batches) {
+
+        return LongStream.of(batches.numbers).mapToObj(ENCODER).toArray();
+    }
+
+    @Benchmark
+    public long[] decodeBatch(Batches batches) {
+
+        return DECODER.convertAll(batches.numerals, batches.errors);
+    }
+
+    @Benchmark
+    public long[] decodeStream(Batches batches) {
+
+        return Arrays.stream(batches.numerals)
+                     .map(DECODER)
+                     .filter(Either::isLeft)
+                     .mapToLong(Either::getLeft)
+                     .toArray();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LARGE_SIZE)
+    public String[] encodeLargeBatch(Batches batches) {
+
+        return ENCODER.convertAll(batches.largeNumbers, batches.errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LARGE_SIZE)
+    public String[] encodeLargeParallel(Batches batches) {
+
+        return PARALLEL.convertAll(batches.largeNumbers, batches.errors);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LARGE_SIZE)
+    public Object[] encodeLargeParallelStream(Batches batches) {
+
+        return LongStream.of(batches.largeNumbers).parallel().mapToObj(ENCODER).toArray();
+    }
+}
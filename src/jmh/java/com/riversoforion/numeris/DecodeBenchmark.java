@@ -0,0 +1,69 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Roman numeral to numeric value conversion.
+ */
+public class DecodeBenchmark extends BenchmarkDefaults {
+
+    private static final RomanToInteger DECODER = new RomanToInteger();
+    private static final RomanToInteger COUNTING_DECODER =
+            new RomanToInteger(Notation.STANDARD, new ConversionMetrics());
+    private static final RomanToInteger TIMING_DECODER =
+            new RomanToInteger(Notation.STANDARD, new ConversionMetrics(true));
+
+    @Benchmark
+    public void apply(NumeralInputs inputs, Blackhole blackhole) {
+
+        blackhole.consume(DECODER.apply(inputs.next()));
+    }
+
+    @Benchmark
+    public void convert(NumeralInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(DECODER.convert(inputs.next()));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void romanNumeralParse(NumeralInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(RomanNumeral.parse(inputs.next()));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public long tryConvert(NumeralInputs inputs) {
+
+        return DECODER.tryConvert(inputs.next());
+    }
+
+    @Benchmark
+    public long tryConvertCounted(NumeralInputs inputs) {
+
+        return COUNTING_DECODER.tryConvert(inputs.next());
+    }
+
+    @Benchmark
+    public long tryConvertTimed(NumeralInputs inputs) {
+
+        return TIMING_DECODER.tryConvert(inputs.next());
+    }
+
+    @Benchmark
+    public long parseWithoutLookup(NumeralInputs inputs) {
+
+        return NumeralParser.parse(inputs.next());
+    }
+}
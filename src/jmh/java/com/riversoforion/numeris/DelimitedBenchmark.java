@@ -0,0 +1,87 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Bulk validation and decoding of a newline-delimited buffer with {@link DelimitedNumerals}, one byte per operation,
+ * so that the scores are in bytes per microsecond (i.e. MB/s). Vectorized runs fall back to the scalar implementation
+ * if the Vector API is not available (see {@link DelimitedNumerals#vectorized()}).
+ */
+@OperationsPerInvocation(DelimitedBenchmark.BUFFER_SIZE)
+public class DelimitedBenchmark extends BenchmarkDefaults {
+
+    static final int BUFFER_SIZE = 64 << 20;
+
+    /**
+     * A large buffer of canonical numerals, one per line, on and off the heap.
+     */
+    @State(Scope.Benchmark)
+    public static class Buffers {
+
+        @Param({ "false", "true" })
+        public boolean vectorized;
+
+        DelimitedNumerals lines;
+        byte[] heap;
+        ByteBuffer direct;
+
+        @Setup(Level.Trial)
+        public void generate() {
+
+            this.lines = new DelimitedNumerals((byte) '\n', this.vectorized);
+            final String[] numerals = InputGenerator.numerals(InputGenerator.Distribution.UNIFORM,
+                                                              InputGenerator.Style.CANONICAL,
+                                                              0.0);
+            this.heap = new byte[BUFFER_SIZE];
+            int position = 0;
+            for (int i = 0; position < BUFFER_SIZE; i++) {
+                final byte[] numeral = numerals[i & InputGenerator.MASK].getBytes(StandardCharsets.US_ASCII);
+                final int length = Math.min(numeral.length, BUFFER_SIZE - position);
+                System.arraycopy(numeral, 0, this.heap, position, length);
+                position += length;
+                if (position < BUFFER_SIZE) {
+                    this.heap[position++] = '\n';
+                }
+            }
+            this.direct = ByteBuffer.allocateDirect(BUFFER_SIZE).put(this.heap).flip();
+        }
+    }
+
+    @Benchmark
+    public int validateHeap(Buffers buffers) {
+
+        return buffers.lines.validate(buffers.heap, 0, BUFFER_SIZE);
+    }
+
+    @Benchmark
+    public int validateDirect(Buffers buffers) {
+
+        return buffers.lines.validate(buffers.direct);
+    }
+
+    @Benchmark
+    public long decodeHeap(Buffers buffers) {
+
+        final long[] total = new long[1];
+        buffers.lines.decode(buffers.heap, 0, BUFFER_SIZE, (from, to, status) -> total[0] += status);
+        return total[0];
+    }
+
+    @Benchmark
+    public long decodeDirect(Buffers buffers) {
+
+        final long[] total = new long[1];
+        buffers.lines.decode(buffers.direct, (from, to, status) -> total[0] += status);
+        return total[0];
+    }
+}
@@ -0,0 +1,41 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Numeric value to Roman numeral conversion.
+ */
+public class EncodeBenchmark extends BenchmarkDefaults {
+
+    private static final IntegerToRoman ENCODER = new IntegerToRoman();
+
+    @Benchmark
+    public void apply(NumberInputs inputs, Blackhole blackhole) {
+
+        blackhole.consume(ENCODER.apply(inputs.next()));
+    }
+
+    @Benchmark
+    public void convert(NumberInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(ENCODER.convert(inputs.next()));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void romanNumeralOf(NumberInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(RomanNumeral.of(inputs.next()));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * Heap footprint of {@link RomanNumeral} instances. Standard values are shared, so retrieving them allocates nothing;
+ * each extended value is a new instance, so the GC profiler's normalized allocation rate ({@code gc.alloc.rate.norm})
+ * for {@link #extendedOf} is the footprint of one retained {@code RomanNumeral}. The {@code stringValue} benchmarks
+ * show the cost of materializing the Roman representation on demand.
+ */
+public class FootprintBenchmark extends BenchmarkDefaults {
+
+    @Benchmark
+    public void standardOf(NumberInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(RomanNumeral.of(inputs.next()));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public RomanNumeral extendedOf(LargeNumbers inputs) throws RomanNumeralException {
+
+        return RomanNumeral.of(inputs.next(), Notation.PARENTHESES);
+    }
+
+    @Benchmark
+    public String standardStringValue(LargeNumbers inputs) {
+
+        return inputs.nextStandard().stringValue();
+    }
+
+    @Benchmark
+    public String extendedStringValue(LargeNumbers inputs) {
+
+        return inputs.nextExtended().stringValue();
+    }
+
+    /**
+     * Per-thread supply of values above the standard range, and of pre-built numerals.
+     */
+    @State(Scope.Thread)
+    public static class LargeNumbers {
+
+        private final long[] numbers = new long[InputGenerator.SIZE];
+        private final RomanNumeral[] standard = new RomanNumeral[InputGenerator.SIZE];
+        private final RomanNumeral[] extended = new RomanNumeral[InputGenerator.SIZE];
+        private int cursor;
+
+        @Setup(Level.Trial)
+        public void generate() throws RomanNumeralException {
+
+            final SplittableRandom random = new SplittableRandom(0x5EED_CAFEL);
+            for (int i = 0; i < InputGenerator.SIZE; i++) {
+                this.numbers[i] = random.nextLong(RomanNumeral.MAX_VALUE + 1, 1_000_000_000_000L);
+                this.standard[i] = RomanNumeral.of(random.nextLong(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE + 1));
+                this.extended[i] = RomanNumeral.of(this.numbers[i], Notation.PARENTHESES);
+            }
+        }
+
+        long next() {
+
+            return this.numbers[this.cursor++ & InputGenerator.MASK];
+        }
+
+        RomanNumeral nextStandard() {
+
+            return this.standard[this.cursor++ & InputGenerator.MASK];
+        }
+
+        RomanNumeral nextExtended() {
+
+            return this.extended[this.cursor++ & InputGenerator.MASK];
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+
+/**
+ * Generates reproducible input mixes for the benchmarks.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InputGenerator {
+
+    /**
+     * Number of inputs generated per benchmark state. A power of two, so that cursors can wrap with a mask.
+     */
+    static final int SIZE = 1 << 12;
+    static final int MASK = SIZE - 1;
+
+    private static final long SEED = 0x5EED_CAFEL;
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final String JUNK_SYMBOLS = "ABEFGHJKNOPQRSTUWYZ0123456789-;";
+    private static final IntegerToRoman ENCODER = new IntegerToRoman();
+
+    /**
+     * How numeric values are distributed over the valid range.
+     */
+    public enum Distribution {
+        /**
+         * Every valid value is equally likely.
+         */
+        UNIFORM,
+        /**
+         * Small values are much more likely than large ones, as with chapter or volume numbers.
+         */
+        ZIPF
+    }
+
+    /**
+     * How Roman numeral strings are presented.
+     */
+    public enum Style {
+        /**
+         * Canonical, upper-case numerals.
+         */
+        CANONICAL,
+        /**
+         * Each symbol is randomly upper- or lower-case.
+         */
+        MIXED_CASE,
+        /**
+         * Canonical numerals, surrounded by random whitespace.
+         */
+        PADDED
+    }
+
+    static long[] numbers(Distribution distribution, double errorRate) {
+
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final double[] zipf = zipfDistribution();
+        final long[] numbers = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            numbers[i] = random.nextDouble() < errorRate
+                         ? invalidNumber(random)
+                         : validNumber(distribution, zipf, random);
+        }
+        return numbers;
+    }
+
+    static String[] numerals(Distribution distribution, Style style, double errorRate) {
+
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final double[] zipf = zipfDistribution();
+        final String[] numerals = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final String numeral = ENCODER.apply(validNumber(distribution, zipf, random)).getLeft();
+            numerals[i] = style(random.nextDouble() < errorRate ? corrupt(numeral, random) : numeral, style, random);
+        }
+        return numerals;
+    }
+
+    private static long validNumber(Distribution distribution, double[] zipf, SplittableRandom random) {
+
+        return switch (distribution) {
+            case UNIFORM -> random.nextLong(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE + 1);
+            case ZIPF -> {
+                int rank = Arrays.binarySearch(zipf, random.nextDouble());
+                yield (rank < 0 ? -rank - 1 : rank) + RomanNumeral.MIN_VALUE;
+            }
+        };
+    }
+
+    private static long invalidNumber(SplittableRandom random) {
+
+        return random.nextBoolean()
+               ? random.nextLong(-RomanNumeral.MAX_VALUE, RomanNumeral.MIN_VALUE)
+               : random.nextLong(RomanNumeral.MAX_VALUE + 1, RomanNumeral.MAX_VALUE * 10);
+    }
+
+    // Either replaces one symbol with junk, or appends symbols in an order the grammar does not allow
+    private static String corrupt(String numeral, SplittableRandom random) {
+
+        if (random.nextBoolean()) {
+            return numeral + "IM";
+        }
+        final char[] chars = numeral.toCharArray();
+        chars[random.nextInt(chars.length)] = JUNK_SYMBOLS.charAt(random.nextInt(JUNK_SYMBOLS.length()));
+        return new String(chars);
+    }
+
+    private static String style(String numeral, Style style, SplittableRandom random) {
+
+        return switch (style) {
+            case CANONICAL -> numeral;
+            case MIXED_CASE -> {
+                final char[] chars = numeral.toCharArray();
+                for (int i = 0; i < chars.length; i++) {
+                    if (random.nextBoolean()) {
+                        chars[i] = Character.toLowerCase(chars[i]);
+                    }
+                }
+                yield new String(chars);
+            }
+            case PADDED -> " ".repeat(random.nextInt(1, 4)) + numeral + "\t".repeat(random.nextInt(0, 3));
+        };
+    }
+
+    // Cumulative distribution over the valid values, ranked from smallest to largest
+    private static double[] zipfDistribution() {
+
+        final int count = (int) (RomanNumeral.MAX_VALUE - RomanNumeral.MIN_VALUE + 1);
+        final double[] cumulative = new double[count];
+        double sum = 0;
+        for (int rank = 1; rank <= count; rank++) {
+            sum += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < count; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,96 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Lookup tables keyed by Roman numeral: a {@code HashMap}, compared with the array-indexed {@link RomanNumeralMap} and
+ * {@link RomanNumeralLongMap}, with keys given as numerals and as text.
+ */
+@OperationsPerInvocation(InputGenerator.SIZE)
+public class LookupBenchmark extends BenchmarkDefaults {
+
+    /**
+     * Per-thread keys, and tables holding a value for every other numeral.
+     */
+    @State(Scope.Thread)
+    public static class Tables {
+
+        RomanNumeral[] numerals;
+        String[] strings;
+        final Map<RomanNumeral, Long> hashMap = new HashMap<>();
+        final RomanNumeralMap<Long> map = new RomanNumeralMap<>();
+        final RomanNumeralLongMap longMap = new RomanNumeralLongMap();
+
+        @Setup(Level.Trial)
+        public void generate() throws RomanNumeralException {
+
+            final long[] numbers = InputGenerator.numbers(InputGenerator.Distribution.UNIFORM, 0.0);
+            this.numerals = new RomanNumeral[numbers.length];
+            this.strings = new String[numbers.length];
+            for (int i = 0; i < numbers.length; i++) {
+                this.numerals[i] = RomanNumeral.of(numbers[i]);
+                this.strings[i] = this.numerals[i].stringValue();
+            }
+            for (long value = RomanNumeral.MIN_VALUE; value <= RomanNumeral.MAX_VALUE; value += 2) {
+                this.hashMap.put(RomanNumeral.of(value), value);
+                this.map.put(value, value);
+                this.longMap.put(value, value);
+            }
+        }
+    }
+
+    @Benchmark
+    public long hashMap(Tables tables) {
+
+        long total = 0;
+        for (RomanNumeral numeral : tables.numerals) {
+            final Long value = tables.hashMap.get(numeral);
+            if (value != null) {
+                total += value;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long romanNumeralMap(Tables tables) {
+
+        long total = 0;
+        for (RomanNumeral numeral : tables.numerals) {
+            final Long value = tables.map.get(numeral);
+            if (value != null) {
+                total += value;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long romanNumeralLongMap(Tables tables) {
+
+        long total = 0;
+        for (RomanNumeral numeral : tables.numerals) {
+            total += tables.longMap.get(numeral);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long romanNumeralLongMapText(Tables tables) {
+
+        long total = 0;
+        for (String numeral : tables.strings) {
+            total += tables.longMap.get(numeral);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,35 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Per-thread supply of numeric values to encode.
+ */
+@State(Scope.Thread)
+public class NumberInputs {
+
+    @Param({ "UNIFORM", "ZIPF" })
+    public InputGenerator.Distribution distribution;
+
+    @Param({ "0.0", "0.25" })
+    public double errorRate;
+
+    private long[] numbers;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void generate() {
+
+        this.numbers = InputGenerator.numbers(this.distribution, this.errorRate);
+    }
+
+    long next() {
+
+        return this.numbers[this.cursor++ & InputGenerator.MASK];
+    }
+}
@@ -0,0 +1,38 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Per-thread supply of Roman numeral strings to decode.
+ */
+@State(Scope.Thread)
+public class NumeralInputs {
+
+    @Param({ "UNIFORM", "ZIPF" })
+    public InputGenerator.Distribution distribution;
+
+    @Param({ "CANONICAL", "MIXED_CASE", "PADDED" })
+    public InputGenerator.Style style;
+
+    @Param({ "0.0", "0.25" })
+    public double errorRate;
+
+    private String[] numerals;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void generate() {
+
+        this.numerals = InputGenerator.numerals(this.distribution, this.style, this.errorRate);
+    }
+
+    String next() {
+
+        return this.numerals[this.cursor++ & InputGenerator.MASK];
+    }
+}
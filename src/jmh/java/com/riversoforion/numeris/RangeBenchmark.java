@@ -0,0 +1,44 @@
+package com.riversoforion.numeris;
+
+import com.diffplug.common.base.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+import java.util.stream.LongStream;
+
+
+/**
+ * Enumerating every standard Roman numeral as a label, with {@link RomanNumeral#range(long, long)}, compared with
+ * encoding each value of a {@code LongStream}.
+ */
+@OperationsPerInvocation((int) RomanNumeral.MAX_VALUE)
+public class RangeBenchmark extends BenchmarkDefaults {
+
+    private static final IntegerToRoman ENCODER = new IntegerToRoman();
+
+    @Benchmark
+    public Object[] range() throws RomanNumeralException {
+
+        return RomanNumeral.range(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE)
+                           .map(RomanNumeral::stringValue)
+                           .toArray();
+    }
+
+    @Benchmark
+    public Object[] rangeParallel() throws RomanNumeralException {
+
+        return RomanNumeral.range(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE)
+                           .parallel()
+                           .map(RomanNumeral::stringValue)
+                           .toArray();
+    }
+
+    @Benchmark
+    public Object[] encodeStream() {
+
+        return LongStream.rangeClosed(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE)
+                         .mapToObj(ENCODER)
+                         .map(Either::getLeft)
+                         .toArray();
+    }
+}
@@ -0,0 +1,95 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * The cost of rejecting invalid input, which dominates on dirty feeds.
+ */
+public class RejectionBenchmark extends BenchmarkDefaults {
+
+    private static final IntegerToRoman ENCODER = new IntegerToRoman();
+    private static final RomanToInteger DECODER = new RomanToInteger();
+
+    /**
+     * Per-thread supply of inputs that are all invalid.
+     */
+    @State(Scope.Thread)
+    public static class InvalidInputs {
+
+        private long[] numbers;
+        private String[] numerals;
+        private final char[] scratch = new char[RomanNumeral.MAX_LENGTH];
+        private int cursor;
+
+        @Setup(Level.Trial)
+        public void generate() {
+
+            this.numbers = InputGenerator.numbers(InputGenerator.Distribution.UNIFORM, 1.0);
+            this.numerals = InputGenerator.numerals(InputGenerator.Distribution.UNIFORM,
+                                                    InputGenerator.Style.CANONICAL,
+                                                    1.0);
+        }
+
+        long nextNumber() {
+
+            return this.numbers[this.cursor++ & InputGenerator.MASK];
+        }
+
+        String nextNumeral() {
+
+            return this.numerals[this.cursor++ & InputGenerator.MASK];
+        }
+    }
+
+    @Benchmark
+    public void encodeApply(InvalidInputs inputs, Blackhole blackhole) {
+
+        blackhole.consume(ENCODER.apply(inputs.nextNumber()));
+    }
+
+    @Benchmark
+    public void encodeConvert(InvalidInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(ENCODER.convert(inputs.nextNumber()));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void decodeApply(InvalidInputs inputs, Blackhole blackhole) {
+
+        blackhole.consume(DECODER.apply(inputs.nextNumeral()));
+    }
+
+    @Benchmark
+    public void decodeConvert(InvalidInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(DECODER.convert(inputs.nextNumeral()));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public long encodeTryConvert(InvalidInputs inputs) {
+
+        return ENCODER.tryConvert(inputs.nextNumber(), inputs.scratch, 0);
+    }
+
+    @Benchmark
+    public long decodeTryConvert(InvalidInputs inputs) {
+
+        return DECODER.tryConvert(inputs.nextNumeral());
+    }
+}
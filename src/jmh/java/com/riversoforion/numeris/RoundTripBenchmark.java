@@ -0,0 +1,36 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Conversions in both directions, as when numerals are read, adjusted and written back out.
+ */
+public class RoundTripBenchmark extends BenchmarkDefaults {
+
+    private static final IntegerToRoman ENCODER = new IntegerToRoman();
+    private static final RomanToInteger DECODER = new RomanToInteger();
+
+    @Benchmark
+    public void numberToNumeralToNumber(NumberInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(DECODER.convert(ENCODER.convert(inputs.next())));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void numeralToNumberToNumeral(NumeralInputs inputs, Blackhole blackhole) {
+
+        try {
+            blackhole.consume(ENCODER.convert(DECODER.convert(inputs.next())));
+        }
+        catch (RomanNumeralException e) {
+            blackhole.consume(e);
+        }
+    }
+}
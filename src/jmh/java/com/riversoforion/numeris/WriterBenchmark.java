@@ -0,0 +1,80 @@
+package com.riversoforion.numeris;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Writing Roman numerals as delimited ASCII bytes, through {@link RomanNumeralWriter}, compared with converting each
+ * value to a string and encoding that.
+ */
+@OperationsPerInvocation(InputGenerator.SIZE)
+public class WriterBenchmark extends BenchmarkDefaults {
+
+    private static final IntegerToRoman ENCODER = new IntegerToRoman();
+    private static final byte[] DELIMITER = { '\n' };
+
+    /**
+     * Per-thread arrays of valid inputs, and destinations that discard (or keep reusing) what is written to them.
+     */
+    @State(Scope.Thread)
+    public static class Outputs {
+
+        @Param({ "UNIFORM", "ZIPF" })
+        public InputGenerator.Distribution distribution;
+
+        long[] numbers;
+        ByteBuffer destination;
+        RomanNumeralWriter streamWriter;
+        RomanNumeralWriter bufferWriter;
+        OutputStream bufferedStream;
+
+        @Setup(Level.Trial)
+        public void generate() {
+
+            this.numbers = InputGenerator.numbers(this.distribution, 0.0);
+            this.destination = ByteBuffer.allocateDirect(InputGenerator.SIZE * (SharedConstants.MAX_LENGTH + 1));
+            this.streamWriter = new RomanNumeralWriter(OutputStream.nullOutputStream());
+            this.bufferWriter = new RomanNumeralWriter(this.destination);
+            this.bufferedStream = new BufferedOutputStream(OutputStream.nullOutputStream(),
+                                                           RomanNumeralWriter.DEFAULT_BUFFER_SIZE);
+        }
+    }
+
+    @Benchmark
+    public void writerToStream(Outputs outputs) throws RomanNumeralException, IOException {
+
+        outputs.streamWriter.writeAll(outputs.numbers, 0, outputs.numbers.length);
+        outputs.streamWriter.flush();
+    }
+
+    @Benchmark
+    public ByteBuffer writerToBuffer(Outputs outputs) throws RomanNumeralException, IOException {
+
+        outputs.destination.clear();
+        outputs.bufferWriter.writeAll(outputs.numbers, 0, outputs.numbers.length);
+        outputs.bufferWriter.flush();
+        return outputs.destination;
+    }
+
+    @Benchmark
+    public void stringsToStream(Outputs outputs) throws RomanNumeralException, IOException {
+
+        for (long number : outputs.numbers) {
+            outputs.bufferedStream.write(ENCODER.convert(number).getBytes(StandardCharsets.US_ASCII));
+            outputs.bufferedStream.write(DELIMITER);
+        }
+        outputs.bufferedStream.flush();
+    }
+}
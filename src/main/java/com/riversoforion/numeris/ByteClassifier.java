@@ -0,0 +1,55 @@
+package com.riversoforion.numeris;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Classifies the bytes of a buffer of delimited ASCII Roman numerals, for {@link DelimitedNumerals}. A byte is valid
+ * if it is a Roman numeral symbol (in either case), whitespace (anything up to and including {@code ' '}, as skipped
+ * by the {@link NumeralParser parser}), or the delimiter.
+ * <p>
+ * All indices are absolute: buffers are read with absolute {@code get}s, and their position and limit are ignored.
+ * </p>
+ */
+interface ByteClassifier {
+
+    /**
+     * Finds the first invalid byte in the given range.
+     *
+     * @param input The bytes to classify
+     * @param from  The index of the first byte (inclusive)
+     * @param to    The index of the last byte (exclusive)
+     * @return The index of the first invalid byte, or {@code to} if they are all valid
+     */
+    int firstInvalid(byte[] input, int from, int to);
+
+    /**
+     * Finds the first invalid byte in the given range.
+     *
+     * @param input The bytes to classify
+     * @param from  The index of the first byte (inclusive)
+     * @param to    The index of the last byte (exclusive)
+     * @return The index of the first invalid byte, or {@code to} if they are all valid
+     */
+    int firstInvalid(ByteBuffer input, int from, int to);
+
+    /**
+     * Finds the first delimiter in the given range.
+     *
+     * @param input The bytes to search
+     * @param from  The index of the first byte (inclusive)
+     * @param to    The index of the last byte (exclusive)
+     * @return The index of the first delimiter, or {@code to} if there is none
+     */
+    int nextDelimiter(byte[] input, int from, int to);
+
+    /**
+     * Finds the first delimiter in the given range.
+     *
+     * @param input The bytes to search
+     * @param from  The index of the first byte (inclusive)
+     * @param to    The index of the last byte (exclusive)
+     * @return The index of the first delimiter, or {@code to} if there is none
+     */
+    int nextDelimiter(ByteBuffer input, int from, int to);
+}
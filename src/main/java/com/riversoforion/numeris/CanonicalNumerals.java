@@ -0,0 +1,244 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Minimal perfect hash table from the canonical (upper-case, unpadded) Roman numerals to their values. Looking up a
+ * canonical numeral takes one hash over its characters, one probe into the table, and one comparison to verify the
+ * match; anything else (non-canonical, padded, lower-case or invalid input) is reported as a {@link #MISS}, so that
+ * the caller can fall back to the {@link NumeralParser parser}.
+ * <p>
+ * The table uses the "hash and displace" method: the numerals are hashed into buckets, and each bucket has a
+ * displacement that places all of its numerals in free slots. There is exactly one slot per numeral, so the table is
+ * minimal. Finding the displacements takes far longer than the rest of class initialization, so the seed and the
+ * displacements are precomputed constants; the search that produces them is kept in {@code RomanToIntegerTest}, which
+ * checks that they are up to date.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CanonicalNumerals {
+
+    /**
+     * Result of a lookup for a value that is not a canonical numeral.
+     */
+    static final long MISS = -1L;
+    /**
+     * The number of slots in the table, which is the number of canonical numerals.
+     */
+    static final int SIZE = (int) SharedConstants.MAX_VALUE;
+
+    /**
+     * The number of buckets, each with its own displacement.
+     */
+    static final int BUCKETS = SIZE / 4;
+    /**
+     * The initial value of the hash.
+     */
+    static final long SEED = 0xCBF29CE484222325L;
+    /**
+     * The displacement of each bucket, found for the {@link #SEED} by the search in {@code RomanToIntegerTest}.
+     */
+    static final int[] DISPLACEMENTS = {
+            48, 58, 0, 87, 87, 33, 110, 66, 0, 0, 63, 76, 5, 9, 2, 24, 2, 13, 39, 3, 132, 0, 31, 126, 0, 32, 68, 25, 0,
+            0, 11, 130, 6, 64, 42, 5, 94, 89, 1, 36, 106, 0, 20, 24, 0, 1, 4, 12, 3, 183, 43, 1, 7, 1, 0, 0, 6, 2, 65,
+            5, 3, 322, 1, 14, 205, 10, 0, 0, 8, 22, 2, 70, 6, 128, 62, 13, 7, 1, 21, 0, 3, 38, 0, 0, 83, 0, 1, 2, 12,
+            136, 2, 1, 160, 92, 12, 4, 51, 0, 18, 50, 8, 43, 34, 61, 85, 4, 2, 10, 6, 0, 166, 19, 30, 2, 3, 69, 1, 15,
+            89, 152, 31, 62, 10, 1, 13, 7, 5, 21, 9, 11, 1, 22, 0, 25, 0, 59, 13, 2, 38, 1, 0, 16, 6, 2, 113, 0, 7, 3,
+            3, 1, 39, 91, 45, 13, 82, 56, 1, 100, 4, 153, 5, 1, 54, 44, 31, 166, 29, 17, 44, 51, 41, 5, 78, 91, 278,
+            66, 1, 0, 92, 156, 22, 37, 0, 3, 167, 1, 102, 18, 123, 3, 148, 140, 23, 8, 10, 30, 6, 14, 0, 4, 138, 37, 2,
+            70, 250, 27, 11, 1, 9, 13, 0, 331, 0, 2, 167, 2, 71, 4, 48, 9, 15, 0, 37, 0, 6, 10, 128, 4, 5, 20, 80, 109,
+            0, 2, 12, 0, 99, 276, 3, 14, 61, 116, 0, 11, 17, 137, 234, 5, 490, 20, 28, 34, 261, 44, 72, 1, 27, 21, 2,
+            0, 11, 0, 111, 142, 15, 4, 18, 3, 1, 10, 14, 1, 247, 124, 0, 296, 38, 74, 61, 12, 17, 352, 72, 24, 13, 50,
+            0, 55, 15, 519, 29, 36, 16, 20, 382, 6, 1, 10, 0, 43, 93, 132, 62, 91, 19, 66, 58, 29, 78, 49, 0, 105, 27,
+            113, 152, 67, 23, 3, 0, 6, 0, 41, 67, 42, 33, 350, 1, 46, 2, 14, 1, 0, 141, 22, 125, 176, 5, 1, 3, 29, 0,
+            38, 2, 4, 30, 0, 30, 1, 107, 13, 4, 305, 48, 43, 219, 98, 43, 43, 113, 57, 21, 7, 3, 641, 3, 8, 320, 31,
+            80, 57, 148, 1, 312, 214, 116, 0, 169, 322, 19, 4, 1, 44, 20, 52, 56, 9, 38, 0, 102, 5, 1, 46, 115, 17,
+            173, 160, 57, 12, 3, 6, 21, 207, 18, 2, 12, 19, 406, 148, 195, 4, 0, 1, 25, 7, 15, 14, 24, 5, 1, 100, 47,
+            14, 2, 1, 18, 15, 2, 353, 0, 487, 6, 695, 230, 48, 1, 172, 11, 51, 2, 97, 4, 17, 41, 84, 20, 100, 520, 1,
+            6, 7, 108, 106, 5, 179, 0, 20, 74, 0, 3, 36, 3, 0, 28, 2, 50, 22, 12, 149, 245, 515, 106, 315, 20, 124, 18,
+            635, 111, 4, 265, 5, 235, 216, 134, 40, 35, 7, 130, 0, 8, 0, 40, 505, 25, 22, 50, 70, 152, 86, 16, 9, 44,
+            288, 9, 0, 13, 14, 1, 29, 8, 8, 811, 5, 89, 334, 0, 0, 8, 689, 0, 9, 1, 21, 0, 481, 26, 1, 1126, 17, 5,
+            346, 87, 0, 399, 105, 35, 6, 44, 157, 0, 0, 155, 0, 2, 457, 166, 95, 16, 4, 0, 109, 47, 124, 148, 0, 140,
+            8, 21, 17, 194, 4, 2, 375, 307, 483, 0, 270, 13, 0, 2, 4, 1, 74, 794, 1, 3, 676, 1, 25, 280, 102, 0, 8, 39,
+            40, 35, 40, 119, 210, 245, 7, 513, 196, 0, 130, 187, 665, 33, 42, 2, 1133, 40, 24, 70, 130, 0, 518, 1, 502,
+            1033, 157, 7, 320, 7, 603, 0, 12, 125, 1029, 270, 97, 12, 35, 623, 11, 16, 7, 12, 183, 16, 44, 0, 28, 65,
+            3, 47, 151, 0, 0, 0, 1, 8, 82, 6, 1, 57, 146, 74, 4, 581, 3, 96, 1261, 58, 0, 1015, 83, 1, 1052, 39, 7,
+            399, 21, 197, 1427, 179, 72, 957, 1147, 41, 157, 2, 367, 14, 189, 190, 2, 71, 12, 396, 274, 332, 13, 1323,
+            435, 20, 1, 46, 0, 10, 69, 10, 1443, 263, 194, 9, 88, 1, 203, 200, 126, 78, 21, 10, 303, 739, 35, 24, 49,
+            277, 0, 64, 92, 140, 4, 28, 2055, 67, 23, 0, 88, 1684, 16, 11, 6, 41, 13, 440, 533, 26, 1165, 275, 0, 12,
+            135, 1015, 313, 9, 327, 248, 10, 4, 4278, 800, 7, 233, 10, 90, 56, 1144, 138, 228, 30, 2, 0, 683, 2320, 27,
+            253, 16, 2, 1, 80, 214, 66, 681, 7, 13, 57, 27, 297, 17, 1, 3, 82, 27, 795, 3, 38, 1, 9, 25, 4119, 3, 1,
+            319, 106, 88, 116, 1140, 2, 255, 62, 44, 11, 1028, 313, 484, 1194, 1978, 256, 978, 2, 1, 38, 47, 55, 13,
+            1200, 3, 82, 436, 481, 254, 109, 107, 0, 1380, 6, 141, 147, 579, 429, 1695, 1, 58, 17, 1503, 25, 11, 822,
+            100, 385, 2004, 13, 228, 175, 249, 183, 261, 0, 0, 464, 3684, 1805, 110, 11, 856, 26, 118, 116, 480, 27,
+            2325, 0, 1800, 343, 3, 2200, 5, 0, 73, 73, 356, 559, 931, 19, 45, 2, 14, 144, 0, 437, 350, 436, 279, 38,
+            10, 0, 94, 715, 910, 112, 2, 668, 19, 21, 2869, 37, 730, 44, 9, 53, 0, 34, 2, 117, 1185, 711, 3653, 53,
+            389, 900, 57, 24, 161, 2, 6, 6, 17, 3, 73, 2, 691, 0, 42, 58, 3, 609, 13, 227, 0, 15, 321, 88, 238, 16,
+            4581, 90, 665, 63, 799, 3594, 0, 212, 520, 492, 1995, 53, 245, 252, 23, 3972, 3, 1, 2814, 194, 65, 1962, 0,
+            10, 27, 326, 790, 0, 35, 546, 35, 20, 256, 19, 35, 10, 9, 0, 11, 20, 36, 9, 1, 4, 169, 4690, 491, 14, 5,
+            2988, 58, 1, 833, 214, 0, 1855, 76, 1807, 1108, 19, 230, 28, 1, 3166, 1106, 434, 112, 2550, 229, 50, 914,
+            11, 0
+    };
+    /**
+     * The canonical numeral in each slot.
+     */
+    static final char[][] KEYS = new char[SIZE][];
+
+    private static final long PRIME = 0x100000001B3L;
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    private static final short[] VALUES = new short[SIZE];
+
+    static {
+        final char[] buffer = new char[SharedConstants.MAX_LENGTH];
+        for (int value = 1; value <= SIZE; value++) {
+            final char[] numeral = Arrays.copyOf(buffer, NumeralEncoder.encode(value, buffer, 0));
+            final int slot = slot(hash(SEED, numeral));
+            if (KEYS[slot] != null) {
+                throw new IllegalStateException(String.format("%s and %s share slot %d; the displacements are stale",
+                                                              String.valueOf(KEYS[slot]), String.valueOf(numeral),
+                                                              slot));
+            }
+            KEYS[slot] = numeral;
+            VALUES[slot] = (short) value;
+        }
+    }
+
+    /**
+     * Looks up the numeral in the given range of characters.
+     *
+     * @param romanValue The characters to look up
+     * @param from       The index of the first character (inclusive)
+     * @param to         The index of the last character (exclusive)
+     * @return The value, or {@link #MISS} if the characters are not exactly a canonical numeral
+     */
+    static long lookup(CharSequence romanValue, int from, int to) {
+
+        final int length = to - from;
+        if (length <= 0 || length > SharedConstants.MAX_LENGTH) {
+            return MISS;
+        }
+        long hash = SEED;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ romanValue.charAt(i)) * PRIME;
+        }
+        final int slot = slot(hash);
+        final char[] key = KEYS[slot];
+        if (key.length != length) {
+            return MISS;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != romanValue.charAt(from + i)) {
+                return MISS;
+            }
+        }
+        return VALUES[slot];
+    }
+
+    /**
+     * Looks up the numeral in the given range of ASCII bytes.
+     *
+     * @param romanValue The bytes to look up
+     * @param from       The index of the first byte (inclusive)
+     * @param to         The index of the last byte (exclusive)
+     * @return The value, or {@link #MISS} if the bytes are not exactly a canonical numeral
+     */
+    static long lookup(byte[] romanValue, int from, int to) {
+
+        final int length = to - from;
+        if (length <= 0 || length > SharedConstants.MAX_LENGTH) {
+            return MISS;
+        }
+        long hash = SEED;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ (romanValue[i] & 0xFF)) * PRIME;
+        }
+        final int slot = slot(hash);
+        final char[] key = KEYS[slot];
+        if (key.length != length) {
+            return MISS;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != (romanValue[from + i] & 0xFF)) {
+                return MISS;
+            }
+        }
+        return VALUES[slot];
+    }
+
+    /**
+     * Looks up the numeral in the remaining ASCII bytes of the given buffer, without changing its position.
+     *
+     * @param romanValue The buffer to look up
+     * @return The value, or {@link #MISS} if the bytes are not exactly a canonical numeral
+     */
+    static long lookup(ByteBuffer romanValue) {
+
+        if (romanValue.hasArray()) {
+            final int offset = romanValue.arrayOffset();
+            return lookup(romanValue.array(), offset + romanValue.position(), offset + romanValue.limit());
+        }
+        final int from = romanValue.position();
+        final int length = romanValue.limit() - from;
+        if (length <= 0 || length > SharedConstants.MAX_LENGTH) {
+            return MISS;
+        }
+        long hash = SEED;
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ (romanValue.get(from + i) & 0xFF)) * PRIME;
+        }
+        final int slot = slot(hash);
+        final char[] key = KEYS[slot];
+        if (key.length != length) {
+            return MISS;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != (romanValue.get(from + i) & 0xFF)) {
+                return MISS;
+            }
+        }
+        return VALUES[slot];
+    }
+
+    /**
+     * Hashes the characters of a numeral, the same way as the lookups.
+     */
+    static long hash(long seed, char[] numeral) {
+
+        long hash = seed;
+        for (char c : numeral) {
+            hash = (hash ^ c) * PRIME;
+        }
+        return hash;
+    }
+
+    private static int slot(long hash) {
+
+        return position(hash, DISPLACEMENTS[bucket(hash)]);
+    }
+
+    static int bucket(long hash) {
+
+        return (int) ((mix(hash) >>> 1) % BUCKETS);
+    }
+
+    static int position(long hash, int displacement) {
+
+        return (int) ((mix(hash + displacement * GOLDEN) >>> 1) % SIZE);
+    }
+
+    // The finalizer of MurmurHash3, to spread the bits of the string hash
+    private static long mix(long hash) {
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,140 @@
+package com.riversoforion.numeris;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+
+
+/**
+ * Collects the failures of a batch conversion, such as {@link IntegerToRoman#convertAll(long[], ConversionErrors)}.
+ * Rather than one exception per failed element, failures are recorded compactly: a bit set of the indices that failed,
+ * plus one {@linkplain RomanNumeralError#code() error code} per element.
+ * <p>
+ * An instance can be reused for any number of batches; each batch conversion clears the failures of the previous one.
+ * </p>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is <em>not</em> thread-safe.
+ * </p>
+ */
+public final class ConversionErrors {
+
+    private final BitSet failures = new BitSet();
+    private byte[] codes = new byte[0];
+
+    /**
+     * Prepares for a new batch of the given size, clearing any failures from a previous batch.
+     */
+    void reset(int size) {
+
+        if (this.codes.length != size) {
+            this.codes = new byte[size];
+        }
+        else {
+            for (int i = this.failures.nextSetBit(0); i >= 0; i = this.failures.nextSetBit(i + 1)) {
+                this.codes[i] = RomanNumeralError.NONE;
+            }
+        }
+        this.failures.clear();
+    }
+
+    /**
+     * Direct access to the error codes, so that converters can fill disjoint ranges concurrently. Must be followed by
+     * {@link #indexFailures(int)}.
+     */
+    byte[] codeArray() {
+
+        return this.codes;
+    }
+
+    /**
+     * Rebuilds the failed indices from the error codes, once they have all been filled.
+     *
+     * @param failureCount The number of failures; if none, the codes need not be scanned
+     */
+    void indexFailures(int failureCount) {
+
+        for (int i = 0; i < this.codes.length && failureCount > 0; i++) {
+            if (this.codes[i] != RomanNumeralError.NONE) {
+                this.failures.set(i);
+                failureCount--;
+            }
+        }
+    }
+
+    /**
+     * The number of elements in the last batch.
+     */
+    public int size() {
+
+        return this.codes.length;
+    }
+
+    /**
+     * Whether all elements in the last batch were converted successfully.
+     */
+    public boolean isEmpty() {
+
+        return this.failures.isEmpty();
+    }
+
+    /**
+     * The number of elements in the last batch that failed to convert.
+     */
+    public int count() {
+
+        return this.failures.cardinality();
+    }
+
+    /**
+     * Finds the next element that failed to convert, starting from the given index.
+     *
+     * @param fromIndex The index to start from (inclusive)
+     * @return The index of the next failed element, or {@code -1} if there are no more
+     */
+    public int nextFailure(int fromIndex) {
+
+        return this.failures.nextSetBit(fromIndex);
+    }
+
+    /**
+     * Retrieves the indices of all elements that failed to convert.
+     *
+     * @return A copy of the failed indices
+     */
+    public BitSet failures() {
+
+        return (BitSet) this.failures.clone();
+    }
+
+    /**
+     * Retrieves the error code for the given element.
+     *
+     * @param index The index of the element
+     * @return The error code, or {@link RomanNumeralError#NONE} if the element was converted successfully
+     */
+    public byte code(int index) {
+
+        return this.codes[index];
+    }
+
+    /**
+     * Retrieves the error codes for all elements.
+     *
+     * @return A copy of the error codes
+     */
+    public byte[] codes() {
+
+        return Arrays.copyOf(this.codes, this.codes.length);
+    }
+
+    /**
+     * Retrieves the error for the given element.
+     *
+     * @param index The index of the element
+     * @return The error, or empty if the element was converted successfully
+     */
+    public Optional<RomanNumeralError> error(int index) {
+
+        return RomanNumeralError.fromCode(this.codes[index]);
+    }
+}
@@ -0,0 +1,73 @@
+package com.riversoforion.numeris;
+
+/**
+ * Receives a notification for every conversion, e.g. to collect metrics. All methods do nothing by default, so an
+ * implementation only needs to override the ones it is interested in.
+ * <p>
+ * Listeners are called synchronously on the converting thread, so they must be thread-safe and cheap; see
+ * {@link ConversionMetrics} for a ready-made implementation. Unless a listener is installed (e.g. with
+ * {@link IntegerToRoman#IntegerToRoman(Notation, ConversionListener)}), the {@link #NONE no-op listener} is used, and
+ * conversions are not instrumented at all.
+ * </p>
+ */
+public interface ConversionListener {
+
+    /**
+     * The listener that ignores all conversions.
+     */
+    ConversionListener NONE = new ConversionListener() { };
+
+    /**
+     * The directions of conversion.
+     */
+    enum Direction {
+        /**
+         * Conversion from a numeric value to a Roman numeral.
+         */
+        TO_ROMAN,
+        /**
+         * Conversion from a Roman numeral to a numeric value.
+         */
+        TO_INTEGER
+    }
+
+    /**
+     * Whether conversions should be timed. If not, the elapsed time is always reported as {@code -1}.
+     */
+    default boolean timed() {
+
+        return false;
+    }
+
+    /**
+     * Called after a single value was converted.
+     *
+     * @param direction    The direction of the conversion
+     * @param elapsedNanos The time taken by the conversion, or {@code -1} if it was not timed
+     */
+    default void succeeded(Direction direction, long elapsedNanos) {
+
+    }
+
+    /**
+     * Called after a single value failed to convert.
+     *
+     * @param direction    The direction of the conversion
+     * @param error        The reason the conversion failed
+     * @param elapsedNanos The time taken by the conversion, or {@code -1} if it was not timed
+     */
+    default void failed(Direction direction, RomanNumeralError error, long elapsedNanos) {
+
+    }
+
+    /**
+     * Called after a batch of values was converted, instead of once per value.
+     *
+     * @param direction The direction of the conversion
+     * @param size      The number of values in the batch
+     * @param errors    The failures in the batch
+     */
+    default void batchCompleted(Direction direction, int size, ConversionErrors errors) {
+
+    }
+}
@@ -0,0 +1,188 @@
+package com.riversoforion.numeris;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A {@link ConversionListener} that counts conversions, and optionally records their latencies. All counters are
+ * {@link LongAdder}s, so recording from many threads at once does not contend on a single memory location.
+ * <pre>
+ * ConversionMetrics metrics = new ConversionMetrics(true);
+ * RomanToInteger rtoi = new RomanToInteger(Notation.STANDARD, metrics);
+ * ...
+ * long unparseable = metrics.failures(Direction.TO_INTEGER, RomanNumeralError.UNPARSEABLE);
+ * </pre>
+ * <p>
+ * Latencies are recorded in a histogram with power-of-two buckets: bucket {@code i} counts the conversions that took
+ * from 2<sup>i</sup> to 2<sup>i+1</sup> nanoseconds (with bucket 0 also counting those that took no measurable time).
+ * Batch conversions are counted, but not timed.
+ * </p>
+ */
+public final class ConversionMetrics implements ConversionListener {
+
+    /**
+     * The number of buckets in a latency histogram.
+     */
+    public static final int LATENCY_BUCKETS = Long.SIZE;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final RomanNumeralError[] ERRORS = RomanNumeralError.values();
+
+    private final boolean recordLatency;
+    private final LongAdder[] successes = adders(DIRECTIONS.length);
+    private final LongAdder[][] failures = new LongAdder[DIRECTIONS.length][];
+    private final LongAdder[][] latencies = new LongAdder[DIRECTIONS.length][];
+
+    /**
+     * Creates metrics that only count conversions.
+     */
+    public ConversionMetrics() {
+
+        this(false);
+    }
+
+    /**
+     * Creates metrics that count conversions, and optionally record their latencies.
+     *
+     * @param recordLatency Whether to time conversions and record their latencies
+     */
+    public ConversionMetrics(boolean recordLatency) {
+
+        this.recordLatency = recordLatency;
+        for (Direction direction : DIRECTIONS) {
+            this.failures[direction.ordinal()] = adders(ERRORS.length + 1);
+            this.latencies[direction.ordinal()] = adders(recordLatency ? LATENCY_BUCKETS : 0);
+        }
+    }
+
+    @Override
+    public boolean timed() {
+
+        return this.recordLatency;
+    }
+
+    @Override
+    public void succeeded(Direction direction, long elapsedNanos) {
+
+        this.successes[direction.ordinal()].increment();
+        recordLatency(direction, elapsedNanos);
+    }
+
+    @Override
+    public void failed(Direction direction, RomanNumeralError error, long elapsedNanos) {
+
+        this.failures[direction.ordinal()][error.code()].increment();
+        recordLatency(direction, elapsedNanos);
+    }
+
+    @Override
+    public void batchCompleted(Direction direction, int size, ConversionErrors errors) {
+
+        this.successes[direction.ordinal()].add((long) size - errors.count());
+        for (int i = errors.nextFailure(0); i >= 0; i = errors.nextFailure(i + 1)) {
+            this.failures[direction.ordinal()][errors.code(i)].increment();
+        }
+    }
+
+    /**
+     * Retrieves the number of successful conversions.
+     *
+     * @param direction The direction of the conversions
+     * @return The number of values converted successfully
+     */
+    public long successes(Direction direction) {
+
+        return this.successes[direction.ordinal()].sum();
+    }
+
+    /**
+     * Retrieves the number of failed conversions, for any reason.
+     *
+     * @param direction The direction of the conversions
+     * @return The number of values that failed to convert
+     */
+    public long failures(Direction direction) {
+
+        long total = 0;
+        for (LongAdder failure : this.failures[direction.ordinal()]) {
+            total += failure.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the number of conversions that failed for the given reason.
+     *
+     * @param direction The direction of the conversions
+     * @param error     The reason for the failures
+     * @return The number of values that failed to convert for that reason
+     */
+    public long failures(Direction direction, RomanNumeralError error) {
+
+        return this.failures[direction.ordinal()][error.code()].sum();
+    }
+
+    /**
+     * Retrieves a snapshot of the latency histogram.
+     *
+     * @param direction The direction of the conversions
+     * @return The count in each of the {@link #LATENCY_BUCKETS} buckets, or an empty array if latencies are not
+     *         recorded
+     */
+    public long[] latencyHistogram(Direction direction) {
+
+        final LongAdder[] buckets = this.latencies[direction.ordinal()];
+        final long[] histogram = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            histogram[i] = buckets[i].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Resets all counters to zero. Conversions that happen concurrently may or may not be counted.
+     */
+    public void reset() {
+
+        for (Direction direction : DIRECTIONS) {
+            this.successes[direction.ordinal()].reset();
+            for (LongAdder adder : this.failures[direction.ordinal()]) {
+                adder.reset();
+            }
+            for (LongAdder adder : this.latencies[direction.ordinal()]) {
+                adder.reset();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        final StringBuilder builder = new StringBuilder("ConversionMetrics(");
+        for (Direction direction : DIRECTIONS) {
+            builder.append(direction).append(": successes=").append(successes(direction));
+            for (RomanNumeralError error : ERRORS) {
+                builder.append(", ").append(error).append('=').append(failures(direction, error));
+            }
+            builder.append(direction.ordinal() < DIRECTIONS.length - 1 ? "; " : ")");
+        }
+        return builder.toString();
+    }
+
+    private void recordLatency(Direction direction, long elapsedNanos) {
+
+        if (this.recordLatency && elapsedNanos >= 0) {
+            final int bucket = elapsedNanos == 0 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(elapsedNanos);
+            this.latencies[direction.ordinal()][bucket].increment();
+        }
+    }
+
+    private static LongAdder[] adders(int count) {
+
+        final LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
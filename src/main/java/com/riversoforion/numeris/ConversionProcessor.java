@@ -0,0 +1,380 @@
+package com.riversoforion.numeris;
+
+import com.diffplug.common.base.Either;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+
+/**
+ * A {@link Flow.Processor} that converts each element with {@link IntegerToRoman} or {@link RomanToInteger}, for
+ * reactive pipelines, without any dependency beyond {@code java.util.concurrent.Flow}.
+ * <p>
+ * Failures are either delivered inline, as typed results (see {@link #ofResults}), or routed to a separate failure
+ * channel, so that only successfully converted values are published (see {@link #ofValues}):
+ * </p>
+ * <pre>
+ * SubmissionPublisher&lt;String&gt; numerals = new SubmissionPublisher&lt;&gt;();
+ * ConversionProcessor&lt;String, Long&gt; decoder =
+ *         ConversionProcessor.ofValues(new RomanToInteger(), failures::add, executor, 256);
+ * numerals.subscribe(decoder);
+ * decoder.subscribe(subscriber);
+ * </pre>
+ * <p>
+ * Backpressure is respected in both directions: elements are only published as the subscriber requests them, and at
+ * most two batches of elements are buffered (one awaiting conversion, and one awaiting publication). Demand is
+ * signalled upstream in batches, and elements are converted in chunks of up to a batch, each as a single task on the
+ * processor's {@link Executor} (by default the common {@code ForkJoinPool}; any executor will do, including one with
+ * virtual threads). All signals to the subscriber are serialized, but may arrive on different threads of the
+ * executor.
+ * </p>
+ * <p>
+ * Each processor accepts one upstream subscription and one subscriber. If the converter, the failure channel or the
+ * subscriber throws, or the executor rejects a task, the upstream subscription is cancelled and the subscriber
+ * receives {@code onError}; errors from upstream are passed on the same way, without waiting for the elements
+ * already buffered.
+ * </p>
+ *
+ * @param <T> The type of the elements to convert
+ * @param <R> The type of the published elements
+ */
+public final class ConversionProcessor<T, R> implements Flow.Processor<T, R> {
+
+    /**
+     * The default batch size, which is also the default buffer size of a {@code SubmissionPublisher}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = Flow.defaultBufferSize();
+
+    private static final Flow.Subscription NO_SUBSCRIPTION = new Flow.Subscription() {
+
+        @Override
+        public void request(long n) {
+
+        }
+
+        @Override
+        public void cancel() {
+
+        }
+    };
+
+    private final Function<? super T, ? extends R> step;
+    private final Executor executor;
+    private final int batchSize;
+    // Demand is replenished once this many elements of the previous batch have been consumed
+    private final int replenishment;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscriber<? super R>> downstream = new AtomicReference<>();
+    // Only set once the subscriber has received its subscription, so that nothing is signalled to it before that
+    private volatile Flow.Subscriber<? super R> subscriber;
+    private final Queue<T> inputs = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requested = new AtomicLong();
+    // Serializes the drain loop: only the caller that raises it from 0 runs (or schedules) the loop
+    private final AtomicInteger work = new AtomicInteger();
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+
+    // Only accessed by the drain loop
+    private final Queue<R> outputs = new ArrayDeque<>();
+    private int consumed;
+
+    private ConversionProcessor(Function<? super T, ? extends R> step, Executor executor, int batchSize) {
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        this.step = step;
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.batchSize = batchSize;
+        this.replenishment = batchSize - (batchSize >> 2);
+    }
+
+    /**
+     * Creates a processor that publishes the result of every conversion, whether it succeeded or failed.
+     *
+     * @param converter The converter, e.g. {@code new IntegerToRoman()} or {@code new RomanToInteger()}
+     * @param <T>       The type of the elements to convert
+     * @param <V>       The type of the converted values
+     * @return A processor on the common {@code ForkJoinPool}, with the {@link #DEFAULT_BATCH_SIZE default batch size}
+     */
+    public static <T, V> ConversionProcessor<T, Either<V, RomanNumeralException>> ofResults(
+            Function<? super T, Either<V, RomanNumeralException>> converter) {
+
+        return ofResults(converter, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a processor that publishes the result of every conversion, whether it succeeded or failed.
+     *
+     * @param converter The converter, e.g. {@code new IntegerToRoman()} or {@code new RomanToInteger()}
+     * @param executor  The executor to convert on, and to signal the subscriber from
+     * @param batchSize The number of elements to request from upstream at a time, and to convert in one task
+     * @param <T>       The type of the elements to convert
+     * @param <V>       The type of the converted values
+     * @return A processor
+     */
+    public static <T, V> ConversionProcessor<T, Either<V, RomanNumeralException>> ofResults(
+            Function<? super T, Either<V, RomanNumeralException>> converter, Executor executor, int batchSize) {
+
+        Objects.requireNonNull(converter, "converter");
+        return new ConversionProcessor<>(converter, executor, batchSize);
+    }
+
+    /**
+     * Creates a processor that publishes the converted values, and routes failures to a separate channel.
+     *
+     * @param converter The converter, e.g. {@code new IntegerToRoman()} or {@code new RomanToInteger()}
+     * @param failures  Receives the failures, in order, on the same threads as the subscriber (e.g.
+     *                  {@code SubmissionPublisher::submit}, to publish them in turn)
+     * @param <T>       The type of the elements to convert
+     * @param <V>       The type of the converted values
+     * @return A processor on the common {@code ForkJoinPool}, with the {@link #DEFAULT_BATCH_SIZE default batch size}
+     */
+    public static <T, V> ConversionProcessor<T, V> ofValues(
+            Function<? super T, Either<V, RomanNumeralException>> converter,
+            Consumer<? super RomanNumeralException> failures) {
+
+        return ofValues(converter, failures, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a processor that publishes the converted values, and routes failures to a separate channel.
+     *
+     * @param converter The converter, e.g. {@code new IntegerToRoman()} or {@code new RomanToInteger()}
+     * @param failures  Receives the failures, in order, on the same threads as the subscriber (e.g.
+     *                  {@code SubmissionPublisher::submit}, to publish them in turn)
+     * @param executor  The executor to convert on, and to signal the subscriber from
+     * @param batchSize The number of elements to request from upstream at a time, and to convert in one task
+     * @param <T>       The type of the elements to convert
+     * @param <V>       The type of the converted values
+     * @return A processor
+     */
+    public static <T, V> ConversionProcessor<T, V> ofValues(
+            Function<? super T, Either<V, RomanNumeralException>> converter,
+            Consumer<? super RomanNumeralException> failures,
+            Executor executor,
+            int batchSize) {
+
+        Objects.requireNonNull(converter, "converter");
+        Objects.requireNonNull(failures, "failures");
+        // A null step result means "nothing to publish", since Flow elements are never null
+        return new ConversionProcessor<T, V>(element -> {
+            final Either<V, RomanNumeralException> result = converter.apply(element);
+            if (result.isLeft()) {
+                return result.getLeft();
+            }
+            failures.accept(result.getRight());
+            return null;
+        }, executor, batchSize);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!this.downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(NO_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException("A conversion processor only supports one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription());
+        this.subscriber = subscriber;
+        schedule();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+
+        Objects.requireNonNull(subscription, "subscription");
+        if (!this.upstream.compareAndSet(null, subscription) || this.cancelled) {
+            subscription.cancel();
+            return;
+        }
+        subscription.request(this.batchSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+
+        Objects.requireNonNull(item, "item");
+        if (!this.done && !this.cancelled) {
+            this.inputs.offer(item);
+            schedule();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+
+        Objects.requireNonNull(throwable, "throwable");
+        if (!this.done) {
+            this.error = throwable;
+            this.done = true;
+            schedule();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+
+        this.done = true;
+        schedule();
+    }
+
+    private void schedule() {
+
+        if (this.work.getAndIncrement() == 0) {
+            try {
+                this.executor.execute(this::drain);
+            }
+            catch (RejectedExecutionException e) {
+                // Nothing can be converted, so just report the failure from this thread, now or once subscribed
+                if (this.error == null) {
+                    this.error = e;
+                }
+                cancelUpstream();
+                drain();
+            }
+        }
+    }
+
+    private void drain() {
+
+        int missed = 1;
+        do {
+            final Flow.Subscriber<? super R> subscriber = this.subscriber;
+            if (subscriber != null && !drain(subscriber)) {
+                // Terminated, so leave the work counter raised, and never run again
+                return;
+            }
+            missed = this.work.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    // Publishes as many elements as have been requested; returns false once the subscriber has been terminated
+    private boolean drain(Flow.Subscriber<? super R> subscriber) {
+
+        final long demand = this.requested.get();
+        long emitted = 0;
+        try {
+            while (true) {
+                if (this.cancelled) {
+                    clear();
+                    return false;
+                }
+                final Throwable failure = this.error;
+                if (failure != null) {
+                    clear();
+                    this.cancelled = true;
+                    subscriber.onError(failure);
+                    return false;
+                }
+                final boolean finished = this.done;
+                if (this.outputs.isEmpty()) {
+                    if (emitted != demand && !this.inputs.isEmpty()) {
+                        convertChunk();
+                        continue;
+                    }
+                    if (finished && this.inputs.isEmpty()) {
+                        this.cancelled = true;
+                        subscriber.onComplete();
+                        return false;
+                    }
+                    break;
+                }
+                if (emitted == demand) {
+                    break;
+                }
+                subscriber.onNext(this.outputs.poll());
+                emitted++;
+            }
+        }
+        catch (RuntimeException e) {
+            fail();
+            subscriber.onError(e);
+            return false;
+        }
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+            this.requested.addAndGet(-emitted);
+        }
+        return true;
+    }
+
+    private void convertChunk() {
+
+        T input;
+        for (int i = 0; i < this.batchSize && (input = this.inputs.poll()) != null; i++) {
+            final R output = this.step.apply(input);
+            if (output != null) {
+                this.outputs.add(output);
+            }
+            if (++this.consumed == this.replenishment) {
+                this.consumed = 0;
+                this.upstream.get().request(this.replenishment);
+            }
+        }
+    }
+
+    private void fail() {
+
+        this.cancelled = true;
+        cancelUpstream();
+        clear();
+    }
+
+    private void cancelUpstream() {
+
+        final Flow.Subscription subscription = this.upstream.getAndSet(NO_SUBSCRIPTION);
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void clear() {
+
+        this.inputs.clear();
+        this.outputs.clear();
+    }
+
+    /**
+     * The subscription given to the subscriber.
+     */
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+
+            if (n <= 0) {
+                cancelUpstream();
+                error = new IllegalArgumentException("The number of elements requested must be positive: " + n);
+            }
+            else {
+                requested.getAndAccumulate(n, (current, more) -> current + more < 0 ? Long.MAX_VALUE : current + more);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+
+            if (!cancelled) {
+                cancelled = true;
+                cancelUpstream();
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.riversoforion.numeris;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+
+/**
+ * Validates and decodes buffers of delimited ASCII Roman numerals in bulk, such as one numeral per line, or one per
+ * field of a comma-separated record. Buffers are never copied or decoded into strings, so this is suited to large
+ * (e.g. memory-mapped) inputs.
+ * <ul>
+ *     <li>{@code validate} rejects a whole buffer up front, if it has any byte that is not a Roman numeral symbol
+ *     (in either case), whitespace, or the delimiter</li>
+ *     <li>{@code decode} splits a buffer into fields at the delimiters, and decodes each field in place, as in
+ *     {@link RomanToInteger#tryConvert(byte[], int, int)} for the {@link Notation#STANDARD standard notation}</li>
+ * </ul>
+ * <pre>
+ * DelimitedNumerals lines = new DelimitedNumerals((byte) '\n');
+ * long[] total = new long[1];
+ * if (lines.validate(buffer) &lt; 0) {
+ *     lines.decode(buffer, (from, to, status) -&gt; {
+ *         if (!RomanNumeralError.isFailure(status)) {
+ *             total[0] += status;
+ *         }
+ *     });
+ * }
+ * </pre>
+ * <p>
+ * When the JVM is started with {@code --add-modules jdk.incubator.vector} on a platform with SIMD support, bytes are
+ * classified and delimiters found a whole vector at a time, using the (incubating) Vector API; otherwise, or if the
+ * module is not present, a scalar implementation with the same results is used. See {@link #vectorized()}.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ */
+public final class DelimitedNumerals {
+
+    private static final boolean VECTORIZED = vectorSupported();
+
+    /**
+     * The byte that separates fields.
+     */
+    @Getter
+    private final byte delimiter;
+    private final ByteClassifier classifier;
+
+    /**
+     * Creates a validator and decoder for the given delimiter.
+     *
+     * @param delimiter The byte that separates fields, e.g. {@code '\n'} or {@code ','}. Must not be a Roman numeral
+     *                  symbol.
+     */
+    public DelimitedNumerals(byte delimiter) {
+
+        this(delimiter, VECTORIZED);
+    }
+
+    DelimitedNumerals(byte delimiter, boolean vectorized) {
+
+        if (NumeralParser.symbolClass((char) (delimiter & 0xFF)) != 0) {
+            throw new IllegalArgumentException("The delimiter must not be a Roman numeral symbol");
+        }
+        this.delimiter = delimiter;
+        this.classifier = vectorized && VECTORIZED
+                          ? new VectorByteClassifier(delimiter)
+                          : new ScalarByteClassifier(delimiter);
+    }
+
+    /**
+     * Determines whether buffers are processed with the Vector API, rather than one byte at a time.
+     *
+     * @return {@code true} if the {@code jdk.incubator.vector} module is present and the platform supports it
+     */
+    public static boolean vectorized() {
+
+        return VECTORIZED;
+    }
+
+    /**
+     * Finds the first invalid byte in the given range.
+     *
+     * @param input The bytes to validate
+     * @param from  The index of the first byte (inclusive)
+     * @param to    The index of the last byte (exclusive)
+     * @return The index of the first invalid byte, or {@code -1} if they are all valid
+     */
+    public int validate(byte[] input, int from, int to) {
+
+        Objects.checkFromToIndex(from, to, input.length);
+        final int invalid = this.classifier.firstInvalid(input, from, to);
+        return invalid == to ? -1 : invalid;
+    }
+
+    /**
+     * Finds the first invalid byte in the remaining bytes of the given buffer, without changing its position.
+     *
+     * @param input The bytes to validate
+     * @return The index of the first invalid byte relative to the buffer's position, or {@code -1} if they are all
+     *         valid
+     */
+    public int validate(ByteBuffer input) {
+
+        final int from = input.position();
+        if (input.hasArray()) {
+            final int offset = input.arrayOffset();
+            final int invalid = validate(input.array(), offset + from, offset + input.limit());
+            return invalid < 0 ? -1 : invalid - offset - from;
+        }
+        final int invalid = this.classifier.firstInvalid(input, from, input.limit());
+        return invalid == input.limit() ? -1 : invalid - from;
+    }
+
+    /**
+     * Decodes every field in the given range. Each field ends at a delimiter, or at the end of the range; a delimiter
+     * at the very end of the range does not start another field.
+     *
+     * @param input    The bytes to decode
+     * @param from     The index of the first byte (inclusive)
+     * @param to       The index of the last byte (exclusive)
+     * @param consumer Receives each field, in order
+     * @return The number of fields
+     */
+    public int decode(byte[] input, int from, int to, FieldConsumer consumer) {
+
+        Objects.checkFromToIndex(from, to, input.length);
+        Objects.requireNonNull(consumer, "consumer");
+        int fields = 0;
+        int fieldStart = from;
+        while (fieldStart < to) {
+            final int fieldEnd = this.classifier.nextDelimiter(input, fieldStart, to);
+            consumer.accept(fieldStart, fieldEnd,
+                            ExtendedNumerals.parse(Notation.STANDARD, input, fieldStart, fieldEnd));
+            fields++;
+            fieldStart = fieldEnd + 1;
+        }
+        return fields;
+    }
+
+    /**
+     * Decodes every field in the remaining bytes of the given buffer, without changing its position. Each field ends
+     * at a delimiter, or at the buffer's limit; a delimiter just before the limit does not start another field.
+     *
+     * @param input    The bytes to decode
+     * @param consumer Receives each field, in order, with indices relative to the buffer's position
+     * @return The number of fields
+     */
+    public int decode(ByteBuffer input, FieldConsumer consumer) {
+
+        Objects.requireNonNull(consumer, "consumer");
+        final int origin = input.position();
+        if (input.hasArray()) {
+            final int offset = input.arrayOffset() + origin;
+            return decode(input.array(), offset, input.arrayOffset() + input.limit(),
+                          (from, to, status) -> consumer.accept(from - offset, to - offset, status));
+        }
+        final ByteBuffer field = input.duplicate();
+        final int limit = input.limit();
+        int fields = 0;
+        int fieldStart = origin;
+        while (fieldStart < limit) {
+            final int fieldEnd = this.classifier.nextDelimiter(input, fieldStart, limit);
+            field.limit(fieldEnd).position(fieldStart);
+            consumer.accept(fieldStart - origin, fieldEnd - origin, ExtendedNumerals.parse(Notation.STANDARD, field));
+            fields++;
+            fieldStart = fieldEnd + 1;
+        }
+        return fields;
+    }
+
+    // The vector classifier is only loaded if its module is present, since loading it would otherwise fail
+    private static boolean vectorSupported() {
+
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorByteClassifier.supported();
+        }
+        catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Receives the fields found by a decode, as primitives, so that decoding allocates nothing per field.
+     */
+    @FunctionalInterface
+    public interface FieldConsumer {
+
+        /**
+         * Accepts a field.
+         *
+         * @param from   The index of the field's first byte
+         * @param to     The index just after the field's last byte (i.e. of the delimiter, if there is one)
+         * @param status The numeric value of the field, or a negative failure status (see {@link RomanNumeralError})
+         */
+        void accept(int from, int to, long status);
+    }
+}
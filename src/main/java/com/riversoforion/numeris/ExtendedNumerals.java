@@ -0,0 +1,360 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Encoder and parser for all {@link Notation notations}. The standard notation is delegated to
+ * {@link NumeralEncoder} and {@link NumeralParser}, with canonical numerals decoded by a {@link CanonicalNumerals
+ * table lookup} rather than parsed; the extended notations are handled one thousands-group at a time,
+ * using the same tables and grammar for each group, so the cost grows with the number of groups rather than with the
+ * value.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ExtendedNumerals {
+
+    static final char OVERLINE = '\u0305';
+
+    private static final int GROUP_SIZE = 1000;
+    // The highest power of 1,000 that fits in a long
+    private static final int MAX_LEVEL = 6;
+    private static final long[] POWERS = new long[MAX_LEVEL + 1];
+
+    static {
+        POWERS[0] = 1;
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            POWERS[level] = POWERS[level - 1] * GROUP_SIZE;
+        }
+    }
+
+    /**
+     * Encodes the given value into the buffer.
+     *
+     * @param notation     The notation to use
+     * @param numericValue The value to encode. Must be between {@link SharedConstants#MIN_VALUE} and the
+     *                     notation's {@link Notation#maxValue() maximum}.
+     * @param buffer       The buffer to write to. Must have at least {@link #length(Notation, long)} characters
+     *                     available after the offset.
+     * @param offset       The index to start writing at
+     * @return The number of characters written
+     */
+    static int encode(Notation notation, long numericValue, char[] buffer, int offset) {
+
+        if (notation == Notation.STANDARD) {
+            return NumeralEncoder.encode((int) numericValue, buffer, offset);
+        }
+        int position = offset;
+        final int top = topLevel(numericValue);
+        for (int level = top; level >= 0; level--) {
+            final int group = group(numericValue, level, top);
+            if (group < 0) {
+                continue;
+            }
+            if (notation == Notation.VINCULUM) {
+                // Encode the plain symbols, then spread them out from the end to make room for the overlines
+                final int symbols = NumeralEncoder.encode(group, buffer, position);
+                for (int i = symbols - 1; i >= 0; i--) {
+                    final int target = position + i * (level + 1);
+                    buffer[target] = buffer[position + i];
+                    for (int mark = 1; mark <= level; mark++) {
+                        buffer[target + mark] = OVERLINE;
+                    }
+                }
+                position += symbols * (level + 1);
+            }
+            else {
+                for (int i = 0; i < level; i++) {
+                    buffer[position++] = '(';
+                }
+                position += NumeralEncoder.encode(group, buffer, position);
+                for (int i = 0; i < level; i++) {
+                    buffer[position++] = ')';
+                }
+            }
+        }
+        return position - offset;
+    }
+
+    /**
+     * Encodes the given value as a string.
+     *
+     * @param notation     The notation to use
+     * @param numericValue The value to encode. Must be in the notation's range.
+     * @return The numeral
+     */
+    static String encode(Notation notation, long numericValue) {
+
+        final char[] buffer = new char[length(notation, numericValue)];
+        return new String(buffer, 0, encode(notation, numericValue, buffer, 0));
+    }
+
+    /**
+     * Calculates the length of the numeral for the given value, without encoding it.
+     *
+     * @param notation     The notation to use
+     * @param numericValue The value. Must be in the notation's range.
+     * @return The number of characters in the numeral
+     */
+    static int length(Notation notation, long numericValue) {
+
+        if (notation == Notation.STANDARD) {
+            return NumeralEncoder.length((int) numericValue);
+        }
+        int length = 0;
+        final int top = topLevel(numericValue);
+        for (int level = top; level >= 0; level--) {
+            final int group = group(numericValue, level, top);
+            if (group > 0) {
+                final int symbols = NumeralEncoder.length(group);
+                length += notation == Notation.VINCULUM ? symbols * (level + 1) : symbols + 2 * level;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Parses the given numeral.
+     *
+     * @param notation   The notation to accept
+     * @param romanValue The numeral to parse. May be {@code null}.
+     * @return The numeric value, or a negative value to indicate failure (see {@link NumeralParser})
+     */
+    static long parse(Notation notation, CharSequence romanValue) {
+
+        return romanValue == null ? NumeralParser.EMPTY : parse(notation, romanValue, 0, romanValue.length());
+    }
+
+    /**
+     * Parses the numeral in the given range of characters.
+     *
+     * @param notation   The notation to accept
+     * @param romanValue The characters to parse
+     * @param from       The index of the first character (inclusive)
+     * @param to         The index of the last character (exclusive)
+     * @return The numeric value, or a negative value to indicate failure (see {@link NumeralParser})
+     */
+    static long parse(Notation notation, CharSequence romanValue, int from, int to) {
+
+        if (notation == Notation.STANDARD) {
+            final long value = CanonicalNumerals.lookup(romanValue, from, to);
+            return value != CanonicalNumerals.MISS ? value : NumeralParser.parse(romanValue, from, to);
+        }
+        final int origin = from;
+        while (from < to && romanValue.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && romanValue.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return NumeralParser.EMPTY;
+        }
+        return notation == Notation.VINCULUM
+               ? parseVinculum(romanValue, from, to, origin)
+               : parseParentheses(romanValue, from, to, origin);
+    }
+
+    /**
+     * Parses the numeral in the given range of ASCII bytes.
+     *
+     * @param notation   The notation to accept
+     * @param romanValue The bytes to parse
+     * @param from       The index of the first byte (inclusive)
+     * @param to         The index of the last byte (exclusive)
+     * @return The numeric value, or a negative value to indicate failure
+     */
+    static long parse(Notation notation, byte[] romanValue, int from, int to) {
+
+        if (notation == Notation.STANDARD) {
+            final long value = CanonicalNumerals.lookup(romanValue, from, to);
+            return value != CanonicalNumerals.MISS ? value : NumeralParser.parse(romanValue, from, to);
+        }
+        return parse(notation, new AsciiSequence(romanValue, from, to), 0, to - from);
+    }
+
+    /**
+     * Parses the numeral in the remaining ASCII bytes of the given buffer, without changing its position.
+     *
+     * @param notation   The notation to accept
+     * @param romanValue The buffer to parse
+     * @return The numeric value, or a negative value to indicate failure
+     */
+    static long parse(Notation notation, ByteBuffer romanValue) {
+
+        if (notation == Notation.STANDARD) {
+            final long value = CanonicalNumerals.lookup(romanValue);
+            return value != CanonicalNumerals.MISS ? value : NumeralParser.parse(romanValue);
+        }
+        if (romanValue.hasArray()) {
+            final int offset = romanValue.arrayOffset();
+            return parse(notation, romanValue.array(), offset + romanValue.position(), offset + romanValue.limit());
+        }
+        final byte[] bytes = new byte[romanValue.remaining()];
+        romanValue.get(romanValue.position(), bytes);
+        return parse(notation, bytes, 0, bytes.length);
+    }
+
+    private static long parseVinculum(CharSequence romanValue, int from, int to, int origin) {
+
+        long total = 0;
+        long progress = NumeralParser.INITIAL;
+        int level = MAX_LEVEL + 1;
+        int groupStart = from;
+        int i = from;
+        while (i < to) {
+            final int symbolClass = NumeralParser.symbolClass(romanValue.charAt(i));
+            if (symbolClass == 0) {
+                return NumeralParser.unparseable(i - origin);
+            }
+            int next = i + 1;
+            while (next < to && romanValue.charAt(next) == OVERLINE) {
+                next++;
+            }
+            final int marks = next - i - 1;
+            if (marks > MAX_LEVEL) {
+                return NumeralParser.unparseable(i - origin);
+            }
+            if (marks != level) {
+                // Groups must appear in descending order of level
+                if (marks > level) {
+                    return NumeralParser.unparseable(i - origin);
+                }
+                if (i > from) {
+                    total = addGroup(total, progress, level);
+                    if (total < 0) {
+                        return NumeralParser.unparseable(groupStart - origin);
+                    }
+                }
+                level = marks;
+                groupStart = i;
+                progress = NumeralParser.INITIAL;
+            }
+            progress = NumeralParser.advance(progress, symbolClass);
+            if (progress == NumeralParser.REJECTED) {
+                return NumeralParser.unparseable(i - origin);
+            }
+            i = next;
+        }
+        total = addGroup(total, progress, level);
+        return total < 0 ? NumeralParser.unparseable(to - origin) : total;
+    }
+
+    private static long parseParentheses(CharSequence romanValue, int from, int to, int origin) {
+
+        long total = 0;
+        int previousLevel = MAX_LEVEL + 1;
+        int i = from;
+        while (i < to) {
+            final int groupStart = i;
+            while (i < to && romanValue.charAt(i) == '(') {
+                i++;
+            }
+            final int level = i - groupStart;
+            // Groups must appear in descending order of level
+            if (level >= previousLevel || level > MAX_LEVEL) {
+                return NumeralParser.unparseable(groupStart - origin);
+            }
+            long progress = NumeralParser.INITIAL;
+            final int symbolsStart = i;
+            int symbolClass;
+            while (i < to && (symbolClass = NumeralParser.symbolClass(romanValue.charAt(i))) != 0) {
+                progress = NumeralParser.advance(progress, symbolClass);
+                if (progress == NumeralParser.REJECTED) {
+                    return NumeralParser.unparseable(i - origin);
+                }
+                i++;
+            }
+            if (i == symbolsStart) {
+                return NumeralParser.unparseable(i - origin);
+            }
+            total = addGroup(total, progress, level);
+            if (total < 0) {
+                return NumeralParser.unparseable(i - origin);
+            }
+            for (int close = 0; close < level; close++, i++) {
+                if (i == to || romanValue.charAt(i) != ')') {
+                    return NumeralParser.unparseable(i - origin);
+                }
+            }
+            previousLevel = level;
+        }
+        return total;
+    }
+
+    // Adds a completed group to the total; returns -1 if the group is incomplete or the total would overflow
+    private static long addGroup(long total, long progress, int level) {
+
+        final long group = NumeralParser.finish(progress, 0);
+        if (group < 0 || group > (Long.MAX_VALUE - total) / POWERS[level]) {
+            return -1;
+        }
+        return total + group * POWERS[level];
+    }
+
+    private static int topLevel(long numericValue) {
+
+        int level = 0;
+        while (level < MAX_LEVEL && numericValue >= POWERS[level + 1]) {
+            level++;
+        }
+        return level;
+    }
+
+    // The value of the group to write at the given level, or -1 if nothing is written at that level (because the group
+    // is zero, or because the top group is folded into the one below it)
+    private static int group(long numericValue, int level, int top) {
+
+        if (level == top && level > 0 && numericValue / POWERS[level] < 4) {
+            return -1;
+        }
+        final long group = level == top - 1 && numericValue / POWERS[top] < 4
+                           ? numericValue / POWERS[level]
+                           : numericValue / POWERS[level] % GROUP_SIZE;
+        return group == 0 ? -1 : (int) group;
+    }
+
+    /**
+     * A view of a range of ASCII bytes as characters, for the extended parsers.
+     */
+    private static final class AsciiSequence implements CharSequence {
+
+        private final byte[] bytes;
+        private final int from;
+        private final int to;
+
+        private AsciiSequence(byte[] bytes, int from, int to) {
+
+            this.bytes = bytes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int length() {
+
+            return this.to - this.from;
+        }
+
+        @Override
+        public char charAt(int index) {
+
+            return (char) (this.bytes[this.from + index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+
+            return new AsciiSequence(this.bytes, this.from + start, this.from + end);
+        }
+
+        @Override
+        public String toString() {
+
+            return new String(this.bytes, this.from, this.to - this.from, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Helpers for reporting conversions to a {@link ConversionListener}. Callers check for
+ * {@link ConversionListener#NONE} themselves, so that uninstrumented conversions skip these calls entirely.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class Instrumentation {
+
+    /**
+     * Starts timing a conversion, if the listener wants it to be timed.
+     *
+     * @param listener The listener
+     * @return The start time, to pass to {@link #record}
+     */
+    static long start(ConversionListener listener) {
+
+        return listener != ConversionListener.NONE && listener.timed() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Reports a single conversion.
+     *
+     * @param listener  The listener
+     * @param direction The direction of the conversion
+     * @param status    The result of the conversion: non-negative on success, or a failure status
+     * @param start     The start time returned by {@link #start}
+     */
+    static void record(ConversionListener listener, ConversionListener.Direction direction, long status, long start) {
+
+        final long elapsed = listener.timed() ? System.nanoTime() - start : -1L;
+        if (status >= 0) {
+            listener.succeeded(direction, elapsed);
+        }
+        else {
+            listener.failed(direction, RomanNumeralError.errorOf(status), elapsed);
+        }
+    }
+}
@@ -2,14 +2,13 @@ package com.riversoforion.numeris;
 
 import com.diffplug.common.base.Either;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.util.Objects;
 import java.util.OptionalLong;
 import java.util.function.Function;
 import java.util.function.LongFunction;
-import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
-import static com.riversoforion.numeris.SharedConstants.MAX_VALUE;
 import static com.riversoforion.numeris.SharedConstants.MIN_VALUE;
 
 
@@ -23,10 +22,18 @@ import static com.riversoforion.numeris.SharedConstants.MIN_VALUE;
  * <ul>
  *     <li>Must not be {@code null}</li>
  *     <li>Must not be less than {@link com.riversoforion.numeris.RomanNumeral#MIN_VALUE}</li>
- *     <li>Must not be greater than {@link com.riversoforion.numeris.RomanNumeral#MAX_VALUE}</li>
+ *     <li>Must not be greater than {@link com.riversoforion.numeris.RomanNumeral#MAX_VALUE}, or the
+ *     {@link Notation#maxValue() maximum} of the converter's notation</li>
  * </ul>
  * <p>
- * <em><strong>NOTE:</strong></em> This class is stateless and thread-safe.
+ * By default, numerals are written in the {@link Notation#STANDARD standard notation}. Larger values can be converted
+ * by opting in to one of the extended notations:
+ * </p>
+ * <pre>
+ * String romanNumeral = new IntegerToRoman(Notation.PARENTHESES).convert(4_600); // (IV)DC
+ * </pre>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is immutable and thread-safe.
  * </p>
  *
  * <h2>Functional Usage</h2>
@@ -53,12 +60,63 @@ import static com.riversoforion.numeris.SharedConstants.MIN_VALUE;
  *     // handle it
  * }
  * </pre>
+ * <p>
+ * To avoid creating a new string for every value, the Roman numeral can also be written directly into a
+ * {@code StringBuilder}, any other {@code Appendable}, or a {@code char[]}. No Roman numeral is longer than
+ * {@link RomanNumeral#MAX_LENGTH} characters (or the {@link Notation#maxLength() maximum} of an extended notation), so
+ * buffers can be sized up front.
+ * </p>
+ *
+ * <h2>Batch Usage</h2>
+ * <p>
+ * Whole arrays can be converted at once, with failures reported compactly instead of as exceptions:
+ * </p>
+ * <pre>
+ * ConversionErrors errors = new ConversionErrors();
+ * String[] romanNumerals = new IntegerToRoman().convertAll(numbers, errors);
+ * for (int i = errors.nextFailure(0); i >= 0; i = errors.nextFailure(i + 1)) {
+ *     // handle errors.error(i)
+ * }
+ * </pre>
  */
 @SuppressWarnings("java:S4276")
 public final class IntegerToRoman implements
         LongFunction<Either<String, RomanNumeralException>>,
         Function<Long, Either<String, RomanNumeralException>> {
 
+    private final Notation notation;
+    private final ConversionListener listener;
+
+    /**
+     * Creates a converter for the {@link Notation#STANDARD standard notation}.
+     */
+    public IntegerToRoman() {
+
+        this(Notation.STANDARD);
+    }
+
+    /**
+     * Creates a converter for the given notation.
+     *
+     * @param notation The notation to write numerals in
+     */
+    public IntegerToRoman(Notation notation) {
+
+        this(notation, ConversionListener.NONE);
+    }
+
+    /**
+     * Creates a converter for the given notation, which reports every conversion to the given listener.
+     *
+     * @param notation The notation to write numerals in
+     * @param listener The listener to report conversions to (e.g. {@link ConversionMetrics})
+     */
+    public IntegerToRoman(Notation notation, ConversionListener listener) {
+
+        this.notation = Objects.requireNonNull(notation, "notation");
+        this.listener = Objects.requireNonNull(listener, "listener");
+    }
+
     /**
      * Implementation of the {@link LongFunction primitive functional interface}.
      *
@@ -68,19 +126,15 @@ public final class IntegerToRoman implements
     @Override
     public Either<String, RomanNumeralException> apply(long numericValue) {
 
-        if (numericValue < MIN_VALUE) {
-            return Either.createRight(RomanNumeralException.valueTooSmall(numericValue));
-        }
-        else if (numericValue > MAX_VALUE) {
-            return Either.createRight(RomanNumeralException.valueTooLarge(numericValue));
+        final long start = Instrumentation.start(this.listener);
+        if (numericValue < MIN_VALUE || numericValue > this.notation.maxValue()) {
+            final RomanNumeralException failure = RomanNumeralException.outOfRange(numericValue, false);
+            observed(failure.error().status(), start);
+            return Either.createRight(failure);
         }
-
-        return Either.createLeft(
-                unfold(numericValue)
-                        .mapToObj(Atom::symbolFromValue)
-                        .flatMap(Optional::stream)
-                        .collect(Collectors.joining(""))
-        );
+        final String romanValue = encode(numericValue);
+        observed(numericValue, start);
+        return Either.createLeft(romanValue);
     }
 
     /**
@@ -93,6 +147,7 @@ public final class IntegerToRoman implements
     public Either<String, RomanNumeralException> apply(Long numericValue) {
 
         if (numericValue == null) {
+            observed(RomanNumeralError.EMPTY_VALUE.status(), Instrumentation.start(this.listener));
             return Either.createRight(RomanNumeralException.emptyValue());
         }
         return this.apply(numericValue.longValue());
@@ -107,14 +162,177 @@ public final class IntegerToRoman implements
      */
     public String convert(long numericValue) throws RomanNumeralException {
 
-        var result = this.apply(numericValue);
-        if (result.isRight()) {
-            throw result.getRight();
+        final long start = Instrumentation.start(this.listener);
+        checkRange(numericValue, start);
+        final String romanValue = encode(numericValue);
+        observed(numericValue, start);
+        return romanValue;
+    }
+
+    /**
+     * Converts the given numeric value to a Roman numeral, writing it into the given buffer. At most
+     * {@link RomanNumeral#MAX_LENGTH} characters (or the {@link Notation#maxLength() maximum} of the converter's
+     * notation) are written.
+     *
+     * @param numericValue The numeric value to convert
+     * @param buffer       The buffer to write the Roman numeral into
+     * @param offset       The index in the buffer to start writing at
+     * @return The number of characters written
+     * @throws RomanNumeralException     If the value cannot be converted
+     * @throws IndexOutOfBoundsException If the buffer does not have enough room after the offset
+     */
+    public int convert(long numericValue, char[] buffer, int offset) throws RomanNumeralException {
+
+        final long start = Instrumentation.start(this.listener);
+        checkRange(numericValue, start);
+        Objects.checkFromIndexSize(offset, ExtendedNumerals.length(this.notation, numericValue), buffer.length);
+        return (int) observed(ExtendedNumerals.encode(this.notation, numericValue, buffer, offset), start);
+    }
+
+    /**
+     * Converts the given numeric value to a Roman numeral, writing it into the given buffer, without throwing on
+     * failure.
+     *
+     * @param numericValue The numeric value to convert
+     * @param buffer       The buffer to write the Roman numeral into
+     * @param offset       The index in the buffer to start writing at
+     * @return The number of characters written, or a negative failure status (see {@link RomanNumeralError})
+     * @throws IndexOutOfBoundsException If the buffer does not have enough room after the offset
+     */
+    public long tryConvert(long numericValue, char[] buffer, int offset) {
+
+        final long start = Instrumentation.start(this.listener);
+        if (numericValue < MIN_VALUE) {
+            return observed(RomanNumeralError.VALUE_TOO_SMALL.status(), start);
+        }
+        else if (numericValue > this.notation.maxValue()) {
+            return observed(RomanNumeralError.VALUE_TOO_LARGE.status(), start);
+        }
+        Objects.checkFromIndexSize(offset, ExtendedNumerals.length(this.notation, numericValue), buffer.length);
+        return observed(ExtendedNumerals.encode(this.notation, numericValue, buffer, offset), start);
+    }
+
+    /**
+     * Converts the given numeric value to a Roman numeral, appending it to the given builder.
+     *
+     * @param numericValue The numeric value to convert
+     * @param builder      The builder to append the Roman numeral to
+     * @return The number of characters appended
+     * @throws RomanNumeralException If the value cannot be converted
+     */
+    public int convert(long numericValue, StringBuilder builder) throws RomanNumeralException {
+
+        final long start = Instrumentation.start(this.listener);
+        checkRange(numericValue, start);
+        if (this.notation != Notation.STANDARD) {
+            final String romanValue = ExtendedNumerals.encode(this.notation, numericValue);
+            builder.append(romanValue);
+            return (int) observed(romanValue.length(), start);
+        }
+        return (int) observed(NumeralEncoder.encode((int) numericValue, builder), start);
+    }
+
+    /**
+     * Converts the given numeric value to a Roman numeral, appending it to the given appendable (e.g. a
+     * {@code Writer}).
+     *
+     * @param numericValue The numeric value to convert
+     * @param appendable   The appendable to append the Roman numeral to
+     * @return The number of characters appended
+     * @throws RomanNumeralException If the value cannot be converted
+     * @throws IOException           If the appendable cannot be written to
+     */
+    public int convert(long numericValue, Appendable appendable) throws RomanNumeralException, IOException {
+
+        final long start = Instrumentation.start(this.listener);
+        checkRange(numericValue, start);
+        if (this.notation != Notation.STANDARD) {
+            final String romanValue = ExtendedNumerals.encode(this.notation, numericValue);
+            appendable.append(romanValue);
+            return (int) observed(romanValue.length(), start);
+        }
+        return (int) observed(NumeralEncoder.encode((int) numericValue, appendable), start);
+    }
+
+    /**
+     * Converts all the given numeric values to Roman numerals. Failures are recorded in the given
+     * {@link ConversionErrors} rather than as exceptions, and the corresponding elements of the result are
+     * {@code null}.
+     *
+     * @param numericValues The numeric values to convert
+     * @param errors        Receives the failures; any failures from a previous batch are cleared
+     * @return The Roman numerals, in the same order as the numeric values
+     */
+    public String[] convertAll(long[] numericValues, ConversionErrors errors) {
+
+        errors.reset(numericValues.length);
+        final String[] romanValues = new String[numericValues.length];
+        final char[] scratch = new char[this.notation.maxLength()];
+        final int failures = convertRange(this.notation, numericValues, romanValues, errors.codeArray(),
+                                          0, numericValues.length, scratch);
+        errors.indexFailures(failures);
+        if (this.listener != ConversionListener.NONE) {
+            this.listener.batchCompleted(ConversionListener.Direction.TO_ROMAN, numericValues.length, errors);
+        }
+        return romanValues;
+    }
+
+    // Converts one range of a batch, recording failures only as codes; returns the number of failures
+    static int convertRange(Notation notation, long[] numericValues, String[] romanValues, byte[] codes,
+                            int from, int to, char[] scratch) {
+
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            final long numericValue = numericValues[i];
+            if (numericValue < MIN_VALUE) {
+                codes[i] = RomanNumeralError.VALUE_TOO_SMALL.code();
+                failures++;
+            }
+            else if (numericValue > notation.maxValue()) {
+                codes[i] = RomanNumeralError.VALUE_TOO_LARGE.code();
+                failures++;
+            }
+            else {
+                romanValues[i] = new String(scratch, 0, ExtendedNumerals.encode(notation, numericValue, scratch, 0));
+            }
+        }
+        return failures;
+    }
+
+    // Encodes a value that is known to be in range
+    private String encode(long numericValue) {
+
+        if (this.notation != Notation.STANDARD) {
+            return ExtendedNumerals.encode(this.notation, numericValue);
+        }
+        final char[] romanValue = new char[NumeralEncoder.length((int) numericValue)];
+        NumeralEncoder.encode((int) numericValue, romanValue, 0);
+        return new String(romanValue);
+    }
+
+    private void checkRange(long numericValue, long start) throws RomanNumeralException {
+
+        if (numericValue < MIN_VALUE) {
+            observed(RomanNumeralError.VALUE_TOO_SMALL.status(), start);
+            throw RomanNumeralException.valueTooSmall(numericValue);
+        }
+        else if (numericValue > this.notation.maxValue()) {
+            observed(RomanNumeralError.VALUE_TOO_LARGE.status(), start);
+            throw RomanNumeralException.valueTooLarge(numericValue);
+        }
+    }
+
+    // Reports the result of a conversion (non-negative on success, or a failure status) to the listener
+    private long observed(long status, long start) {
+
+        if (this.listener != ConversionListener.NONE) {
+            Instrumentation.record(this.listener, ConversionListener.Direction.TO_ROMAN, status, start);
         }
-        return result.getLeft();
+        return status;
     }
 
-    // Workaround for the lack of a good "unfold" implementation for Java (especially over primitive types).
+    // Workaround for the lack of a good "unfold" implementation for Java (especially over primitive types). The
+    // conversions use the NumeralEncoder tables; this remains as the reference decomposition into atoms for the tests.
     static LongStream unfold(long value) {
 
         return LongStream.of(value).mapMulti((remaining, consumer) -> {
@@ -0,0 +1,47 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+
+/**
+ * The notations in which Roman numerals can be written. Only the {@link #STANDARD} notation is used unless another is
+ * requested explicitly; the extended notations cover the whole positive {@code long} range by multiplying groups of
+ * symbols by powers of 1,000.
+ * <p>
+ * In the extended notations, the value is split into thousands-groups, and each group is written as a standard numeral
+ * (up to 999), marked with its power of 1,000. Values up to 3,999 have no marked groups, so they are written exactly as
+ * in the standard notation; likewise, the highest group is folded into the group below it when it is less than 4 (so
+ * 3,000,000 is three marked {@code M}s, rather than three doubly-marked {@code I}s).
+ * </p>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public enum Notation {
+
+    /**
+     * The standard notation, from 1 to 3,999 (e.g. {@code MMMCMXCIX}).
+     */
+    STANDARD(SharedConstants.MAX_VALUE, SharedConstants.MAX_LENGTH),
+    /**
+     * The vinculum notation, in which each symbol is followed by one combining overline ({@code U+0305}) per power of
+     * 1,000 (e.g. <code>I&#x305;V&#x305;DC</code> for 4,600).
+     */
+    VINCULUM(Long.MAX_VALUE, 280),
+    /**
+     * An ASCII-safe form of the extended notation, derived from the apostrophus, in which each group is enclosed in one
+     * pair of parentheses per power of 1,000 (e.g. {@code (IV)DC} for 4,600, or {@code ((V))(D)} for 5,500,000).
+     */
+    PARENTHESES(Long.MAX_VALUE, 118);
+
+    /**
+     * Retrieves the maximum value that can be written in this notation. The minimum is always
+     * {@link RomanNumeral#MIN_VALUE}.
+     */
+    private final long maxValue;
+    /**
+     * Retrieves the maximum length of a numeral in this notation, which can be used to size buffers.
+     */
+    private final int maxLength;
+}
@@ -0,0 +1,110 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+
+
+/**
+ * Table-driven encoder for Roman numerals. Each decimal place of the value maps to a fixed sequence of symbols, which
+ * is looked up rather than derived by repeated subtraction. The tables are derived once from the {@link Atom}
+ * definitions.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class NumeralEncoder {
+
+    private static final int PLACES = 4;
+    private static final int[] PLACE_VALUES = { 1, 10, 100, 1000 };
+    private static final char[][] PLACE_SYMBOLS = new char[PLACES * 10][];
+    private static final String[] PLACE_STRINGS = new String[PLACES * 10];
+
+    static {
+        for (int place = 0; place < PLACES; place++) {
+            for (int digit = 0; digit < 10; digit++) {
+                final StringBuilder symbols = new StringBuilder();
+                long remaining = (long) digit * PLACE_VALUES[place];
+                while (remaining > 0) {
+                    final long atomValue = IntegerToRoman.digitExtractor(remaining).orElseThrow();
+                    symbols.append(Atom.symbolFromValue(atomValue).orElseThrow());
+                    remaining -= atomValue;
+                }
+                PLACE_STRINGS[place * 10 + digit] = symbols.toString();
+                PLACE_SYMBOLS[place * 10 + digit] = symbols.toString().toCharArray();
+            }
+        }
+    }
+
+    /**
+     * Encodes the given value into the buffer.
+     *
+     * @param numericValue The value to encode. Must be between {@link SharedConstants#MIN_VALUE} and
+     *                     {@link SharedConstants#MAX_VALUE}.
+     * @param buffer       The buffer to write to. Must have at least {@link #length(int)} characters available after
+     *                     the offset.
+     * @param offset       The index to start writing at
+     * @return The number of characters written
+     */
+    static int encode(int numericValue, char[] buffer, int offset) {
+
+        int position = offset;
+        for (int place = PLACES - 1; place >= 0; place--) {
+            final char[] symbols = PLACE_SYMBOLS[place * 10 + numericValue / PLACE_VALUES[place] % 10];
+            System.arraycopy(symbols, 0, buffer, position, symbols.length);
+            position += symbols.length;
+        }
+        return position - offset;
+    }
+
+    /**
+     * Encodes the given value onto the end of the builder.
+     *
+     * @param numericValue The value to encode. Must be in the valid range.
+     * @param builder      The builder to append to
+     * @return The number of characters written
+     */
+    static int encode(int numericValue, StringBuilder builder) {
+
+        int written = 0;
+        for (int place = PLACES - 1; place >= 0; place--) {
+            final char[] symbols = PLACE_SYMBOLS[place * 10 + numericValue / PLACE_VALUES[place] % 10];
+            builder.append(symbols);
+            written += symbols.length;
+        }
+        return written;
+    }
+
+    /**
+     * Encodes the given value onto the appendable.
+     *
+     * @param numericValue The value to encode. Must be in the valid range.
+     * @param appendable   The appendable to write to
+     * @return The number of characters written
+     * @throws IOException If the appendable cannot be written to
+     */
+    static int encode(int numericValue, Appendable appendable) throws IOException {
+
+        int written = 0;
+        for (int place = PLACES - 1; place >= 0; place--) {
+            final String symbols = PLACE_STRINGS[place * 10 + numericValue / PLACE_VALUES[place] % 10];
+            appendable.append(symbols);
+            written += symbols.length();
+        }
+        return written;
+    }
+
+    /**
+     * Calculates the length of the Roman numeral for the given value, without encoding it.
+     *
+     * @param numericValue The value. Must be in the valid range.
+     * @return The number of characters in the Roman numeral
+     */
+    static int length(int numericValue) {
+
+        int length = 0;
+        for (int place = PLACES - 1; place >= 0; place--) {
+            length += PLACE_SYMBOLS[place * 10 + numericValue / PLACE_VALUES[place] % 10].length;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,292 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Single-pass, table-driven parser for Roman numerals. The grammar is derived from the {@link Atom} definitions: the
+ * atoms may appear in order from largest to smallest, each at most once, except for those that
+ * {@link Atom#allowsMultiples() allow multiples}, which may repeat.
+ * <p>
+ * Surrounding whitespace (anything {@link String#trim() trimmed} by {@code String}) is skipped, and upper/lower case
+ * symbols are accepted, without creating any intermediate strings. A successful parse allocates nothing.
+ * </p>
+ * <p>
+ * The result of a parse is a status, as described by {@link RomanNumeralError}: either the (positive) numeric value,
+ * or a negative value for {@link #EMPTY} input, or for {@link RomanNumeralError#UNPARSEABLE unparseable} input along
+ * with the position of the first character that could not be parsed (relative to the start of the input range).
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class NumeralParser {
+
+    /**
+     * Result indicating that the input was {@code null}, empty, or blank.
+     */
+    static final long EMPTY = RomanNumeralError.EMPTY_VALUE.status();
+
+    // Symbol classes: 0 is "not a Roman numeral symbol", 1-7 are the symbols in ascending order of value
+    private static final String SYMBOLS = "\0IVXLCDM";
+    private static final int[] SYMBOL_VALUES = { 0, 1, 5, 10, 50, 100, 500, 1000 };
+    private static final int SYMBOL_CLASSES = SYMBOLS.length();
+
+    private static final int REJECT = 0;
+    private static final int START = 1;
+
+    private static final int PREVIOUS_BITS = 3;
+    private static final long PREVIOUS_MASK = (1L << PREVIOUS_BITS) - 1;
+    private static final long STATE_MASK = 0xFF;
+    private static final int TOTAL_SHIFT = PREVIOUS_BITS + 8;
+
+    /**
+     * Progress value that starts a new parse.
+     *
+     * @see #advance(long, int)
+     */
+    static final long INITIAL = (long) START << PREVIOUS_BITS;
+    /**
+     * Progress value that indicates that the parse has failed.
+     *
+     * @see #advance(long, int)
+     */
+    static final long REJECTED = -1L;
+
+    private static final byte[] TRANSITIONS;
+    private static final boolean[] ACCEPTING;
+
+    static {
+        // Subset construction over the atoms: bit (2 * i) is "before atom i", bit (2 * i + 1) is "within atom i"
+        // (only used for two-symbol atoms), and bit (2 * atoms.length) is "end of numeral".
+        final Atom[] atoms = Atom.values();
+        final List<Long> states = new ArrayList<>(List.of(0L, closure(0, atoms.length)));
+        final Map<Long, Integer> stateIndices = new HashMap<>(Map.of(0L, REJECT, states.get(START), START));
+        final byte[] transitions = new byte[Byte.MAX_VALUE * SYMBOL_CLASSES];
+        for (int state = START; state < states.size(); state++) {
+            for (int symbolClass = 1; symbolClass < SYMBOL_CLASSES; symbolClass++) {
+                final long next = step(atoms, states.get(state), SYMBOLS.charAt(symbolClass));
+                final int nextState = stateIndices.computeIfAbsent(next, items -> {
+                    states.add(items);
+                    return states.size() - 1;
+                });
+                transitions[state * SYMBOL_CLASSES + symbolClass] = (byte) nextState;
+            }
+        }
+        TRANSITIONS = Arrays.copyOf(transitions, states.size() * SYMBOL_CLASSES);
+        ACCEPTING = new boolean[states.size()];
+        final long end = 1L << (2 * atoms.length);
+        for (int state = START; state < states.size(); state++) {
+            ACCEPTING[state] = (states.get(state) & end) != 0;
+        }
+    }
+
+    /**
+     * Parses the given Roman numeral.
+     *
+     * @param romanValue The Roman numeral to parse. May be {@code null}.
+     * @return The numeric value, or a negative value to indicate failure
+     */
+    static long parse(CharSequence romanValue) {
+
+        return romanValue == null ? EMPTY : parse(romanValue, 0, romanValue.length());
+    }
+
+    /**
+     * Parses the Roman numeral in the given range of characters.
+     *
+     * @param romanValue The characters to parse
+     * @param from       The index of the first character (inclusive)
+     * @param to         The index of the last character (exclusive)
+     * @return The numeric value, or a negative value to indicate failure
+     */
+    static long parse(CharSequence romanValue, int from, int to) {
+
+        final int origin = from;
+        while (from < to && romanValue.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && romanValue.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return EMPTY;
+        }
+        long progress = INITIAL;
+        for (int i = from; i < to; i++) {
+            progress = advance(progress, symbolClass(romanValue.charAt(i)));
+            if (progress == REJECTED) {
+                return unparseable(i - origin);
+            }
+        }
+        return finish(progress, to - origin);
+    }
+
+    /**
+     * Parses the Roman numeral in the given range of ASCII bytes.
+     *
+     * @param romanValue The bytes to parse
+     * @param from       The index of the first byte (inclusive)
+     * @param to         The index of the last byte (exclusive)
+     * @return The numeric value, or a negative value to indicate failure
+     */
+    static long parse(byte[] romanValue, int from, int to) {
+
+        final int origin = from;
+        while (from < to && (romanValue[from] & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (romanValue[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return EMPTY;
+        }
+        long progress = INITIAL;
+        for (int i = from; i < to; i++) {
+            progress = advance(progress, symbolClass((char) (romanValue[i] & 0xFF)));
+            if (progress == REJECTED) {
+                return unparseable(i - origin);
+            }
+        }
+        return finish(progress, to - origin);
+    }
+
+    /**
+     * Parses the Roman numeral in the remaining ASCII bytes of the given buffer, without changing its position.
+     *
+     * @param romanValue The buffer to parse
+     * @return The numeric value, or a negative value to indicate failure
+     */
+    static long parse(ByteBuffer romanValue) {
+
+        if (romanValue.hasArray()) {
+            final int offset = romanValue.arrayOffset();
+            return parse(romanValue.array(), offset + romanValue.position(), offset + romanValue.limit());
+        }
+        final int origin = romanValue.position();
+        int from = origin;
+        int to = romanValue.limit();
+        while (from < to && (romanValue.get(from) & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (romanValue.get(to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return EMPTY;
+        }
+        long progress = INITIAL;
+        for (int i = from; i < to; i++) {
+            progress = advance(progress, symbolClass((char) (romanValue.get(i) & 0xFF)));
+            if (progress == REJECTED) {
+                return unparseable(i - origin);
+            }
+        }
+        return finish(progress, to - origin);
+    }
+
+    /**
+     * Advances a parse by one symbol. The progress of a parse is packed into a single {@code long}, so that it can be
+     * threaded through the loops over the different input types without allocating: the running total in the high
+     * bits, then the DFA state, then the symbol class of the previous symbol.
+     *
+     * @param progress    The progress so far; {@link #INITIAL} for a new parse
+     * @param symbolClass The symbol class of the next symbol
+     * @return The new progress, or {@link #REJECTED} if the symbol is not allowed here
+     */
+    static long advance(long progress, int symbolClass) {
+
+        final int state = TRANSITIONS[(int) (progress >>> PREVIOUS_BITS & STATE_MASK) * SYMBOL_CLASSES + symbolClass];
+        if (state == REJECT) {
+            return REJECTED;
+        }
+        // The grammar only allows a smaller symbol before a larger one in a subtractive pair (e.g. "IX"), so the
+        // smaller symbol, which has already been added, is subtracted twice.
+        final int previous = SYMBOL_VALUES[(int) (progress & PREVIOUS_MASK)];
+        final int value = SYMBOL_VALUES[symbolClass];
+        final long total = (progress >>> TOTAL_SHIFT) + (previous < value ? value - 2L * previous : value);
+        return total << TOTAL_SHIFT | (long) state << PREVIOUS_BITS | symbolClass;
+    }
+
+    /**
+     * Completes a parse.
+     *
+     * @param progress The progress after the last symbol
+     * @param position The position just after the last symbol, reported if the numeral is incomplete
+     * @return The numeric value, or a failure status
+     */
+    static long finish(long progress, int position) {
+
+        if (progress == REJECTED || !ACCEPTING[(int) (progress >>> PREVIOUS_BITS & STATE_MASK)]) {
+            return unparseable(position);
+        }
+        return progress >>> TOTAL_SHIFT;
+    }
+
+    /**
+     * Creates the failure status for an unparseable numeral.
+     *
+     * @param position The position of the offending character, relative to the start of the input range
+     */
+    static long unparseable(int position) {
+
+        return RomanNumeralError.UNPARSEABLE.status(position);
+    }
+
+    /**
+     * Maps a character to its symbol class, folding case the same way {@code String.toUpperCase(Locale.ROOT)} does.
+     *
+     * @param c The character
+     * @return The symbol class, which is {@code 0} if the character is not a Roman numeral symbol
+     */
+    static int symbolClass(char c) {
+
+        return switch (c) {
+            case 'I', 'i', '\u0131' -> 1; // U+0131 (dotless i) upper-cases to 'I'
+            case 'V', 'v' -> 2;
+            case 'X', 'x' -> 3;
+            case 'L', 'l' -> 4;
+            case 'C', 'c' -> 5;
+            case 'D', 'd' -> 6;
+            case 'M', 'm' -> 7;
+            default -> 0;
+        };
+    }
+
+    // All the atoms after "before atom i" can also be skipped, since every atom is optional
+    private static long closure(int atomIndex, int atomCount) {
+
+        long items = 0;
+        for (int i = atomIndex; i <= atomCount; i++) {
+            items |= 1L << (2 * i);
+        }
+        return items;
+    }
+
+    private static long step(Atom[] atoms, long items, char symbol) {
+
+        long next = 0;
+        for (int i = 0; i < atoms.length; i++) {
+            final String name = atoms[i].name();
+            if ((items & (1L << (2 * i))) != 0 && name.charAt(0) == symbol) {
+                if (name.length() > 1) {
+                    next |= 1L << (2 * i + 1);
+                }
+                else {
+                    next |= closure(atoms[i].allowsMultiples() ? i : i + 1, atoms.length);
+                }
+            }
+            if ((items & (1L << (2 * i + 1))) != 0 && name.charAt(1) == symbol) {
+                next |= closure(i + 1, atoms.length);
+            }
+        }
+        return next;
+    }
+}
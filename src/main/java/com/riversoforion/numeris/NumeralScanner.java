@@ -0,0 +1,175 @@
+package com.riversoforion.numeris;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+
+/**
+ * Finds and converts the Roman numerals in free text, in a single pass over the characters. Each numeral is parsed as
+ * it is scanned, using the same grammar as {@link RomanToInteger}, so the text is never buffered or re-read, and
+ * scanning any amount of text uses a constant amount of memory.
+ * <p>
+ * A numeral is a run of Roman numeral symbols that forms a valid numeral, and that is not adjacent to a
+ * <em>word character</em>. By default, word characters are {@link Character#isLetterOrDigit(char) letters and digits}
+ * and only upper case symbols are recognized, so that "Louis XIV" contains a numeral, but "MIXED", "XIVth" and "mix"
+ * do not. Both rules are configurable.
+ * </p>
+ * <pre>
+ * new NumeralScanner().scan(reader, (offset, length, value) -&gt; System.out.printf("%d: %d%n", offset, value));
+ * </pre>
+ * <p>
+ * A scanner holds no state between scans, so it can be shared across threads.
+ * </p>
+ */
+public final class NumeralScanner {
+
+    /**
+     * Word-character rule under which a numeral may be adjacent to any character.
+     */
+    public static final IntPredicate NO_BOUNDARIES = c -> false;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final IntPredicate wordCharacter;
+    private final boolean ignoreCase;
+
+    /**
+     * Creates a scanner for upper case numerals, bounded by characters that are not letters or digits.
+     */
+    public NumeralScanner() {
+
+        this(Character::isLetterOrDigit, false);
+    }
+
+    /**
+     * Creates a scanner with custom rules.
+     *
+     * @param wordCharacter Determines which characters may not be adjacent to a numeral. It is tested with each UTF-16
+     *                      character that ends a run of symbols, or precedes one. Use {@link #NO_BOUNDARIES} to accept
+     *                      numerals anywhere.
+     * @param ignoreCase    Whether lower case symbols are also recognized
+     */
+    public NumeralScanner(IntPredicate wordCharacter, boolean ignoreCase) {
+
+        this.wordCharacter = Objects.requireNonNull(wordCharacter, "wordCharacter");
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Scans all the characters from the given reader. The reader is not closed.
+     *
+     * @param text     The text to scan
+     * @param consumer Receives each numeral found, in order
+     * @return The number of numerals found
+     * @throws IOException If the reader fails
+     */
+    public long scan(Reader text, MatchConsumer consumer) throws IOException {
+
+        final Scan scan = new Scan(consumer);
+        final char[] buffer = new char[BUFFER_SIZE];
+        int count;
+        while ((count = text.read(buffer)) >= 0) {
+            for (int i = 0; i < count; i++) {
+                scan.next(buffer[i]);
+            }
+        }
+        return scan.end();
+    }
+
+    /**
+     * Scans the remaining characters of the given buffer, without changing its position. Offsets are relative to its
+     * position.
+     *
+     * @param text     The text to scan
+     * @param consumer Receives each numeral found, in order
+     * @return The number of numerals found
+     */
+    public long scan(CharBuffer text, MatchConsumer consumer) {
+
+        final Scan scan = new Scan(consumer);
+        for (int i = text.position(), limit = text.limit(); i < limit; i++) {
+            scan.next(text.get(i));
+        }
+        return scan.end();
+    }
+
+    /**
+     * Receives the numerals found by a scan, as primitives, so that scanning allocates nothing per numeral.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+
+        /**
+         * Accepts a numeral.
+         *
+         * @param offset The offset of the numeral's first character from the start of the text
+         * @param length The number of characters in the numeral
+         * @param value  The numeric value of the numeral
+         */
+        void accept(long offset, int length, long value);
+    }
+
+    /**
+     * The state of a single scan, fed one character at a time.
+     */
+    private final class Scan {
+
+        private final MatchConsumer consumer;
+        private long offset;
+        // Offset of the current run of symbols, or -1 outside a run
+        private long start = -1;
+        private long progress;
+        // Whether the last character outside a run allows a numeral to follow it
+        private boolean bounded = true;
+        private long matches;
+
+        private Scan(MatchConsumer consumer) {
+
+            this.consumer = Objects.requireNonNull(consumer, "consumer");
+        }
+
+        private void next(char c) {
+
+            final int symbolClass = NumeralParser.symbolClass(c);
+            if (symbolClass != 0 && (ignoreCase || c <= 'Z')) {
+                if (this.start < 0) {
+                    this.start = this.offset;
+                    this.progress = NumeralParser.INITIAL;
+                }
+                if (this.progress != NumeralParser.REJECTED) {
+                    this.progress = NumeralParser.advance(this.progress, symbolClass);
+                }
+            }
+            else {
+                final boolean word = wordCharacter.test(c);
+                if (this.start >= 0 && !word) {
+                    emit();
+                }
+                this.start = -1;
+                this.bounded = !word;
+            }
+            this.offset++;
+        }
+
+        private long end() {
+
+            if (this.start >= 0) {
+                emit();
+                this.start = -1;
+            }
+            return this.matches;
+        }
+
+        private void emit() {
+
+            final long value = NumeralParser.finish(this.progress, 0);
+            if (this.bounded && value >= 0) {
+                this.consumer.accept(this.start, (int) (this.offset - this.start), value);
+                this.matches++;
+            }
+        }
+    }
+}
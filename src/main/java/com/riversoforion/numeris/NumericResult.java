@@ -0,0 +1,170 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+
+/**
+ * The result of converting a Roman numeral to a numeric value: either a primitive {@code long} value, or the
+ * {@link RomanNumeralError reason} the conversion failed. Unlike {@code Either<Long, RomanNumeralException>}, it never
+ * boxes the value or creates an exception.
+ * <p>
+ * Results for every valid Roman numeral value, and for failures without a position, are shared instances, so
+ * obtaining one normally does not allocate at all.
+ * </p>
+ * <pre>
+ * long[] numbers = Stream.of("XII", "V", "BBCCDD", "CMLV")
+ *                        .map(new RomanToInteger()::applyAsResult)
+ *                        .flatMapToLong(NumericResult::stream)
+ *                        .toArray();
+ * </pre>
+ *
+ * @see RomanToInteger#applyAsResult(CharSequence)
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode
+public final class NumericResult {
+
+    private static final NumericResult[] VALUES = new NumericResult[(int) SharedConstants.MAX_VALUE + 1];
+    private static final NumericResult[] ERRORS = new NumericResult[RomanNumeralError.values().length + 1];
+
+    static {
+        for (int value = 0; value < VALUES.length; value++) {
+            VALUES[value] = new NumericResult(value);
+        }
+        for (RomanNumeralError error : RomanNumeralError.values()) {
+            ERRORS[error.code()] = new NumericResult(error.status());
+        }
+    }
+
+    /**
+     * The status this result wraps, as returned by the exception-free conversion methods.
+     */
+    private final long status;
+
+    /**
+     * Retrieves the result for the given status.
+     *
+     * @param status The status returned by an exception-free conversion (e.g.
+     *               {@link RomanToInteger#tryConvert(CharSequence)})
+     * @return The corresponding result
+     */
+    public static NumericResult ofStatus(long status) {
+
+        if (status >= 0 && status < VALUES.length) {
+            return VALUES[(int) status];
+        }
+        if (status < 0 && RomanNumeralError.positionOf(status) < 0) {
+            return ERRORS[RomanNumeralError.codeOf(status)];
+        }
+        return new NumericResult(status);
+    }
+
+    /**
+     * Whether the conversion succeeded.
+     */
+    public boolean isSuccess() {
+
+        return this.status >= 0;
+    }
+
+    /**
+     * Whether the conversion failed.
+     */
+    public boolean isFailure() {
+
+        return this.status < 0;
+    }
+
+    /**
+     * Retrieves the numeric value.
+     *
+     * @return The numeric value
+     * @throws NoSuchElementException If the conversion failed
+     */
+    public long value() {
+
+        if (this.status < 0) {
+            throw new NoSuchElementException("No value present");
+        }
+        return this.status;
+    }
+
+    /**
+     * Retrieves the numeric value, or the given value if the conversion failed.
+     *
+     * @param other The value to return if the conversion failed
+     * @return The numeric value, or {@code other}
+     */
+    public long orElse(long other) {
+
+        return this.status >= 0 ? this.status : other;
+    }
+
+    /**
+     * Retrieves the reason the conversion failed.
+     *
+     * @return The error, or empty if the conversion succeeded
+     */
+    public Optional<RomanNumeralError> error() {
+
+        return RomanNumeralError.fromStatus(this.status);
+    }
+
+    /**
+     * Retrieves the position of the first character that could not be parsed.
+     *
+     * @return The position, or {@code -1} if the conversion succeeded or the failure has no position
+     */
+    public int position() {
+
+        return RomanNumeralError.positionOf(this.status);
+    }
+
+    /**
+     * Retrieves the status this result wraps, as returned by the exception-free conversion methods.
+     */
+    public long status() {
+
+        return this.status;
+    }
+
+    /**
+     * Converts this result to an {@code OptionalLong}.
+     *
+     * @return The numeric value, or empty if the conversion failed
+     */
+    public OptionalLong toOptional() {
+
+        return this.status >= 0 ? OptionalLong.of(this.status) : OptionalLong.empty();
+    }
+
+    /**
+     * Streams the numeric value, for use with {@link java.util.stream.Stream#flatMapToLong}.
+     *
+     * @return A stream of the numeric value, or an empty stream if the conversion failed
+     */
+    public LongStream stream() {
+
+        return this.status >= 0 ? LongStream.of(this.status) : LongStream.empty();
+    }
+
+    @Override
+    public String toString() {
+
+        if (this.status >= 0) {
+            return String.format("NumericResult[%d]", this.status);
+        }
+        final int position = position();
+        final RomanNumeralError error = error().orElseThrow();
+        return position < 0
+               ? String.format("NumericResult[%s]", error)
+               : String.format("NumericResult[%s at %d]", error, position);
+    }
+}
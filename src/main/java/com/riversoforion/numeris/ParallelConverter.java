@@ -0,0 +1,197 @@
+package com.riversoforion.numeris;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Converts very large batches in parallel. The batch is split into contiguous ranges, which are converted by
+ * {@link IntegerToRoman} and {@link RomanToInteger} on separate threads. Each range has its own scratch buffers and
+ * error count, so threads share nothing but the (disjoint) parts of the input and output arrays they work on. The
+ * output is in the same order as the input, and failures are reported the same way as for a sequential batch (see
+ * {@link ConversionErrors}).
+ * <p>
+ * By default, work is split recursively on the common {@link ForkJoinPool}. Any other {@code ForkJoinPool} is used the
+ * same way; any other {@link Executor} (e.g. one with virtual threads) receives a fixed number of ranges per
+ * available processor instead.
+ * </p>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is thread-safe, but each concurrent batch needs its own
+ * {@code ConversionErrors}.
+ * </p>
+ *
+ * <pre>
+ * ConversionErrors errors = new ConversionErrors();
+ * String[] romanNumerals = new ParallelConverter().convertAll(numbers, errors);
+ * </pre>
+ */
+public final class ParallelConverter {
+
+    /**
+     * The default number of elements below which a range is no longer split.
+     */
+    static final int DEFAULT_THRESHOLD = 1 << 13;
+    private static final int RANGES_PER_PROCESSOR = 4;
+
+    private final Executor executor;
+    private final int threshold;
+
+    /**
+     * Creates a converter that runs on the common {@code ForkJoinPool}.
+     */
+    public ParallelConverter() {
+
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a converter that runs on the given executor.
+     *
+     * @param executor The executor to run on
+     */
+    public ParallelConverter(Executor executor) {
+
+        this(executor, DEFAULT_THRESHOLD);
+    }
+
+    ParallelConverter(Executor executor, int threshold) {
+
+        this.executor = executor;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    /**
+     * Converts all the given numeric values to Roman numerals, in parallel.
+     *
+     * @param numericValues The numeric values to convert
+     * @param errors        Receives the failures; any failures from a previous batch are cleared
+     * @return The Roman numerals, in the same order as the numeric values; {@code null} where conversion failed
+     * @see IntegerToRoman#convertAll(long[], ConversionErrors)
+     */
+    public String[] convertAll(long[] numericValues, ConversionErrors errors) {
+
+        errors.reset(numericValues.length);
+        final String[] romanValues = new String[numericValues.length];
+        final byte[] codes = errors.codeArray();
+        final int failures = run(numericValues.length, (from, to) -> {
+            final char[] scratch = new char[SharedConstants.MAX_LENGTH];
+            return IntegerToRoman.convertRange(Notation.STANDARD, numericValues, romanValues, codes, from, to, scratch);
+        });
+        errors.indexFailures(failures);
+        return romanValues;
+    }
+
+    /**
+     * Converts all the given Roman numerals to numeric values, in parallel.
+     *
+     * @param romanValues The Roman numerals to convert (e.g. a {@code String[]})
+     * @param errors      Receives the failures; any failures from a previous batch are cleared
+     * @return The numeric values, in the same order as the Roman numerals; {@code 0} where conversion failed
+     * @see RomanToInteger#convertAll(CharSequence[], ConversionErrors)
+     */
+    public long[] convertAll(CharSequence[] romanValues, ConversionErrors errors) {
+
+        return convertAll(Arrays.asList(romanValues), errors);
+    }
+
+    /**
+     * Converts all the given Roman numerals to numeric values, in parallel. The list should support fast random
+     * access.
+     *
+     * @param romanValues The Roman numerals to convert
+     * @param errors      Receives the failures; any failures from a previous batch are cleared
+     * @return The numeric values, in the same order as the Roman numerals; {@code 0} where conversion failed
+     */
+    public long[] convertAll(List<? extends CharSequence> romanValues, ConversionErrors errors) {
+
+        errors.reset(romanValues.size());
+        final long[] numericValues = new long[romanValues.size()];
+        final byte[] codes = errors.codeArray();
+        final int failures = run(romanValues.size(), (from, to) -> RomanToInteger.convertRange(
+                Notation.STANDARD, romanValues, numericValues, codes, from, to));
+        errors.indexFailures(failures);
+        return numericValues;
+    }
+
+    // Runs the conversion over [0, size) and returns the total number of failures
+    private int run(int size, RangeConversion conversion) {
+
+        if (size <= this.threshold) {
+            return conversion.convert(0, size);
+        }
+        if (this.executor instanceof ForkJoinPool pool) {
+            return pool.invoke(new RangeTask(conversion, 0, size, this.threshold));
+        }
+
+        final int rangeCount = Math.min(Runtime.getRuntime().availableProcessors() * RANGES_PER_PROCESSOR,
+                                        (size + this.threshold - 1) / this.threshold);
+        final List<CompletableFuture<Integer>> ranges = new ArrayList<>(rangeCount);
+        for (int range = 0; range < rangeCount; range++) {
+            final int from = (int) ((long) size * range / rangeCount);
+            final int to = (int) ((long) size * (range + 1) / rangeCount);
+            ranges.add(CompletableFuture.supplyAsync(() -> conversion.convert(from, to), this.executor));
+        }
+        try {
+            int failures = 0;
+            for (CompletableFuture<Integer> range : ranges) {
+                failures += range.join();
+            }
+            return failures;
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Converts one range of a batch; returns the number of failures.
+     */
+    @FunctionalInterface
+    private interface RangeConversion {
+
+        int convert(int from, int to);
+    }
+
+    /**
+     * Splits a range in half until it is below the threshold, then converts it.
+     */
+    private static final class RangeTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient RangeConversion conversion;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        RangeTask(RangeConversion conversion, int from, int to, int threshold) {
+
+            this.conversion = conversion;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+
+            if (this.to - this.from <= this.threshold) {
+                return this.conversion.convert(this.from, this.to);
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            final RangeTask left = new RangeTask(this.conversion, this.from, middle, this.threshold);
+            left.fork();
+            final int rightFailures = new RangeTask(this.conversion, middle, this.to, this.threshold).compute();
+            return left.join() + rightFailures;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.riversoforion.numeris;
+
+import com.diffplug.common.base.Either;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+
+/**
+ * {@link Collector}s that decode Roman numerals and aggregate their values in one step, without boxing each value:
+ * <pre>
+ * long pages = Stream.of("XII", "V", "CMLV").collect(RomanCollectors.summing());
+ * Optional&lt;RomanNumeral&gt; latest = volumes.stream().collect(RomanCollectors.maximum(Volume::number));
+ * RomanSummaryStatistics stats = chapters.parallelStream().collect(RomanCollectors.summarizing(Chapter::number));
+ * </pre>
+ * <p>
+ * Numerals are decoded in the {@link Notation#STANDARD standard notation}, and only in the standard range: unlike
+ * {@link RomanToInteger}, which decodes a few lenient numerals beyond it (e.g. {@code "MMMM"} as 4,000), any value
+ * larger than {@link RomanNumeral#MAX_VALUE} cannot be decoded. Numerals that cannot be decoded are ignored, except by
+ * {@link #summarizing()}, which counts them as {@link RomanSummaryStatistics#failures() failures}. Every collector is
+ * unordered, and can be used with parallel streams.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RomanCollectors {
+
+    private static final Function<CharSequence, CharSequence> IDENTITY = Function.identity();
+
+    /**
+     * Collects statistics about Roman numerals.
+     *
+     * @return A collector of the statistics
+     */
+    public static Collector<CharSequence, ?, RomanSummaryStatistics> summarizing() {
+
+        return summarizing(IDENTITY);
+    }
+
+    /**
+     * Collects statistics about the Roman numerals in a field of each element.
+     *
+     * @param numeral Extracts the Roman numeral from an element
+     * @param <T>     The type of the elements
+     * @return A collector of the statistics
+     */
+    public static <T> Collector<T, ?, RomanSummaryStatistics> summarizing(
+            Function<? super T, ? extends CharSequence> numeral) {
+
+        Objects.requireNonNull(numeral, "numeral");
+        return Collector.of(RomanSummaryStatistics::new,
+                            (stats, element) -> stats.accept(numeral.apply(element)),
+                            RomanSummaryStatistics::combine,
+                            Collector.Characteristics.IDENTITY_FINISH,
+                            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Sums the values of Roman numerals.
+     *
+     * @return A collector of the sum, which is zero if there are no valid numerals
+     */
+    public static Collector<CharSequence, ?, Long> summing() {
+
+        return summing(IDENTITY);
+    }
+
+    /**
+     * Sums the values of the Roman numerals in a field of each element.
+     *
+     * @param numeral Extracts the Roman numeral from an element
+     * @param <T>     The type of the elements
+     * @return A collector of the sum, which is zero if there are no valid numerals
+     */
+    public static <T> Collector<T, ?, Long> summing(Function<? super T, ? extends CharSequence> numeral) {
+
+        Objects.requireNonNull(numeral, "numeral");
+        return Collector.of(() -> new long[1],
+                            (total, element) -> {
+                                final long status = StandardKeys.decode(numeral.apply(element));
+                                if (!RomanNumeralError.isFailure(status)) {
+                                    total[0] += status;
+                                }
+                            },
+                            (left, right) -> {
+                                left[0] += right[0];
+                                return left;
+                            },
+                            total -> total[0],
+                            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Sums the values of Roman numerals, and renders the sum as a Roman numeral.
+     *
+     * @param notation The notation of the Roman representation, if the sum is larger than
+     *                 {@link RomanNumeral#MAX_VALUE}
+     * @return A collector of either the sum, or an exception describing why it cannot be represented (e.g. because
+     *         there are no valid numerals)
+     */
+    public static Collector<CharSequence, ?, Either<RomanNumeral, RomanNumeralException>> summingToNumeral(
+            Notation notation) {
+
+        return summingToNumeral(IDENTITY, notation);
+    }
+
+    /**
+     * Sums the values of the Roman numerals in a field of each element, and renders the sum as a Roman numeral.
+     *
+     * @param numeral  Extracts the Roman numeral from an element
+     * @param notation The notation of the Roman representation, if the sum is larger than
+     *                 {@link RomanNumeral#MAX_VALUE}
+     * @param <T>      The type of the elements
+     * @return A collector of either the sum, or an exception describing why it cannot be represented (e.g. because
+     *         there are no valid numerals)
+     */
+    public static <T> Collector<T, ?, Either<RomanNumeral, RomanNumeralException>> summingToNumeral(
+            Function<? super T, ? extends CharSequence> numeral, Notation notation) {
+
+        Objects.requireNonNull(numeral, "numeral");
+        Objects.requireNonNull(notation, "notation");
+        return Collector.of(RomanSummaryStatistics::new,
+                            (stats, element) -> stats.accept(numeral.apply(element)),
+                            RomanSummaryStatistics::combine,
+                            stats -> stats.sumNumeral(notation),
+                            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Averages the values of Roman numerals.
+     *
+     * @return A collector of the arithmetic mean, which is zero if there are no valid numerals
+     */
+    public static Collector<CharSequence, ?, Double> averaging() {
+
+        return averaging(IDENTITY);
+    }
+
+    /**
+     * Averages the values of the Roman numerals in a field of each element.
+     *
+     * @param numeral Extracts the Roman numeral from an element
+     * @param <T>     The type of the elements
+     * @return A collector of the arithmetic mean, which is zero if there are no valid numerals
+     */
+    public static <T> Collector<T, ?, Double> averaging(Function<? super T, ? extends CharSequence> numeral) {
+
+        Objects.requireNonNull(numeral, "numeral");
+        // The sum, and the count
+        return Collector.of(() -> new long[2],
+                            (totals, element) -> {
+                                final long status = StandardKeys.decode(numeral.apply(element));
+                                if (!RomanNumeralError.isFailure(status)) {
+                                    totals[0] += status;
+                                    totals[1]++;
+                                }
+                            },
+                            (left, right) -> {
+                                left[0] += right[0];
+                                left[1] += right[1];
+                                return left;
+                            },
+                            totals -> totals[1] > 0 ? (double) totals[0] / totals[1] : 0.0,
+                            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Finds the smallest of some Roman numerals.
+     *
+     * @return A collector of the shared Roman numeral instance, or empty if there are no valid numerals
+     */
+    public static Collector<CharSequence, ?, Optional<RomanNumeral>> minimum() {
+
+        return minimum(IDENTITY);
+    }
+
+    /**
+     * Finds the smallest of the Roman numerals in a field of each element.
+     *
+     * @param numeral Extracts the Roman numeral from an element
+     * @param <T>     The type of the elements
+     * @return A collector of the shared Roman numeral instance, or empty if there are no valid numerals
+     */
+    public static <T> Collector<T, ?, Optional<RomanNumeral>> minimum(
+            Function<? super T, ? extends CharSequence> numeral) {
+
+        return extreme(numeral, false);
+    }
+
+    /**
+     * Finds the largest of some Roman numerals.
+     *
+     * @return A collector of the shared Roman numeral instance, or empty if there are no valid numerals
+     */
+    public static Collector<CharSequence, ?, Optional<RomanNumeral>> maximum() {
+
+        return maximum(IDENTITY);
+    }
+
+    /**
+     * Finds the largest of the Roman numerals in a field of each element.
+     *
+     * @param numeral Extracts the Roman numeral from an element
+     * @param <T>     The type of the elements
+     * @return A collector of the shared Roman numeral instance, or empty if there are no valid numerals
+     */
+    public static <T> Collector<T, ?, Optional<RomanNumeral>> maximum(
+            Function<? super T, ? extends CharSequence> numeral) {
+
+        return extreme(numeral, true);
+    }
+
+    /**
+     * Counts the distinct values of Roman numerals. Differently written numerals with the same value (e.g. 'IV' and
+     * 'iiii') are the same value.
+     *
+     * @return A collector of the number of distinct values
+     */
+    public static Collector<CharSequence, ?, Integer> countingDistinct() {
+
+        return countingDistinct(IDENTITY);
+    }
+
+    /**
+     * Counts the distinct values of the Roman numerals in a field of each element.
+     *
+     * @param numeral Extracts the Roman numeral from an element
+     * @param <T>     The type of the elements
+     * @return A collector of the number of distinct values
+     */
+    public static <T> Collector<T, ?, Integer> countingDistinct(Function<? super T, ? extends CharSequence> numeral) {
+
+        Objects.requireNonNull(numeral, "numeral");
+        return Collector.of(RomanNumeralSet::new,
+                            (seen, element) -> {
+                                final long status = StandardKeys.decode(numeral.apply(element));
+                                if (!RomanNumeralError.isFailure(status)) {
+                                    seen.add(status);
+                                }
+                            },
+                            RomanNumeralSet::union,
+                            RomanNumeralSet::cardinality,
+                            Collector.Characteristics.UNORDERED);
+    }
+
+    private static <T> Collector<T, ?, Optional<RomanNumeral>> extreme(
+            Function<? super T, ? extends CharSequence> numeral, boolean largest) {
+
+        Objects.requireNonNull(numeral, "numeral");
+        // The extreme value so far, or 0 if there is none yet
+        return Collector.of(() -> new long[1],
+                            (extreme, element) -> extreme[0] = extreme(extreme[0],
+                                                                       StandardKeys.decode(numeral.apply(element)),
+                                                                       largest),
+                            (left, right) -> {
+                                left[0] = extreme(left[0], right[0], largest);
+                                return left;
+                            },
+                            extreme -> extreme[0] > 0
+                                       ? Optional.of(RomanNumeral.canonical(extreme[0]))
+                                       : Optional.empty(),
+                            Collector.Characteristics.UNORDERED);
+    }
+
+    private static long extreme(long current, long status, boolean largest) {
+
+        if (status <= 0) {
+            return current;
+        }
+        if (current == 0) {
+            return status;
+        }
+        return largest ? Math.max(current, status) : Math.min(current, status);
+    }
+}
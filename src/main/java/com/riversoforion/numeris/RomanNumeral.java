@@ -1,24 +1,55 @@
 package com.riversoforion.numeris;
 
+import com.diffplug.common.base.Either;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.ToString;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
  * {@code RomanNumeral} implements a standard Roman numeral, in the range of 1 to 3,999.
+ * <p>
+ * Since there are only 3,999 possible values, instances are pooled: {@link #of(long)} and {@link #parse(String)} always
+ * return the same, shared instance for a given numeric value, and that instance always carries the canonical
+ * (upper-case) Roman representation. {@link #range(long, long)} streams them in order, without encoding anything.
+ * </p>
+ * <p>
+ * Larger values can be represented by opting in to one of the extended {@link Notation notations}, with
+ * {@link #of(long, Notation)} and {@link #parse(String, Notation)}. Values up to 3,999 are still the shared instances;
+ * larger values are new instances, whose Roman representation is in the requested notation.
+ * </p>
+ * <p>
+ * To keep instances compact, a {@code RomanNumeral} holds only its numeric value (and its notation). The Roman
+ * representation is served from a shared table for values up to 3,999, and encoded on demand for larger values.
+ * </p>
+ * <p>
+ * Roman numerals are ordered by their numeric values, and support arithmetic directly on those values, without
+ * encoding or parsing any Roman representation:
+ * </p>
+ * <pre>
+ * Either&lt;RomanNumeral, RomanNumeralException&gt; next = chapter.plus(1);
+ * RomanNumeral last = RomanNumeral.max(chapter, appendix);
+ * </pre>
+ * <p>
+ * Results that are out of range are returned as exceptions (without stack traces), rather than thrown, so that
+ * arithmetic in tight loops never pays for them. Results up to 3,999 are shared, so arithmetic within that range
+ * does not allocate at all; larger results are only possible if the left-hand operand is in an extended notation,
+ * and are in that notation.
+ * </p>
  */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Getter
-@ToString(doNotUseGetters = true)
-@EqualsAndHashCode(
-        of = "numericValue",
-        cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY,
-        doNotUseGetters = true
-)
-public final class RomanNumeral {
+@EqualsAndHashCode(of = "numericValue", doNotUseGetters = true)
+public final class RomanNumeral implements Comparable<RomanNumeral> {
 
     /**
      * The minimum possible value of a Roman numeral.
@@ -28,37 +59,423 @@ public final class RomanNumeral {
      * The maximum possible value of a Roman numeral.
      */
     public static final long MAX_VALUE = SharedConstants.MAX_VALUE;
+    /**
+     * The maximum length of the Roman representation of a Roman numeral (i.e. of MMMDCCCLXXXVIII).
+     */
+    public static final int MAX_LENGTH = SharedConstants.MAX_LENGTH;
 
     /**
      * Retrieves the numeric value of the Roman numeral (e.g. 11 for 'XI').
      */
+    @Getter
     private final long numericValue;
+    private final Notation notation;
+
+    private static volatile ConversionListener listener = ConversionListener.NONE;
+
     /**
-     * Retrieves the Roman representation (e.g. 'XI' for 11).
+     * Installs a listener that is notified of every call to {@link #of(long)} and {@link #parse(String)} (and their
+     * variants), e.g. to collect metrics. By default, no listener is installed.
+     *
+     * @param listener The listener, or {@link ConversionListener#NONE} to stop reporting
      */
-    private final String stringValue;
+    public static void installListener(ConversionListener listener) {
+
+        RomanNumeral.listener = Objects.requireNonNull(listener, "listener");
+    }
 
     /**
-     * Creates a new {@code RomanNumeral} with the given numeric value.
+     * Retrieves the {@code RomanNumeral} with the given numeric value.
      *
-     * @param numericValue The numeric (integral) value of the new Roman numeral.
-     * @return The newly constructed Roman numeral value.
+     * @param numericValue The numeric (integral) value of the Roman numeral.
+     * @return The shared Roman numeral instance for the value.
      */
     public static RomanNumeral of(long numericValue) throws RomanNumeralException {
 
-        String stringValue = new IntegerToRoman().convert(numericValue);
-        return new RomanNumeral(numericValue, stringValue);
+        final ConversionListener listener = RomanNumeral.listener;
+        return listener == ConversionListener.NONE
+               ? lookup(numericValue)
+               : observed(listener, ConversionListener.Direction.TO_ROMAN, () -> lookup(numericValue));
     }
 
     /**
-     * Parses the given Roman representation to create a new {@code RomanNumeral}, if possible.
+     * Retrieves the {@code RomanNumeral} with the given numeric value, in the given notation.
      *
-     * @param stringValue The Roman representation of the new Roman numeral.
-     * @return The newly constructed Roman numeral value.
+     * @param numericValue The numeric (integral) value of the Roman numeral.
+     * @param notation     The notation of the Roman representation, if the value is larger than {@link #MAX_VALUE}.
+     * @return The Roman numeral for the value.
+     */
+    public static RomanNumeral of(long numericValue, Notation notation) throws RomanNumeralException {
+
+        final ConversionListener listener = RomanNumeral.listener;
+        return listener == ConversionListener.NONE
+               ? lookup(numericValue, notation)
+               : observed(listener, ConversionListener.Direction.TO_ROMAN, () -> lookup(numericValue, notation));
+    }
+
+    /**
+     * Parses the given Roman representation to retrieve the corresponding {@code RomanNumeral}, if possible.
+     *
+     * @param stringValue The Roman representation of the Roman numeral.
+     * @return The shared Roman numeral instance for the parsed value.
      */
     public static RomanNumeral parse(String stringValue) throws RomanNumeralException {
 
-        long numericValue = new RomanToInteger().convert(stringValue);
-        return new RomanNumeral(numericValue, stringValue);
+        final ConversionListener listener = RomanNumeral.listener;
+        return listener == ConversionListener.NONE
+               ? lookup(Pool.PARSER.convert(stringValue))
+               : observed(listener, ConversionListener.Direction.TO_INTEGER,
+                          () -> lookup(Pool.PARSER.convert(stringValue)));
+    }
+
+    /**
+     * Parses the given Roman representation, in the given notation, to retrieve the corresponding
+     * {@code RomanNumeral}, if possible.
+     *
+     * @param stringValue The Roman representation of the Roman numeral.
+     * @param notation    The notation of the Roman representation.
+     * @return The Roman numeral for the parsed value, with the canonical Roman representation.
+     */
+    public static RomanNumeral parse(String stringValue, Notation notation) throws RomanNumeralException {
+
+        final ConversionListener listener = RomanNumeral.listener;
+        return listener == ConversionListener.NONE
+               ? lookup(stringValue, notation)
+               : observed(listener, ConversionListener.Direction.TO_INTEGER, () -> lookup(stringValue, notation));
+    }
+
+    private static RomanNumeral lookup(long numericValue) throws RomanNumeralException {
+
+        if (numericValue < MIN_VALUE) {
+            throw RomanNumeralException.valueTooSmall(numericValue);
+        }
+        else if (numericValue > MAX_VALUE) {
+            throw RomanNumeralException.valueTooLarge(numericValue);
+        }
+        return Pool.INSTANCES[(int) numericValue];
+    }
+
+    /**
+     * Retrieves the shared instance for a numeric value that is known to be in range, without any checks or
+     * notifications.
+     */
+    static RomanNumeral canonical(long numericValue) {
+
+        return Pool.INSTANCES[(int) numericValue];
+    }
+
+    private static RomanNumeral lookup(long numericValue, Notation notation) throws RomanNumeralException {
+
+        if (numericValue <= MAX_VALUE || notation == Notation.STANDARD) {
+            return lookup(numericValue);
+        }
+        return new RomanNumeral(numericValue, notation);
+    }
+
+    private static RomanNumeral lookup(String stringValue, Notation notation) throws RomanNumeralException {
+
+        if (notation == Notation.STANDARD) {
+            return lookup(Pool.PARSER.convert(stringValue));
+        }
+        return lookup(new RomanToInteger(notation).convert(stringValue), notation);
+    }
+
+    private static RomanNumeral observed(ConversionListener listener, ConversionListener.Direction direction,
+                                         Lookup lookup) throws RomanNumeralException {
+
+        final long start = Instrumentation.start(listener);
+        try {
+            final RomanNumeral numeral = lookup.get();
+            Instrumentation.record(listener, direction, numeral.numericValue, start);
+            return numeral;
+        }
+        catch (RomanNumeralException e) {
+            Instrumentation.record(listener, direction, e.error().status(), start);
+            throw e;
+        }
+    }
+
+    /**
+     * Adds another Roman numeral to this one.
+     *
+     * @param other The Roman numeral to add
+     * @return Either the sum, or an exception describing why it is out of range
+     */
+    public Either<RomanNumeral, RomanNumeralException> plus(RomanNumeral other) {
+
+        return plus(other.numericValue);
+    }
+
+    /**
+     * Adds a numeric value to this Roman numeral.
+     *
+     * @param numericValue The value to add, which may be negative
+     * @return Either the sum, or an exception describing why it is out of range
+     */
+    public Either<RomanNumeral, RomanNumeralException> plus(long numericValue) {
+
+        final long sum = this.numericValue + numericValue;
+        // Overflow only if both operands have the same sign, and the sum has the other sign
+        if (((this.numericValue ^ sum) & (numericValue ^ sum)) < 0) {
+            return overflow(sum > 0);
+        }
+        return result(sum);
+    }
+
+    /**
+     * Subtracts another Roman numeral from this one.
+     *
+     * @param other The Roman numeral to subtract
+     * @return Either the difference, or an exception describing why it is out of range
+     */
+    public Either<RomanNumeral, RomanNumeralException> minus(RomanNumeral other) {
+
+        return minus(other.numericValue);
+    }
+
+    /**
+     * Subtracts a numeric value from this Roman numeral.
+     *
+     * @param numericValue The value to subtract, which may be negative
+     * @return Either the difference, or an exception describing why it is out of range
+     */
+    public Either<RomanNumeral, RomanNumeralException> minus(long numericValue) {
+
+        final long difference = this.numericValue - numericValue;
+        // Overflow only if the operands have different signs, and the difference has the sign of the subtrahend
+        if (((this.numericValue ^ numericValue) & (this.numericValue ^ difference)) < 0) {
+            return overflow(difference > 0);
+        }
+        return result(difference);
+    }
+
+    /**
+     * Multiplies this Roman numeral by another one.
+     *
+     * @param other The Roman numeral to multiply by
+     * @return Either the product, or an exception describing why it is out of range
+     */
+    public Either<RomanNumeral, RomanNumeralException> times(RomanNumeral other) {
+
+        return times(other.numericValue);
+    }
+
+    /**
+     * Multiplies this Roman numeral by a numeric value.
+     *
+     * @param numericValue The value to multiply by, which may be negative
+     * @return Either the product, or an exception describing why it is out of range
+     */
+    public Either<RomanNumeral, RomanNumeralException> times(long numericValue) {
+
+        final long product = this.numericValue * numericValue;
+        // This numeral is positive, so the product overflowed if its high bits are not just the extended sign
+        if (Math.multiplyHigh(this.numericValue, numericValue) != product >> (Long.SIZE - 1)) {
+            return overflow(numericValue < 0);
+        }
+        return result(product);
+    }
+
+    /**
+     * Retrieves the smaller of two Roman numerals.
+     *
+     * @param first  A Roman numeral
+     * @param second Another Roman numeral
+     * @return The one with the smaller numeric value, or the first if they are equal
+     */
+    public static RomanNumeral min(RomanNumeral first, RomanNumeral second) {
+
+        return second.numericValue < first.numericValue ? second : first;
+    }
+
+    /**
+     * Retrieves the larger of two Roman numerals.
+     *
+     * @param first  A Roman numeral
+     * @param second Another Roman numeral
+     * @return The one with the larger numeric value, or the first if they are equal
+     */
+    public static RomanNumeral max(RomanNumeral first, RomanNumeral second) {
+
+        return second.numericValue > first.numericValue ? second : first;
+    }
+
+    /**
+     * Compares Roman numerals by their numeric values, consistently with {@link #equals(Object)}.
+     */
+    @Override
+    public int compareTo(RomanNumeral other) {
+
+        return Long.compare(this.numericValue, other.numericValue);
+    }
+
+    /**
+     * Streams the Roman numerals in a range, in ascending order. The numerals are the shared instances, so nothing is
+     * encoded or allocated per numeral, and the stream splits evenly for parallel processing:
+     * <pre>
+     * List&lt;String&gt; labels = RomanNumeral.range(1, 12).map(RomanNumeral::stringValue).collect(toList());
+     * </pre>
+     *
+     * @param first The numeric value of the first Roman numeral, inclusive
+     * @param last  The numeric value of the last Roman numeral, inclusive; if it is before the first, the stream is
+     *              empty
+     * @return A stream of the shared Roman numeral instances
+     * @throws RomanNumeralException If either value is out of range
+     */
+    public static Stream<RomanNumeral> range(long first, long last) throws RomanNumeralException {
+
+        return StreamSupport.stream(new Range(first, last), false);
+    }
+
+    /**
+     * Iterates over the Roman numerals in a range, in ascending order, like {@link #range(long, long)}.
+     *
+     * @param first The numeric value of the first Roman numeral, inclusive
+     * @param last  The numeric value of the last Roman numeral, inclusive; if it is before the first, there are no
+     *              numerals
+     * @return An iterator of the shared Roman numeral instances
+     * @throws RomanNumeralException If either value is out of range
+     */
+    public static Iterator<RomanNumeral> rangeIterator(long first, long last) throws RomanNumeralException {
+
+        return Spliterators.iterator(new Range(first, last));
+    }
+
+    // Results beyond the standard range keep the notation of this numeral, if it allows them
+    private Either<RomanNumeral, RomanNumeralException> result(long numericValue) {
+
+        if (numericValue >= MIN_VALUE && numericValue <= MAX_VALUE) {
+            return Pool.RESULTS[(int) numericValue];
+        }
+        if (numericValue < MIN_VALUE || numericValue > this.notation.maxValue()) {
+            return Either.createRight(RomanNumeralException.outOfRange(numericValue, false));
+        }
+        return Either.createLeft(new RomanNumeral(numericValue, this.notation));
+    }
+
+    // A result that overflowed a long is reported as the nearest long value, which is just as out of range
+    private static Either<RomanNumeral, RomanNumeralException> overflow(boolean negative) {
+
+        return Either.createRight(RomanNumeralException.outOfRange(negative ? Long.MIN_VALUE : Long.MAX_VALUE, false));
+    }
+
+    /**
+     * Retrieves the Roman representation (e.g. 'XI' for 11).
+     */
+    public String stringValue() {
+
+        return this.numericValue <= MAX_VALUE
+               ? Pool.STRINGS[(int) this.numericValue]
+               : ExtendedNumerals.encode(this.notation, this.numericValue);
+    }
+
+    @Override
+    public String toString() {
+
+        return "RomanNumeral(numericValue=" + this.numericValue + ", stringValue=" + stringValue() + ")";
+    }
+
+    /**
+     * Splits a range of the shared instances into halves, by numeric value, so that its size is always exact.
+     */
+    private static final class Range implements Spliterator<RomanNumeral> {
+
+        private static final int CHARACTERISTICS = ORDERED | SORTED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+
+        private int next;
+        private final int end;
+
+        Range(long first, long last) throws RomanNumeralException {
+
+            this((int) lookup(first).numericValue, (int) Math.max(lookup(last).numericValue, first - 1) + 1);
+        }
+
+        private Range(int next, int end) {
+
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super RomanNumeral> action) {
+
+            Objects.requireNonNull(action, "action");
+            if (this.next >= this.end) {
+                return false;
+            }
+            action.accept(Pool.INSTANCES[this.next++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super RomanNumeral> action) {
+
+            Objects.requireNonNull(action, "action");
+            final int from = this.next;
+            this.next = this.end;
+            for (int value = from; value < this.end; value++) {
+                action.accept(Pool.INSTANCES[value]);
+            }
+        }
+
+        @Override
+        public Spliterator<RomanNumeral> trySplit() {
+
+            final int middle = (this.next + this.end) >>> 1;
+            if (middle <= this.next) {
+                return null;
+            }
+            final Spliterator<RomanNumeral> prefix = new Range(this.next, middle);
+            this.next = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return this.end - this.next;
+        }
+
+        @Override
+        public int characteristics() {
+
+            return CHARACTERISTICS;
+        }
+
+        @Override
+        public Comparator<? super RomanNumeral> getComparator() {
+
+            // Sorted by natural order
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+
+        RomanNumeral get() throws RomanNumeralException;
+    }
+
+    /**
+     * Holds the canonical instances, their Roman representations and their arithmetic results, indexed by numeric
+     * value. Initialized on first use; the JVM's class initialization guarantees make this thread-safe without further
+     * locking.
+     */
+    private static final class Pool {
+
+        private static final RomanToInteger PARSER = new RomanToInteger();
+        private static final RomanNumeral[] INSTANCES = new RomanNumeral[(int) MAX_VALUE + 1];
+        private static final String[] STRINGS = new String[(int) MAX_VALUE + 1];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static final Either<RomanNumeral, RomanNumeralException>[] RESULTS = new Either[(int) MAX_VALUE + 1];
+
+        static {
+            final IntegerToRoman encoder = new IntegerToRoman();
+            for (int value = (int) MIN_VALUE; value <= MAX_VALUE; value++) {
+                INSTANCES[value] = new RomanNumeral(value, Notation.STANDARD);
+                STRINGS[value] = encoder.apply(value).getLeft();
+                RESULTS[value] = Either.createLeft(INSTANCES[value]);
+            }
+        }
     }
 }
@@ -0,0 +1,456 @@
+package com.riversoforion.numeris;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+
+/**
+ * A growable list of Roman numerals, stored compactly as their numeric values in a {@code short[]}: every value, from
+ * 1 to 3,999, fits in two bytes, compared with a reference (and, for a list of values, a boxed {@code Long}) per
+ * element in a {@code List}.
+ * <pre>
+ * RomanNumeralArray chapters = new RomanNumeralArray();
+ * chapters.addAll(numerals, errors);
+ * chapters.sort();
+ * boolean hasTwelve = chapters.binarySearch(12) &gt;= 0;
+ * chapters.forEach((long chapter) -&gt; index.add(chapter));
+ * </pre>
+ * <p>
+ * Elements are read as primitive values (see {@link #get(int)}, {@link #forEach(LongConsumer)}, {@link #iterator()}
+ * and {@link #stream()}), or through the {@link #asNumerals()} and {@link #asStrings()} views, which retrieve the
+ * shared {@link RomanNumeral} instances on demand. Only the {@link Notation#STANDARD standard} range is supported.
+ * </p>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is mutable and not thread-safe.
+ * </p>
+ */
+public final class RomanNumeralArray {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final short[] EMPTY = new short[0];
+
+    private short[] values;
+    private int size;
+
+    /**
+     * Creates an empty array.
+     */
+    public RomanNumeralArray() {
+
+        this.values = EMPTY;
+    }
+
+    /**
+     * Creates an empty array, with room for some elements before it has to grow.
+     *
+     * @param initialCapacity The number of elements to make room for
+     * @throws IllegalArgumentException If the capacity is negative
+     */
+    public RomanNumeralArray(int initialCapacity) {
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(String.format("Illegal capacity: %d", initialCapacity));
+        }
+        this.values = initialCapacity == 0 ? EMPTY : new short[initialCapacity];
+    }
+
+    /**
+     * Creates an array of the given values.
+     *
+     * @param numericValues The values, each from {@link RomanNumeral#MIN_VALUE} to {@link RomanNumeral#MAX_VALUE}
+     * @return The new array
+     * @throws IllegalArgumentException If a value is out of range
+     */
+    public static RomanNumeralArray of(long... numericValues) {
+
+        final RomanNumeralArray array = new RomanNumeralArray(numericValues.length);
+        array.addAll(numericValues, 0, numericValues.length);
+        return array;
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param numericValue The value, from {@link RomanNumeral#MIN_VALUE} to {@link RomanNumeral#MAX_VALUE}
+     * @throws IllegalArgumentException If the value is out of range
+     */
+    public void add(long numericValue) {
+
+        final short value = check(numericValue);
+        ensureCapacity(this.size + 1);
+        this.values[this.size++] = value;
+    }
+
+    /**
+     * Appends the value of a Roman numeral.
+     *
+     * @param numeral The Roman numeral
+     * @throws IllegalArgumentException If the numeral is beyond the standard range
+     */
+    public void add(RomanNumeral numeral) {
+
+        add(numeral.numericValue());
+    }
+
+    /**
+     * Decodes a Roman numeral, in the {@link Notation#STANDARD standard notation}, and appends its value.
+     *
+     * @param romanValue The Roman numeral (may be {@code null})
+     * @return Whether the numeral could be decoded and was appended
+     */
+    public boolean add(CharSequence romanValue) {
+
+        final long status = StandardKeys.decode(romanValue);
+        if (RomanNumeralError.isFailure(status)) {
+            return false;
+        }
+        add(status);
+        return true;
+    }
+
+    /**
+     * Appends a range of values. Either all of them are appended, or none are.
+     *
+     * @param numericValues The values, each from {@link RomanNumeral#MIN_VALUE} to {@link RomanNumeral#MAX_VALUE}
+     * @param from          The index of the first value to append
+     * @param to            The index after the last value to append
+     * @throws IllegalArgumentException If a value is out of range
+     */
+    public void addAll(long[] numericValues, int from, int to) {
+
+        Objects.checkFromToIndex(from, to, numericValues.length);
+        for (int i = from; i < to; i++) {
+            check(numericValues[i]);
+        }
+        ensureCapacity(this.size + to - from);
+        for (int i = from; i < to; i++) {
+            this.values[this.size++] = (short) numericValues[i];
+        }
+    }
+
+    /**
+     * Decodes Roman numerals, in the {@link Notation#STANDARD standard notation}, and appends the values of those
+     * that could be decoded, in order. Failures are recorded in the given {@link ConversionErrors}, as with
+     * {@link RomanToInteger#convertAll(CharSequence[], ConversionErrors)}.
+     *
+     * @param romanValues The Roman numerals (e.g. a {@code String[]})
+     * @param errors      Receives the failures, by index in the Roman numerals; any failures from a previous batch are
+     *                    cleared
+     * @return The number of values appended
+     */
+    public int addAll(CharSequence[] romanValues, ConversionErrors errors) {
+
+        errors.reset(romanValues.length);
+        final byte[] codes = errors.codeArray();
+        ensureCapacity(this.size + romanValues.length);
+        int failures = 0;
+        for (int i = 0; i < romanValues.length; i++) {
+            final long status = StandardKeys.decode(romanValues[i]);
+            if (RomanNumeralError.isFailure(status)) {
+                codes[i] = RomanNumeralError.codeOf(status);
+                failures++;
+            }
+            else {
+                this.values[this.size++] = (short) status;
+            }
+        }
+        errors.indexFailures(failures);
+        return romanValues.length - failures;
+    }
+
+    /**
+     * Appends all the values of another array.
+     *
+     * @param other The other array
+     */
+    public void addAll(RomanNumeralArray other) {
+
+        final int count = other.size;
+        ensureCapacity(this.size + count);
+        System.arraycopy(other.values, 0, this.values, this.size, count);
+        this.size += count;
+    }
+
+    /**
+     * Retrieves the value of an element.
+     *
+     * @param index The index of the element
+     * @return The numeric value
+     * @throws IndexOutOfBoundsException If the index is out of range
+     */
+    public long get(int index) {
+
+        Objects.checkIndex(index, this.size);
+        return this.values[index];
+    }
+
+    /**
+     * Retrieves an element as a Roman numeral.
+     *
+     * @param index The index of the element
+     * @return The shared Roman numeral instance
+     * @throws IndexOutOfBoundsException If the index is out of range
+     */
+    public RomanNumeral getNumeral(int index) {
+
+        return RomanNumeral.canonical(get(index));
+    }
+
+    /**
+     * Retrieves the canonical Roman representation of an element.
+     *
+     * @param index The index of the element
+     * @return The shared Roman representation
+     * @throws IndexOutOfBoundsException If the index is out of range
+     */
+    public String getString(int index) {
+
+        return getNumeral(index).stringValue();
+    }
+
+    /**
+     * Replaces the value of an element.
+     *
+     * @param index        The index of the element
+     * @param numericValue The new value, from {@link RomanNumeral#MIN_VALUE} to {@link RomanNumeral#MAX_VALUE}
+     * @return The previous value
+     * @throws IndexOutOfBoundsException If the index is out of range
+     * @throws IllegalArgumentException  If the value is out of range
+     */
+    public long set(int index, long numericValue) {
+
+        Objects.checkIndex(index, this.size);
+        final short previous = this.values[index];
+        this.values[index] = check(numericValue);
+        return previous;
+    }
+
+    /**
+     * Retrieves the number of elements.
+     */
+    public int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Whether there are no elements.
+     */
+    public boolean isEmpty() {
+
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all elements, keeping the capacity.
+     */
+    public void clear() {
+
+        this.size = 0;
+    }
+
+    /**
+     * Makes room for a number of elements, so that appending up to that many does not have to grow the array.
+     *
+     * @param minCapacity The number of elements to make room for
+     */
+    public void ensureCapacity(int minCapacity) {
+
+        if (minCapacity > this.values.length) {
+            final int grown = this.values.length + (this.values.length >> 1);
+            this.values = Arrays.copyOf(this.values, Math.max(Math.max(minCapacity, grown), DEFAULT_CAPACITY));
+        }
+    }
+
+    /**
+     * Releases any capacity beyond the current number of elements.
+     */
+    public void trimToSize() {
+
+        if (this.values.length > this.size) {
+            this.values = this.size == 0 ? EMPTY : Arrays.copyOf(this.values, this.size);
+        }
+    }
+
+    /**
+     * Sorts the elements in ascending order.
+     */
+    public void sort() {
+
+        Arrays.sort(this.values, 0, this.size);
+    }
+
+    /**
+     * Searches for a value, in an array that is {@link #sort() sorted}. The result is undefined if it is not.
+     *
+     * @param numericValue The value to search for
+     * @return The index of the value, if found; otherwise, {@code (-(insertion point) - 1)}, as with
+     *         {@link Arrays#binarySearch(short[], short)}
+     */
+    public int binarySearch(long numericValue) {
+
+        if (numericValue < SharedConstants.MIN_VALUE) {
+            return -1;
+        }
+        if (numericValue > SharedConstants.MAX_VALUE) {
+            return -this.size - 1;
+        }
+        return Arrays.binarySearch(this.values, 0, this.size, (short) numericValue);
+    }
+
+    /**
+     * Performs an action on the value of each element, in order.
+     *
+     * @param action The action to perform
+     */
+    public void forEach(LongConsumer action) {
+
+        Objects.requireNonNull(action, "action");
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.values[i]);
+        }
+    }
+
+    /**
+     * Iterates over the values of the elements, without boxing. The array must not be modified during the iteration.
+     *
+     * @return An iterator of the numeric values
+     */
+    public PrimitiveIterator.OfLong iterator() {
+
+        return new PrimitiveIterator.OfLong() {
+
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+
+                return this.cursor < RomanNumeralArray.this.size;
+            }
+
+            @Override
+            public long nextLong() {
+
+                if (this.cursor >= RomanNumeralArray.this.size) {
+                    throw new NoSuchElementException();
+                }
+                return RomanNumeralArray.this.values[this.cursor++];
+            }
+        };
+    }
+
+    /**
+     * Streams the values of the elements. The array must not be modified while the stream is used.
+     *
+     * @return A stream of the numeric values
+     */
+    public LongStream stream() {
+
+        final short[] elements = this.values;
+        return IntStream.range(0, this.size).mapToLong(i -> elements[i]);
+    }
+
+    /**
+     * Copies the values of the elements.
+     *
+     * @return A new array of the numeric values
+     */
+    public long[] toArray() {
+
+        final long[] numericValues = new long[this.size];
+        for (int i = 0; i < this.size; i++) {
+            numericValues[i] = this.values[i];
+        }
+        return numericValues;
+    }
+
+    /**
+     * Views the elements as Roman numerals. The view is read-only, reflects later changes to this array, and
+     * retrieves the shared instances on demand.
+     *
+     * @return A list view of the Roman numerals
+     */
+    public List<RomanNumeral> asNumerals() {
+
+        return new View<>() {
+
+            @Override
+            public RomanNumeral get(int index) {
+
+                return getNumeral(index);
+            }
+        };
+    }
+
+    /**
+     * Views the elements as canonical Roman representations. The view is read-only, and reflects later changes to this
+     * array.
+     *
+     * @return A list view of the Roman representations
+     */
+    public List<String> asStrings() {
+
+        return new View<>() {
+
+            @Override
+            public String get(int index) {
+
+                return getString(index);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RomanNumeralArray)) {
+            return false;
+        }
+        final RomanNumeralArray that = (RomanNumeralArray) other;
+        return Arrays.equals(this.values, 0, this.size, that.values, 0, that.size);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int hash = 1;
+        for (int i = 0; i < this.size; i++) {
+            hash = 31 * hash + this.values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+
+        return asStrings().toString();
+    }
+
+    private static short check(long numericValue) {
+
+        if (numericValue < SharedConstants.MIN_VALUE || numericValue > SharedConstants.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("%d is not a Roman numeral value", numericValue));
+        }
+        return (short) numericValue;
+    }
+
+    private abstract class View<E> extends AbstractList<E> implements RandomAccess {
+
+        @Override
+        public int size() {
+
+            return RomanNumeralArray.this.size;
+        }
+    }
+}
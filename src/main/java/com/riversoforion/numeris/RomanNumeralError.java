@@ -0,0 +1,155 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Optional;
+
+
+/**
+ * The reasons a conversion between Roman numerals and numeric values can fail. Each reason has a compact
+ * {@linkplain #code() code}, so that failures can be reported without creating exceptions.
+ * <p>
+ * The exception-free conversion methods (e.g. {@link RomanToInteger#tryConvert(CharSequence)}) return a
+ * {@code long} <em>status</em>: either the (non-negative) result of the conversion, or a negative value that packs
+ * the error code together with the position of the offending character, when there is one. The static methods of
+ * this class decode statuses, without allocating.
+ * </p>
+ * <pre>
+ * long status = new RomanToInteger().tryConvert(field);
+ * if (RomanNumeralError.isFailure(status)) {
+ *     log(RomanNumeralError.fromStatus(status), RomanNumeralError.positionOf(status));
+ * }
+ * </pre>
+ *
+ * @see ConversionErrors
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public enum RomanNumeralError {
+
+    /**
+     * Value provided was empty.
+     *
+     * @see RomanNumeralException#emptyValue()
+     */
+    EMPTY_VALUE((byte) 1),
+    /**
+     * Value provided was too small.
+     *
+     * @see RomanNumeralException#valueTooSmall(long)
+     */
+    VALUE_TOO_SMALL((byte) 2),
+    /**
+     * Value provided was too large.
+     *
+     * @see RomanNumeralException#valueTooLarge(long)
+     */
+    VALUE_TOO_LARGE((byte) 3),
+    /**
+     * Value provided did not represent a valid Roman numeral.
+     *
+     * @see RomanNumeralException#unparseable(String)
+     */
+    UNPARSEABLE((byte) 4);
+
+    /**
+     * The code used to indicate that there was no error.
+     */
+    public static final byte NONE = 0;
+
+    private static final int CODE_BITS = 8;
+    private static final long CODE_MASK = (1L << CODE_BITS) - 1;
+    private static final RomanNumeralError[] BY_CODE = {
+            null, EMPTY_VALUE, VALUE_TOO_SMALL, VALUE_TOO_LARGE, UNPARSEABLE
+    };
+
+    /**
+     * Retrieves the compact code for this error. Codes are always positive.
+     */
+    private final byte code;
+
+    /**
+     * Looks up the error with the given code.
+     *
+     * @param code The code of the error
+     * @return The error, or empty if the code is {@link #NONE} or unknown
+     */
+    public static Optional<RomanNumeralError> fromCode(byte code) {
+
+        if (code <= NONE || code >= BY_CODE.length) {
+            return Optional.empty();
+        }
+        return Optional.of(BY_CODE[code]);
+    }
+
+    /**
+     * Determines whether the given status indicates a failure.
+     *
+     * @param status The status returned by an exception-free conversion
+     * @return {@code true} if the conversion failed
+     */
+    public static boolean isFailure(long status) {
+
+        return status < 0;
+    }
+
+    /**
+     * Retrieves the error from the given status.
+     *
+     * @param status The status returned by an exception-free conversion
+     * @return The error, or empty if the conversion succeeded
+     */
+    public static Optional<RomanNumeralError> fromStatus(long status) {
+
+        return fromCode(codeOf(status));
+    }
+
+    /**
+     * Retrieves the position of the offending character from the given status, relative to the start of the input.
+     *
+     * @param status The status returned by an exception-free conversion
+     * @return The position, or {@code -1} if the conversion succeeded or the failure has no position (e.g. the value
+     *         was empty or out of range)
+     */
+    public static int positionOf(long status) {
+
+        return status < 0 ? (int) (~status >>> CODE_BITS) - 1 : -1;
+    }
+
+    /**
+     * Creates a failure status for this error, without a position, e.g. to report a failure from one's own
+     * exception-free conversion in the same way as the conversions of this library.
+     *
+     * @return A negative status, which {@link #fromStatus(long)} maps back to this error
+     */
+    public long status() {
+
+        return status(-1);
+    }
+
+    /**
+     * Retrieves the error code from the given status.
+     */
+    static byte codeOf(long status) {
+
+        return status < 0 ? (byte) (~status & CODE_MASK) : NONE;
+    }
+
+    /**
+     * Retrieves the error from the given failure status, without allocating.
+     */
+    static RomanNumeralError errorOf(long status) {
+
+        return BY_CODE[codeOf(status)];
+    }
+
+    /**
+     * Creates a failure status for this error, at the given position (or {@code -1} for none).
+     */
+    long status(int position) {
+
+        return ~((long) (position + 1) << CODE_BITS | this.code);
+    }
+}
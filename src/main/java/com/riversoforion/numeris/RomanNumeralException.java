@@ -3,39 +3,52 @@ package com.riversoforion.numeris;
 import lombok.Getter;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.OptionalLong;
 
 
 /**
  * Exception class to indicate an error converting between Roman numerals and integral values.
+ * <p>
+ * The message is only formatted when it is requested. Exceptions that are thrown (e.g. by
+ * {@link RomanToInteger#convert(String)}) capture a stack trace as usual; those that are only returned as values
+ * (e.g. by {@link RomanToInteger#apply(String)}) do not, since they are never thrown from the point of failure.
+ * </p>
  */
 @Getter
 @SuppressWarnings({ "OptionalUsedAsFieldOrParameterType", "java:S1948" })
 public final class RomanNumeralException extends Exception {
 
+    /**
+     * Retrieves the reason for the failure.
+     */
+    private final RomanNumeralError error;
     private final OptionalLong numericValue;
     private final Optional<String> stringValue;
+    /**
+     * Retrieves the position of the offending character, relative to the start of the input, if known.
+     */
+    private final OptionalInt position;
 
-    RomanNumeralException(String message) {
-
-        this(message, null, OptionalLong.empty(), Optional.empty());
-    }
-
-    RomanNumeralException(String message, OptionalLong numericValue) {
-
-        this(message, null, numericValue, Optional.empty());
-    }
-
-    RomanNumeralException(String message, Optional<String> stringValue) {
+    private RomanNumeralException(RomanNumeralError error, OptionalLong numericValue, Optional<String> stringValue,
+                                  OptionalInt position, boolean withStackTrace) {
 
-        this(message, null, OptionalLong.empty(), stringValue);
+        super(null, null, withStackTrace, withStackTrace);
+        this.error = error;
+        this.numericValue = numericValue;
+        this.stringValue = stringValue;
+        this.position = position;
     }
 
-    RomanNumeralException(String message, Throwable cause, OptionalLong numericValue, Optional<String> stringValue) {
+    @Override
+    public String getMessage() {
 
-        super(message, cause);
-        this.numericValue = numericValue;
-        this.stringValue = stringValue;
+        return switch (this.error) {
+            case EMPTY_VALUE -> "Empty value";
+            case VALUE_TOO_SMALL -> String.format("%d is too small", this.numericValue.orElseThrow());
+            case VALUE_TOO_LARGE -> String.format("%d is too large", this.numericValue.orElseThrow());
+            case UNPARSEABLE -> String.format("%s is not a valid a Roman numeral", this.stringValue.orElseThrow());
+        };
     }
 
     /**
@@ -43,7 +56,8 @@ public final class RomanNumeralException extends Exception {
      */
     public static RomanNumeralException emptyValue() {
 
-        return new RomanNumeralException("Empty value");
+        return new RomanNumeralException(RomanNumeralError.EMPTY_VALUE,
+                                         OptionalLong.empty(), Optional.empty(), OptionalInt.empty(), true);
     }
 
     /**
@@ -54,7 +68,8 @@ public final class RomanNumeralException extends Exception {
      */
     public static RomanNumeralException valueTooSmall(long value) {
 
-        return new RomanNumeralException(String.format("%d is too small", value), OptionalLong.empty());
+        return new RomanNumeralException(RomanNumeralError.VALUE_TOO_SMALL,
+                                         OptionalLong.of(value), Optional.empty(), OptionalInt.empty(), true);
     }
 
     /**
@@ -65,7 +80,8 @@ public final class RomanNumeralException extends Exception {
      */
     public static RomanNumeralException valueTooLarge(long value) {
 
-        return new RomanNumeralException(String.format("%d is too large", value), OptionalLong.empty());
+        return new RomanNumeralException(RomanNumeralError.VALUE_TOO_LARGE,
+                                         OptionalLong.of(value), Optional.empty(), OptionalInt.empty(), true);
     }
 
     /**
@@ -75,6 +91,46 @@ public final class RomanNumeralException extends Exception {
      */
     public static RomanNumeralException unparseable(String value) {
 
-        return new RomanNumeralException(String.format("%s is not a valid a Roman numeral", value), Optional.of(value));
+        return new RomanNumeralException(RomanNumeralError.UNPARSEABLE,
+                                         OptionalLong.empty(), Optional.of(value), OptionalInt.empty(), true);
+    }
+
+    /**
+     * Value provided did not represent a valid Roman numeral.
+     *
+     * @param value    The value that could not be converted
+     * @param position The position of the first character that could not be parsed
+     */
+    public static RomanNumeralException unparseable(String value, int position) {
+
+        return new RomanNumeralException(RomanNumeralError.UNPARSEABLE,
+                                         OptionalLong.empty(), Optional.of(value), OptionalInt.of(position), true);
+    }
+
+    /**
+     * Value provided cannot be converted because it was outside the valid range (too small or too large).
+     */
+    static RomanNumeralException outOfRange(long value, boolean withStackTrace) {
+
+        return new RomanNumeralException(value < SharedConstants.MIN_VALUE
+                                         ? RomanNumeralError.VALUE_TOO_SMALL
+                                         : RomanNumeralError.VALUE_TOO_LARGE,
+                                         OptionalLong.of(value), Optional.empty(), OptionalInt.empty(), withStackTrace);
+    }
+
+    /**
+     * Builds the exception for a failed parse, as described by the status from an exception-free conversion.
+     *
+     * @param status The failure status
+     * @param value  The (normalized) value that could not be converted
+     */
+    static RomanNumeralException fromStatus(long status, String value, boolean withStackTrace) {
+
+        final int position = RomanNumeralError.positionOf(status);
+        return new RomanNumeralException(RomanNumeralError.fromStatus(status).orElseThrow(),
+                                         OptionalLong.empty(),
+                                         Optional.ofNullable(value),
+                                         position < 0 ? OptionalInt.empty() : OptionalInt.of(position),
+                                         withStackTrace);
     }
 }
@@ -0,0 +1,336 @@
+package com.riversoforion.numeris;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.ObjLongConsumer;
+
+
+/**
+ * A map from Roman numeral to {@code long}, stored as a flat array indexed by numeric value, like
+ * {@link RomanNumeralMap}, but without boxing the values.
+ * <pre>
+ * RomanNumeralLongMap pageCounts = new RomanNumeralLongMap();
+ * pageCounts.addTo("XII", 24);
+ * long pages = pageCounts.get(12);
+ * </pre>
+ * <p>
+ * Keys are accepted as {@link RomanNumeral}s, numeric values or Roman numerals in text, and only in the standard
+ * range, as in {@link RomanNumeralMap}: a numeral beyond it is never a key, even one that {@link RomanToInteger}
+ * decodes (e.g. {@code "MMMM"}). Retrieving the value of a key that has none returns zero, or a given default value.
+ * </p>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is mutable and not thread-safe.
+ * </p>
+ */
+public final class RomanNumeralLongMap {
+
+    private final long[] values = new long[StandardKeys.CAPACITY];
+    // The keys with a value, as a bitset
+    private final long[] present = new long[StandardKeys.WORDS];
+    private int size;
+
+    /**
+     * Retrieves the value for a key.
+     *
+     * @param numericValue The numeric value of the key
+     * @return The value, or zero if there is none
+     */
+    public long get(long numericValue) {
+
+        return valueAt(StandardKeys.key(numericValue), 0L);
+    }
+
+    /**
+     * Retrieves the value for a key.
+     *
+     * @param numeral The key
+     * @return The value, or zero if there is none
+     */
+    public long get(RomanNumeral numeral) {
+
+        return valueAt(StandardKeys.key(numeral), 0L);
+    }
+
+    /**
+     * Retrieves the value for a key, given as text.
+     *
+     * @param romanValue The key, as a Roman numeral (may be {@code null})
+     * @return The value, or zero if there is none, or the numeral cannot be decoded
+     */
+    public long get(CharSequence romanValue) {
+
+        return valueAt(StandardKeys.key(romanValue), 0L);
+    }
+
+    /**
+     * Retrieves the value for a key, or a default value.
+     *
+     * @param numericValue The numeric value of the key
+     * @param defaultValue The value to return if there is none for the key
+     * @return The value
+     */
+    public long getOrDefault(long numericValue, long defaultValue) {
+
+        return valueAt(StandardKeys.key(numericValue), defaultValue);
+    }
+
+    /**
+     * Retrieves the value for a key, or a default value.
+     *
+     * @param numeral      The key
+     * @param defaultValue The value to return if there is none for the key
+     * @return The value
+     */
+    public long getOrDefault(RomanNumeral numeral, long defaultValue) {
+
+        return valueAt(StandardKeys.key(numeral), defaultValue);
+    }
+
+    /**
+     * Retrieves the value for a key, given as text, or a default value.
+     *
+     * @param romanValue   The key, as a Roman numeral (may be {@code null})
+     * @param defaultValue The value to return if there is none for the key, or the numeral cannot be decoded
+     * @return The value
+     */
+    public long getOrDefault(CharSequence romanValue, long defaultValue) {
+
+        return valueAt(StandardKeys.key(romanValue), defaultValue);
+    }
+
+    /**
+     * Whether there is a value for a key.
+     *
+     * @param numericValue The numeric value of the key
+     */
+    public boolean containsKey(long numericValue) {
+
+        return isPresent(StandardKeys.key(numericValue));
+    }
+
+    /**
+     * Whether there is a value for a key.
+     *
+     * @param numeral The key
+     */
+    public boolean containsKey(RomanNumeral numeral) {
+
+        return isPresent(StandardKeys.key(numeral));
+    }
+
+    /**
+     * Whether there is a value for a key, given as text.
+     *
+     * @param romanValue The key, as a Roman numeral (may be {@code null})
+     */
+    public boolean containsKey(CharSequence romanValue) {
+
+        return isPresent(StandardKeys.key(romanValue));
+    }
+
+    /**
+     * Associates a value with a key.
+     *
+     * @param numericValue The numeric value of the key, from {@link RomanNumeral#MIN_VALUE} to
+     *                     {@link RomanNumeral#MAX_VALUE}
+     * @param value        The value
+     * @return The previous value, or zero if there was none
+     * @throws IllegalArgumentException If the key is out of range
+     */
+    public long put(long numericValue, long value) {
+
+        return putAt(StandardKeys.requireKey(numericValue), value);
+    }
+
+    /**
+     * Associates a value with a key.
+     *
+     * @param numeral The key, in the standard range
+     * @param value   The value
+     * @return The previous value, or zero if there was none
+     * @throws IllegalArgumentException If the key is beyond the standard range
+     */
+    public long put(RomanNumeral numeral, long value) {
+
+        return putAt(StandardKeys.requireKey(numeral.numericValue()), value);
+    }
+
+    /**
+     * Associates a value with a key, given as text.
+     *
+     * @param romanValue The key, as a Roman numeral
+     * @param value      The value
+     * @return The previous value, or zero if there was none
+     * @throws IllegalArgumentException If the numeral cannot be decoded
+     */
+    public long put(CharSequence romanValue, long value) {
+
+        return putAt(StandardKeys.requireKey(romanValue), value);
+    }
+
+    /**
+     * Adds an increment to the value for a key, treating a missing value as zero.
+     *
+     * @param numericValue The numeric value of the key, from {@link RomanNumeral#MIN_VALUE} to
+     *                     {@link RomanNumeral#MAX_VALUE}
+     * @param increment    The amount to add
+     * @return The new value
+     * @throws IllegalArgumentException If the key is out of range
+     */
+    public long addTo(long numericValue, long increment) {
+
+        return addAt(StandardKeys.requireKey(numericValue), increment);
+    }
+
+    /**
+     * Adds an increment to the value for a key, treating a missing value as zero.
+     *
+     * @param numeral   The key, in the standard range
+     * @param increment The amount to add
+     * @return The new value
+     * @throws IllegalArgumentException If the key is beyond the standard range
+     */
+    public long addTo(RomanNumeral numeral, long increment) {
+
+        return addAt(StandardKeys.requireKey(numeral.numericValue()), increment);
+    }
+
+    /**
+     * Adds an increment to the value for a key, given as text, treating a missing value as zero.
+     *
+     * @param romanValue The key, as a Roman numeral
+     * @param increment  The amount to add
+     * @return The new value
+     * @throws IllegalArgumentException If the numeral cannot be decoded
+     */
+    public long addTo(CharSequence romanValue, long increment) {
+
+        return addAt(StandardKeys.requireKey(romanValue), increment);
+    }
+
+    /**
+     * Removes the value for a key.
+     *
+     * @param numericValue The numeric value of the key
+     * @return The removed value, or zero if there was none
+     */
+    public long remove(long numericValue) {
+
+        return removeAt(StandardKeys.key(numericValue));
+    }
+
+    /**
+     * Removes the value for a key.
+     *
+     * @param numeral The key
+     * @return The removed value, or zero if there was none
+     */
+    public long remove(RomanNumeral numeral) {
+
+        return removeAt(StandardKeys.key(numeral));
+    }
+
+    /**
+     * Removes the value for a key, given as text.
+     *
+     * @param romanValue The key, as a Roman numeral (may be {@code null})
+     * @return The removed value, or zero if there was none, or the numeral cannot be decoded
+     */
+    public long remove(CharSequence romanValue) {
+
+        return removeAt(StandardKeys.key(romanValue));
+    }
+
+    /**
+     * Retrieves the number of keys with a value.
+     */
+    public int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Whether there are no values.
+     */
+    public boolean isEmpty() {
+
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+
+        Arrays.fill(this.values, 0L);
+        Arrays.fill(this.present, 0L);
+        this.size = 0;
+    }
+
+    /**
+     * Performs an action on each key and value, in ascending order of the keys.
+     *
+     * @param action The action to perform, given the shared Roman numeral instance for each key
+     */
+    public void forEach(ObjLongConsumer<? super RomanNumeral> action) {
+
+        Objects.requireNonNull(action, "action");
+        for (int word = 0; word < this.present.length; word++) {
+            for (long bits = this.present[word]; bits != 0; bits &= bits - 1) {
+                final int key = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                action.accept(RomanNumeral.canonical(key), this.values[key]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        final StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach((numeral, value) -> joiner.add(numeral.stringValue() + "=" + value));
+        return joiner.toString();
+    }
+
+    private boolean isPresent(int key) {
+
+        return key != StandardKeys.NO_KEY && (this.present[key >>> 6] & 1L << key) != 0;
+    }
+
+    private long valueAt(int key, long defaultValue) {
+
+        return isPresent(key) ? this.values[key] : defaultValue;
+    }
+
+    private long putAt(int key, long value) {
+
+        final long previous = this.values[key];
+        if (!isPresent(key)) {
+            this.present[key >>> 6] |= 1L << key;
+            this.size++;
+        }
+        this.values[key] = value;
+        return previous;
+    }
+
+    private long addAt(int key, long increment) {
+
+        if (!isPresent(key)) {
+            this.present[key >>> 6] |= 1L << key;
+            this.size++;
+        }
+        return this.values[key] += increment;
+    }
+
+    private long removeAt(int key) {
+
+        if (!isPresent(key)) {
+            return 0L;
+        }
+        this.present[key >>> 6] &= ~(1L << key);
+        this.size--;
+        final long previous = this.values[key];
+        this.values[key] = 0L;
+        return previous;
+    }
+}
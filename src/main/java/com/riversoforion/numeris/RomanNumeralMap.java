@@ -0,0 +1,372 @@
+package com.riversoforion.numeris;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+
+
+/**
+ * A map keyed by Roman numeral, stored as a flat array indexed by numeric value: lookups never hash, and never box.
+ * Keys are accepted as {@link RomanNumeral}s, as numeric values, or as Roman numerals in text, which are decoded on
+ * the fly in the {@link Notation#STANDARD standard notation} (so {@code "iiii"} and {@code "IV"} are the same key).
+ * <pre>
+ * RomanNumeralMap&lt;String&gt; titles = new RomanNumeralMap&lt;&gt;();
+ * titles.put("XII", "The Return");
+ * String title = titles.get(12);
+ * </pre>
+ * <p>
+ * Only keys in the standard range, from 1 to 3,999, are supported: looking up any other key finds nothing, and putting
+ * one is an error. That includes the few lenient numerals beyond it that {@link RomanToInteger} decodes (e.g.
+ * {@code "MMMM"}). Values may not be {@code null}. Iteration is in ascending order of the keys. For {@code int} and
+ * {@code long} values, see {@link RomanNumeralIntMap} and {@link RomanNumeralLongMap}.
+ * </p>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is mutable and not thread-safe.
+ * </p>
+ *
+ * @param <V> The type of the values
+ */
+public final class RomanNumeralMap<V> {
+
+    private final Object[] values = new Object[StandardKeys.CAPACITY];
+    private int size;
+
+    /**
+     * Retrieves the value for a key.
+     *
+     * @param numericValue The numeric value of the key
+     * @return The value, or {@code null} if there is none
+     */
+    public V get(long numericValue) {
+
+        return valueAt(StandardKeys.key(numericValue));
+    }
+
+    /**
+     * Retrieves the value for a key.
+     *
+     * @param numeral The key
+     * @return The value, or {@code null} if there is none
+     */
+    public V get(RomanNumeral numeral) {
+
+        return valueAt(StandardKeys.key(numeral));
+    }
+
+    /**
+     * Retrieves the value for a key, given as text.
+     *
+     * @param romanValue The key, as a Roman numeral (may be {@code null})
+     * @return The value, or {@code null} if there is none, or the numeral cannot be decoded
+     */
+    public V get(CharSequence romanValue) {
+
+        return valueAt(StandardKeys.key(romanValue));
+    }
+
+    /**
+     * Whether there is a value for a key.
+     *
+     * @param numericValue The numeric value of the key
+     */
+    public boolean containsKey(long numericValue) {
+
+        return valueAt(StandardKeys.key(numericValue)) != null;
+    }
+
+    /**
+     * Whether there is a value for a key.
+     *
+     * @param numeral The key
+     */
+    public boolean containsKey(RomanNumeral numeral) {
+
+        return valueAt(StandardKeys.key(numeral)) != null;
+    }
+
+    /**
+     * Whether there is a value for a key, given as text.
+     *
+     * @param romanValue The key, as a Roman numeral (may be {@code null})
+     */
+    public boolean containsKey(CharSequence romanValue) {
+
+        return valueAt(StandardKeys.key(romanValue)) != null;
+    }
+
+    /**
+     * Associates a value with a key.
+     *
+     * @param numericValue The numeric value of the key, from {@link RomanNumeral#MIN_VALUE} to
+     *                     {@link RomanNumeral#MAX_VALUE}
+     * @param value        The value
+     * @return The previous value, or {@code null} if there was none
+     * @throws IllegalArgumentException If the key is out of range
+     */
+    public V put(long numericValue, V value) {
+
+        return putAt(StandardKeys.requireKey(numericValue), value);
+    }
+
+    /**
+     * Associates a value with a key.
+     *
+     * @param numeral The key, in the standard range
+     * @param value   The value
+     * @return The previous value, or {@code null} if there was none
+     * @throws IllegalArgumentException If the key is beyond the standard range
+     */
+    public V put(RomanNumeral numeral, V value) {
+
+        return putAt(StandardKeys.requireKey(numeral.numericValue()), value);
+    }
+
+    /**
+     * Associates a value with a key, given as text.
+     *
+     * @param romanValue The key, as a Roman numeral
+     * @param value      The value
+     * @return The previous value, or {@code null} if there was none
+     * @throws IllegalArgumentException If the numeral cannot be decoded
+     */
+    public V put(CharSequence romanValue, V value) {
+
+        return putAt(StandardKeys.requireKey(romanValue), value);
+    }
+
+    /**
+     * Removes the value for a key.
+     *
+     * @param numericValue The numeric value of the key
+     * @return The removed value, or {@code null} if there was none
+     */
+    public V remove(long numericValue) {
+
+        return removeAt(StandardKeys.key(numericValue));
+    }
+
+    /**
+     * Removes the value for a key.
+     *
+     * @param numeral The key
+     * @return The removed value, or {@code null} if there was none
+     */
+    public V remove(RomanNumeral numeral) {
+
+        return removeAt(StandardKeys.key(numeral));
+    }
+
+    /**
+     * Removes the value for a key, given as text.
+     *
+     * @param romanValue The key, as a Roman numeral (may be {@code null})
+     * @return The removed value, or {@code null} if there was none, or the numeral cannot be decoded
+     */
+    public V remove(CharSequence romanValue) {
+
+        return removeAt(StandardKeys.key(romanValue));
+    }
+
+    /**
+     * Retrieves the number of keys with a value.
+     */
+    public int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Whether there are no values.
+     */
+    public boolean isEmpty() {
+
+        return this.size == 0;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void clear() {
+
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Performs an action on each key and value, in ascending order of the keys.
+     *
+     * @param action The action to perform, given the shared Roman numeral instance for each key
+     */
+    public void forEach(BiConsumer<? super RomanNumeral, ? super V> action) {
+
+        Objects.requireNonNull(action, "action");
+        for (int i = (int) SharedConstants.MIN_VALUE; i < StandardKeys.CAPACITY; i++) {
+            final V value = valueAt(i);
+            if (value != null) {
+                action.accept(RomanNumeral.canonical(i), value);
+            }
+        }
+    }
+
+    /**
+     * Views this map as a {@code java.util.Map}, for use with APIs that expect one. The view is backed by this map,
+     * supports every operation except putting {@code null} values, and only finds {@link RomanNumeral} keys.
+     *
+     * @return A map view
+     */
+    public Map<RomanNumeral, V> asMap() {
+
+        return new MapView();
+    }
+
+    @Override
+    public String toString() {
+
+        final StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach((numeral, value) -> joiner.add(numeral.stringValue() + "=" + value));
+        return joiner.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int key) {
+
+        return key == StandardKeys.NO_KEY ? null : (V) this.values[key];
+    }
+
+    private V putAt(int key, V value) {
+
+        Objects.requireNonNull(value, "value");
+        final V previous = valueAt(key);
+        this.values[key] = value;
+        if (previous == null) {
+            this.size++;
+        }
+        return previous;
+    }
+
+    private V removeAt(int key) {
+
+        final V previous = valueAt(key);
+        if (previous != null) {
+            this.values[key] = null;
+            this.size--;
+        }
+        return previous;
+    }
+
+    private final class MapView extends AbstractMap<RomanNumeral, V> {
+
+        @Override
+        public V get(Object key) {
+
+            return key instanceof RomanNumeral ? RomanNumeralMap.this.get((RomanNumeral) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+
+            return get(key) != null;
+        }
+
+        @Override
+        public V put(RomanNumeral key, V value) {
+
+            return RomanNumeralMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+
+            return key instanceof RomanNumeral ? RomanNumeralMap.this.remove((RomanNumeral) key) : null;
+        }
+
+        @Override
+        public int size() {
+
+            return RomanNumeralMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+
+            RomanNumeralMap.this.clear();
+        }
+
+        @Override
+        public Set<Entry<RomanNumeral, V>> entrySet() {
+
+            return new AbstractSet<>() {
+
+                @Override
+                public int size() {
+
+                    return RomanNumeralMap.this.size;
+                }
+
+                @Override
+                public Iterator<Entry<RomanNumeral, V>> iterator() {
+
+                    return new EntryIterator();
+                }
+            };
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<RomanNumeral, V>> {
+
+        private int next = advance((int) SharedConstants.MIN_VALUE);
+        private int last = StandardKeys.NO_KEY;
+
+        @Override
+        public boolean hasNext() {
+
+            return this.next < StandardKeys.CAPACITY;
+        }
+
+        @Override
+        public Map.Entry<RomanNumeral, V> next() {
+
+            if (this.next >= StandardKeys.CAPACITY) {
+                throw new NoSuchElementException();
+            }
+            final int key = this.next;
+            this.last = key;
+            this.next = advance(key + 1);
+            return new AbstractMap.SimpleEntry<>(RomanNumeral.canonical(key), valueAt(key)) {
+
+                @Override
+                public V setValue(V value) {
+
+                    putAt(key, value);
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+
+            if (this.last == StandardKeys.NO_KEY) {
+                throw new IllegalStateException();
+            }
+            removeAt(this.last);
+            this.last = StandardKeys.NO_KEY;
+        }
+
+        private int advance(int from) {
+
+            int key = from;
+            while (key < StandardKeys.CAPACITY && RomanNumeralMap.this.values[key] == null) {
+                key++;
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,590 @@
+package com.riversoforion.numeris;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * A set of Roman numerals, stored as a bitset of their numeric values: every value, from 1 to 3,999, is one bit in a
+ * fixed array of 63 {@code long} words. Set operations, such as {@link #union(RomanNumeralSet)} or
+ * {@link #intersect(RomanNumeralSet)}, work a whole word at a time, so they take the same few dozen steps whatever the
+ * size of the sets.
+ * <pre>
+ * RomanNumeralSet owned = RomanNumeralSet.range(1, 12);
+ * RomanNumeralSet wanted = RomanNumeralSet.of(3, 12, 13);
+ * wanted.subtract(owned);
+ * for (RomanNumeral missing : wanted) {
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * Elements are added as {@link RomanNumeral}s, numeric values or Roman numerals in text, which are decoded in the
+ * {@link Notation#STANDARD standard notation}. Only the standard range is supported: looking up any other value finds
+ * nothing, and adding one is an error. Iteration is in ascending order, and yields the shared {@link RomanNumeral}
+ * instances.
+ * </p>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is mutable and not thread-safe.
+ * </p>
+ */
+public final class RomanNumeralSet implements Iterable<RomanNumeral> {
+
+    private static final int NONE = -1;
+
+    private final long[] words = new long[StandardKeys.WORDS];
+
+    /**
+     * Creates an empty set.
+     */
+    public RomanNumeralSet() {
+
+    }
+
+    /**
+     * Creates a set of the given values.
+     *
+     * @param numericValues The values, each from {@link RomanNumeral#MIN_VALUE} to {@link RomanNumeral#MAX_VALUE}
+     * @return The new set
+     * @throws IllegalArgumentException If a value is out of range
+     */
+    public static RomanNumeralSet of(long... numericValues) {
+
+        final RomanNumeralSet set = new RomanNumeralSet();
+        for (long numericValue : numericValues) {
+            set.add(numericValue);
+        }
+        return set;
+    }
+
+    /**
+     * Creates a set of a range of values.
+     *
+     * @param first The first value, inclusive
+     * @param last  The last value, inclusive
+     * @return The new set, which is empty if the last value is before the first
+     * @throws IllegalArgumentException If either value is out of range
+     */
+    public static RomanNumeralSet range(long first, long last) {
+
+        final RomanNumeralSet set = new RomanNumeralSet();
+        set.addRange(first, last);
+        return set;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param numericValue The value, from {@link RomanNumeral#MIN_VALUE} to {@link RomanNumeral#MAX_VALUE}
+     * @return Whether the value was added, rather than already in the set
+     * @throws IllegalArgumentException If the value is out of range
+     */
+    public boolean add(long numericValue) {
+
+        final int bit = StandardKeys.requireKey(numericValue);
+        final long word = this.words[bit >>> 6];
+        this.words[bit >>> 6] = word | 1L << bit;
+        return (word & 1L << bit) == 0;
+    }
+
+    /**
+     * Adds the value of a Roman numeral.
+     *
+     * @param numeral The Roman numeral, in the standard range
+     * @return Whether the value was added, rather than already in the set
+     * @throws IllegalArgumentException If the numeral is beyond the standard range
+     */
+    public boolean add(RomanNumeral numeral) {
+
+        return add(numeral.numericValue());
+    }
+
+    /**
+     * Decodes a Roman numeral, and adds its value.
+     *
+     * @param romanValue The Roman numeral
+     * @return Whether the value was added, rather than already in the set
+     * @throws IllegalArgumentException If the numeral cannot be decoded
+     */
+    public boolean add(CharSequence romanValue) {
+
+        return add(StandardKeys.requireKey(romanValue));
+    }
+
+    /**
+     * Adds a range of values.
+     *
+     * @param first The first value, inclusive
+     * @param last  The last value, inclusive; if it is before the first, nothing is added
+     * @throws IllegalArgumentException If either value is out of range
+     */
+    public void addRange(long first, long last) {
+
+        final int from = StandardKeys.requireKey(first);
+        final int to = StandardKeys.requireKey(last);
+        if (from <= to) {
+            apply(from, to + 1, true);
+        }
+    }
+
+    /**
+     * Whether the set contains a value.
+     *
+     * @param numericValue The value
+     */
+    public boolean contains(long numericValue) {
+
+        return isSet(StandardKeys.key(numericValue));
+    }
+
+    /**
+     * Whether the set contains the value of a Roman numeral.
+     *
+     * @param numeral The Roman numeral
+     */
+    public boolean contains(RomanNumeral numeral) {
+
+        return isSet(StandardKeys.key(numeral));
+    }
+
+    /**
+     * Whether the set contains the value of a Roman numeral, given as text.
+     *
+     * @param romanValue The Roman numeral (may be {@code null})
+     */
+    public boolean contains(CharSequence romanValue) {
+
+        return isSet(StandardKeys.key(romanValue));
+    }
+
+    /**
+     * Removes a value.
+     *
+     * @param numericValue The value
+     * @return Whether the value was removed, rather than not in the set
+     */
+    public boolean remove(long numericValue) {
+
+        final int bit = StandardKeys.key(numericValue);
+        if (!isSet(bit)) {
+            return false;
+        }
+        this.words[bit >>> 6] &= ~(1L << bit);
+        return true;
+    }
+
+    /**
+     * Removes the value of a Roman numeral.
+     *
+     * @param numeral The Roman numeral
+     * @return Whether the value was removed, rather than not in the set
+     */
+    public boolean remove(RomanNumeral numeral) {
+
+        return numeral != null && remove(numeral.numericValue());
+    }
+
+    /**
+     * Removes a range of values. The parts of the range that are beyond the standard range are ignored.
+     *
+     * @param first The first value, inclusive
+     * @param last  The last value, inclusive; if it is before the first, nothing is removed
+     */
+    public void removeRange(long first, long last) {
+
+        final long from = Math.max(first, SharedConstants.MIN_VALUE);
+        final long to = Math.min(last, SharedConstants.MAX_VALUE);
+        if (from <= to) {
+            apply((int) from, (int) to + 1, false);
+        }
+    }
+
+    /**
+     * Retains only the values in a range. The parts of the range that are beyond the standard range are ignored.
+     *
+     * @param first The first value, inclusive
+     * @param last  The last value, inclusive; if it is before the first, every value is removed
+     */
+    public void retainRange(long first, long last) {
+
+        if (first > last) {
+            clear();
+            return;
+        }
+        if (first > SharedConstants.MIN_VALUE) {
+            removeRange(SharedConstants.MIN_VALUE, first - 1);
+        }
+        if (last < SharedConstants.MAX_VALUE) {
+            removeRange(last + 1, SharedConstants.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Adds every value of another set to this one.
+     *
+     * @param other The other set
+     * @return This set
+     */
+    public RomanNumeralSet union(RomanNumeralSet other) {
+
+        for (int i = 0; i < StandardKeys.WORDS; i++) {
+            this.words[i] |= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Removes every value that is not in another set from this one.
+     *
+     * @param other The other set
+     * @return This set
+     */
+    public RomanNumeralSet intersect(RomanNumeralSet other) {
+
+        for (int i = 0; i < StandardKeys.WORDS; i++) {
+            this.words[i] &= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Removes every value of another set from this one.
+     *
+     * @param other The other set
+     * @return This set
+     */
+    public RomanNumeralSet subtract(RomanNumeralSet other) {
+
+        for (int i = 0; i < StandardKeys.WORDS; i++) {
+            this.words[i] &= ~other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Keeps only the values that are in exactly one of this set and another one (the symmetric difference).
+     *
+     * @param other The other set
+     * @return This set
+     */
+    public RomanNumeralSet xor(RomanNumeralSet other) {
+
+        for (int i = 0; i < StandardKeys.WORDS; i++) {
+            this.words[i] ^= other.words[i];
+        }
+        return this;
+    }
+
+    /**
+     * Whether this set has any value in common with another one.
+     *
+     * @param other The other set
+     */
+    public boolean intersects(RomanNumeralSet other) {
+
+        for (int i = 0; i < StandardKeys.WORDS; i++) {
+            if ((this.words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether this set contains every value of another one.
+     *
+     * @param other The other set
+     */
+    public boolean containsAll(RomanNumeralSet other) {
+
+        for (int i = 0; i < StandardKeys.WORDS; i++) {
+            if ((other.words[i] & ~this.words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retrieves the number of values in the set.
+     */
+    public int cardinality() {
+
+        int cardinality = 0;
+        for (long word : this.words) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Whether the set has no values.
+     */
+    public boolean isEmpty() {
+
+        for (long word : this.words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes every value.
+     */
+    public void clear() {
+
+        Arrays.fill(this.words, 0L);
+    }
+
+    /**
+     * Copies the set.
+     *
+     * @return A new set, with the same values
+     */
+    public RomanNumeralSet copy() {
+
+        final RomanNumeralSet copy = new RomanNumeralSet();
+        System.arraycopy(this.words, 0, copy.words, 0, StandardKeys.WORDS);
+        return copy;
+    }
+
+    /**
+     * Copies the values in a range.
+     *
+     * @param first The first value, inclusive
+     * @param last  The last value, inclusive
+     * @return A new set, with the values of this one in the range
+     */
+    public RomanNumeralSet subSet(long first, long last) {
+
+        final RomanNumeralSet subSet = copy();
+        subSet.retainRange(first, last);
+        return subSet;
+    }
+
+    /**
+     * Finds the smallest value in the set that is at least the given one.
+     *
+     * @param numericValue The value to start from, inclusive
+     * @return The value found, or {@code -1} if there is none
+     */
+    public long nextValue(long numericValue) {
+
+        if (numericValue > SharedConstants.MAX_VALUE) {
+            return NONE;
+        }
+        int index = (int) Math.max(numericValue, 0L) >>> 6;
+        long word = this.words[index] & -1L << Math.max(numericValue, 0L);
+        while (word == 0) {
+            if (++index == StandardKeys.WORDS) {
+                return NONE;
+            }
+            word = this.words[index];
+        }
+        return index * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Finds the largest value in the set that is at most the given one.
+     *
+     * @param numericValue The value to start from, inclusive
+     * @return The value found, or {@code -1} if there is none
+     */
+    public long previousValue(long numericValue) {
+
+        if (numericValue < SharedConstants.MIN_VALUE) {
+            return NONE;
+        }
+        final int bit = (int) Math.min(numericValue, SharedConstants.MAX_VALUE);
+        int index = bit >>> 6;
+        long word = this.words[index] & -1L >>> -(bit + 1);
+        while (word == 0) {
+            if (--index < 0) {
+                return NONE;
+            }
+            word = this.words[index];
+        }
+        return (index + 1) * Long.SIZE - 1 - Long.numberOfLeadingZeros(word);
+    }
+
+    /**
+     * Retrieves the smallest value as a Roman numeral.
+     *
+     * @return The shared Roman numeral instance, or empty if the set is empty
+     */
+    public Optional<RomanNumeral> first() {
+
+        final long first = nextValue(SharedConstants.MIN_VALUE);
+        return first == NONE ? Optional.empty() : Optional.of(RomanNumeral.canonical(first));
+    }
+
+    /**
+     * Retrieves the largest value as a Roman numeral.
+     *
+     * @return The shared Roman numeral instance, or empty if the set is empty
+     */
+    public Optional<RomanNumeral> last() {
+
+        final long last = previousValue(SharedConstants.MAX_VALUE);
+        return last == NONE ? Optional.empty() : Optional.of(RomanNumeral.canonical(last));
+    }
+
+    /**
+     * Iterates over the values as Roman numerals, in ascending order. The iterator supports removal.
+     *
+     * @return An iterator of the shared Roman numeral instances
+     */
+    @Override
+    public Iterator<RomanNumeral> iterator() {
+
+        final PrimitiveIterator.OfLong values = valueIterator();
+        return new Iterator<>() {
+
+            @Override
+            public boolean hasNext() {
+
+                return values.hasNext();
+            }
+
+            @Override
+            public RomanNumeral next() {
+
+                return RomanNumeral.canonical(values.nextLong());
+            }
+
+            @Override
+            public void remove() {
+
+                values.remove();
+            }
+        };
+    }
+
+    /**
+     * Streams the values, in ascending order, without boxing. The set must not be modified while the stream is used.
+     *
+     * @return A stream of the numeric values
+     */
+    public LongStream stream() {
+
+        final int characteristics = Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                                    | Spliterator.NONNULL;
+        return StreamSupport.longStream(Spliterators.spliterator(valueIterator(), cardinality(), characteristics),
+                                        false);
+    }
+
+    /**
+     * Copies the values, in ascending order.
+     *
+     * @return A new array of the numeric values
+     */
+    public long[] toArray() {
+
+        final long[] numericValues = new long[cardinality()];
+        int i = 0;
+        for (long value = nextValue(SharedConstants.MIN_VALUE); value != NONE; value = nextValue(value + 1)) {
+            numericValues[i++] = value;
+        }
+        return numericValues;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RomanNumeralSet)) {
+            return false;
+        }
+        return Arrays.equals(this.words, ((RomanNumeralSet) other).words);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Arrays.hashCode(this.words);
+    }
+
+    @Override
+    public String toString() {
+
+        final StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (RomanNumeral numeral : this) {
+            joiner.add(numeral.stringValue());
+        }
+        return joiner.toString();
+    }
+
+    private boolean isSet(int bit) {
+
+        return bit != StandardKeys.NO_KEY && (this.words[bit >>> 6] & 1L << bit) != 0;
+    }
+
+    // Sets or clears the bits from one index (inclusive) to another (exclusive), a whole word at a time
+    private void apply(int from, int to, boolean set) {
+
+        final int firstWord = from >>> 6;
+        final int lastWord = (to - 1) >>> 6;
+        for (int i = firstWord; i <= lastWord; i++) {
+            long mask = -1L;
+            if (i == firstWord) {
+                mask &= -1L << from;
+            }
+            if (i == lastWord) {
+                mask &= -1L >>> -to;
+            }
+            if (set) {
+                this.words[i] |= mask;
+            }
+            else {
+                this.words[i] &= ~mask;
+            }
+        }
+    }
+
+    private PrimitiveIterator.OfLong valueIterator() {
+
+        return new PrimitiveIterator.OfLong() {
+
+            private long next = nextValue(SharedConstants.MIN_VALUE);
+            private long last = NONE;
+
+            @Override
+            public boolean hasNext() {
+
+                return this.next != NONE;
+            }
+
+            @Override
+            public long nextLong() {
+
+                if (this.next == NONE) {
+                    throw new NoSuchElementException();
+                }
+                this.last = this.next;
+                this.next = this.last < SharedConstants.MAX_VALUE ? nextValue(this.last + 1) : NONE;
+                return this.last;
+            }
+
+            @Override
+            public void remove() {
+
+                if (this.last == NONE) {
+                    throw new IllegalStateException();
+                }
+                RomanNumeralSet.this.remove(this.last);
+                this.last = NONE;
+            }
+        };
+    }
+}
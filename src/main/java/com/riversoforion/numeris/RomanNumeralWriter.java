@@ -0,0 +1,312 @@
+package com.riversoforion.numeris;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+
+/**
+ * Writes numeric values as ASCII Roman numerals, each followed by a delimiter, to an {@code OutputStream}, a
+ * {@code WritableByteChannel} or a {@code ByteBuffer}. Values are encoded straight into an internal buffer, from a
+ * table of every Roman numeral's bytes, without creating a string (or anything else) per value; the buffer is only
+ * flushed to its destination when it is full, or on request.
+ * <pre>
+ * try (RomanNumeralWriter writer = new RomanNumeralWriter(Files.newOutputStream(path), "\n")) {
+ *     for (long value : values) {
+ *         writer.write(value);
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * Only the {@link Notation#STANDARD standard notation} is supported. Channels must be in blocking mode. A
+ * {@code ByteBuffer} destination is never drained by the writer: if it does not have room for the buffered bytes, a
+ * {@code BufferOverflowException} is thrown, and the bytes are kept, so that the caller can drain the destination and
+ * flush again.
+ * </p>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is mutable and not thread-safe.
+ * </p>
+ */
+public final class RomanNumeralWriter implements Closeable, Flushable {
+
+    /**
+     * The default size of the internal buffer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 << 10;
+    /**
+     * The default delimiter: a newline.
+     */
+    public static final String DEFAULT_DELIMITER = "\n";
+
+    private final Sink sink;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    // Flush before a value once fewer bytes than this are left, since every table entry is copied whole
+    private final int limit;
+    private int position;
+
+    /**
+     * Creates a writer to an output stream, with the {@link #DEFAULT_DELIMITER default delimiter}.
+     *
+     * @param output The stream to write to
+     */
+    public RomanNumeralWriter(OutputStream output) {
+
+        this(output, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Creates a writer to an output stream.
+     *
+     * @param output    The stream to write to
+     * @param delimiter The ASCII characters to write after each value (e.g. {@code "\n"} or {@code ","})
+     */
+    public RomanNumeralWriter(OutputStream output, String delimiter) {
+
+        this(streamSink(Objects.requireNonNull(output, "output")), delimiter, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer to a channel, with the {@link #DEFAULT_DELIMITER default delimiter}.
+     *
+     * @param channel The blocking channel to write to
+     */
+    public RomanNumeralWriter(WritableByteChannel channel) {
+
+        this(channel, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Creates a writer to a channel.
+     *
+     * @param channel   The blocking channel to write to
+     * @param delimiter The ASCII characters to write after each value (e.g. {@code "\n"} or {@code ","})
+     */
+    public RomanNumeralWriter(WritableByteChannel channel, String delimiter) {
+
+        this(channelSink(Objects.requireNonNull(channel, "channel")), delimiter, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer to a byte buffer, which may be direct, with the {@link #DEFAULT_DELIMITER default delimiter}.
+     *
+     * @param destination The buffer to write to, from its position
+     */
+    public RomanNumeralWriter(ByteBuffer destination) {
+
+        this(destination, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Creates a writer to a byte buffer, which may be direct.
+     *
+     * @param destination The buffer to write to, from its position
+     * @param delimiter   The ASCII characters to write after each value (e.g. {@code "\n"} or {@code ","})
+     */
+    public RomanNumeralWriter(ByteBuffer destination, String delimiter) {
+
+        this(bufferSink(Objects.requireNonNull(destination, "destination")), delimiter, DEFAULT_BUFFER_SIZE);
+    }
+
+    RomanNumeralWriter(Sink sink, String delimiter, int bufferSize) {
+
+        Objects.requireNonNull(delimiter, "delimiter");
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (delimiter.charAt(i) >= 0x80) {
+                throw new IllegalArgumentException("The delimiter must be ASCII");
+            }
+        }
+        this.sink = sink;
+        this.delimiter = delimiter.getBytes(StandardCharsets.US_ASCII);
+        this.limit = bufferSize - Ascii.STRIDE - this.delimiter.length;
+        if (this.limit < 0) {
+            throw new IllegalArgumentException("The buffer is too small for the delimiter");
+        }
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Writes a value as a Roman numeral, followed by the delimiter.
+     *
+     * @param numericValue The value to write
+     * @throws RomanNumeralException If the value is out of range, in which case nothing is written
+     * @throws IOException           If the buffer had to be flushed, and the destination cannot be written to
+     */
+    public void write(long numericValue) throws RomanNumeralException, IOException {
+
+        if (numericValue < SharedConstants.MIN_VALUE || numericValue > SharedConstants.MAX_VALUE) {
+            throw RomanNumeralException.outOfRange(numericValue, true);
+        }
+        if (this.position > this.limit) {
+            flush();
+        }
+        final int entry = (int) numericValue * Ascii.STRIDE;
+        // Copying the whole entry is cheaper than copying just the numeral; the excess is overwritten
+        System.arraycopy(Ascii.TABLE, entry, this.buffer, this.position, Ascii.STRIDE);
+        this.position += Ascii.TABLE[entry + Ascii.STRIDE - 1];
+        if (this.delimiter.length == 1) {
+            this.buffer[this.position++] = this.delimiter[0];
+        }
+        else {
+            System.arraycopy(this.delimiter, 0, this.buffer, this.position, this.delimiter.length);
+            this.position += this.delimiter.length;
+        }
+    }
+
+    /**
+     * Writes a Roman numeral, followed by the delimiter.
+     *
+     * @param numeral The Roman numeral to write
+     * @throws RomanNumeralException If the numeral is beyond the standard range, in which case nothing is written
+     * @throws IOException           If the buffer had to be flushed, and the destination cannot be written to
+     */
+    public void write(RomanNumeral numeral) throws RomanNumeralException, IOException {
+
+        write(numeral.numericValue());
+    }
+
+    /**
+     * Writes a range of values as Roman numerals, each followed by the delimiter.
+     *
+     * @param numericValues The values to write
+     * @param from          The index of the first value to write
+     * @param to            The index after the last value to write
+     * @throws RomanNumeralException If a value is out of range, in which case the values before it have been written
+     * @throws IOException           If the buffer had to be flushed, and the destination cannot be written to
+     */
+    public void writeAll(long[] numericValues, int from, int to) throws RomanNumeralException, IOException {
+
+        Objects.checkFromToIndex(from, to, numericValues.length);
+        for (int i = from; i < to; i++) {
+            write(numericValues[i]);
+        }
+    }
+
+    /**
+     * Writes all buffered bytes to the destination (and flushes an output stream).
+     *
+     * @throws IOException             If the destination cannot be written to
+     * @throws BufferOverflowException If the destination is a byte buffer without room for the buffered bytes
+     */
+    @Override
+    public void flush() throws IOException {
+
+        this.sink.drain(this.buffer, this.position);
+        this.position = 0;
+    }
+
+    /**
+     * Flushes the buffered bytes, then closes the output stream or channel (a byte buffer is left as it is).
+     *
+     * @throws IOException If the destination cannot be written to or closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        try {
+            flush();
+        }
+        finally {
+            this.sink.close();
+        }
+    }
+
+    /**
+     * The destination of the buffered bytes.
+     */
+    interface Sink extends Closeable {
+
+        /**
+         * Writes all the given bytes, or none of them.
+         */
+        void drain(byte[] bytes, int length) throws IOException;
+
+        @Override
+        default void close() throws IOException {
+
+        }
+    }
+
+    private static Sink streamSink(OutputStream output) {
+
+        return new Sink() {
+
+            @Override
+            public void drain(byte[] bytes, int length) throws IOException {
+
+                output.write(bytes, 0, length);
+                output.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+
+                output.close();
+            }
+        };
+    }
+
+    private static Sink channelSink(WritableByteChannel channel) {
+
+        return new Sink() {
+
+            private ByteBuffer wrapped;
+
+            @Override
+            public void drain(byte[] bytes, int length) throws IOException {
+
+                if (this.wrapped == null) {
+                    this.wrapped = ByteBuffer.wrap(bytes);
+                }
+                this.wrapped.limit(length).position(0);
+                while (this.wrapped.hasRemaining()) {
+                    channel.write(this.wrapped);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+
+                channel.close();
+            }
+        };
+    }
+
+    private static Sink bufferSink(ByteBuffer destination) {
+
+        return (bytes, length) -> {
+            if (destination.remaining() < length) {
+                throw new BufferOverflowException();
+            }
+            destination.put(bytes, 0, length);
+        };
+    }
+
+    /**
+     * The ASCII bytes of every Roman numeral, at a fixed stride indexed by numeric value, with each numeral's length
+     * in the last byte of its entry. Initialized on first use.
+     */
+    private static final class Ascii {
+
+        // Room for the longest numeral, and its length
+        private static final int STRIDE = 16;
+        private static final byte[] TABLE = new byte[((int) SharedConstants.MAX_VALUE + 1) * STRIDE];
+
+        static {
+            final char[] symbols = new char[SharedConstants.MAX_LENGTH];
+            for (int value = (int) SharedConstants.MIN_VALUE; value <= SharedConstants.MAX_VALUE; value++) {
+                final int length = NumeralEncoder.encode(value, symbols, 0);
+                for (int i = 0; i < length; i++) {
+                    TABLE[value * STRIDE + i] = (byte) symbols[i];
+                }
+                TABLE[value * STRIDE + STRIDE - 1] = (byte) length;
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.riversoforion.numeris;
+
+import com.diffplug.common.base.Either;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+
+/**
+ * Collects statistics about Roman numerals, such as their count, sum, minimum, maximum, average and number of distinct
+ * values, in the spirit of {@code LongSummaryStatistics}; unlike it, it also counts the numerals that could not be
+ * decoded, and renders its results back to Roman numerals.
+ * <pre>
+ * RomanSummaryStatistics stats = chapters.stream().collect(RomanCollectors.summarizing(Chapter::number));
+ * Optional&lt;RomanNumeral&gt; last = stats.maxNumeral();
+ * </pre>
+ * <p>
+ * Numerals are decoded in the {@link Notation#STANDARD standard notation}, so every value is from 1 to 3,999, and
+ * distinct values are tracked in a {@link RomanNumeralSet}.
+ * </p>
+ * <p>
+ * <em><strong>NOTE:</strong></em> This class is mutable and not thread-safe. It is designed to work with parallel
+ * streams, where each thread collects its own statistics, which are then {@link #combine(RomanSummaryStatistics)
+ * combined}.
+ * </p>
+ *
+ * @see RomanCollectors
+ */
+public final class RomanSummaryStatistics implements Consumer<CharSequence>, LongConsumer {
+
+    private long count;
+    private long failures;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private final RomanNumeralSet distinct = new RomanNumeralSet();
+
+    /**
+     * Decodes a Roman numeral, and records its value; or counts it as a failure, if it cannot be decoded.
+     *
+     * @param romanValue The Roman numeral (may be {@code null})
+     */
+    @Override
+    public void accept(CharSequence romanValue) {
+
+        accept(StandardKeys.decode(romanValue));
+    }
+
+    /**
+     * Records an already decoded value; or counts a failure, if given a failure status.
+     *
+     * @param status A numeric value, from {@link RomanNumeral#MIN_VALUE} to {@link RomanNumeral#MAX_VALUE}, or the
+     *               status returned by an exception-free conversion (e.g.
+     *               {@link RomanToInteger#tryConvert(CharSequence)})
+     * @throws IllegalArgumentException If the value is neither a failure, nor a valid Roman numeral value
+     */
+    @Override
+    public void accept(long status) {
+
+        if (RomanNumeralError.isFailure(status)) {
+            this.failures++;
+            return;
+        }
+        if (status < SharedConstants.MIN_VALUE || status > SharedConstants.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("%d is not a Roman numeral value", status));
+        }
+        this.count++;
+        this.sum += status;
+        this.min = Math.min(this.min, status);
+        this.max = Math.max(this.max, status);
+        this.distinct.add(status);
+    }
+
+    /**
+     * Combines the statistics of another instance into this one.
+     *
+     * @param other The other statistics
+     * @return This instance
+     */
+    public RomanSummaryStatistics combine(RomanSummaryStatistics other) {
+
+        Objects.requireNonNull(other, "other");
+        this.count += other.count;
+        this.failures += other.failures;
+        this.sum += other.sum;
+        this.min = Math.min(this.min, other.min);
+        this.max = Math.max(this.max, other.max);
+        this.distinct.union(other.distinct);
+        return this;
+    }
+
+    /**
+     * Retrieves the number of values recorded, excluding failures.
+     */
+    public long count() {
+
+        return this.count;
+    }
+
+    /**
+     * Retrieves the number of numerals that could not be decoded.
+     */
+    public long failures() {
+
+        return this.failures;
+    }
+
+    /**
+     * Retrieves the sum of the values, or zero if there are none.
+     */
+    public long sum() {
+
+        return this.sum;
+    }
+
+    /**
+     * Retrieves the smallest value, or {@code Long.MAX_VALUE} if there are none.
+     */
+    public long min() {
+
+        return this.min;
+    }
+
+    /**
+     * Retrieves the largest value, or {@code Long.MIN_VALUE} if there are none.
+     */
+    public long max() {
+
+        return this.max;
+    }
+
+    /**
+     * Retrieves the arithmetic mean of the values, or zero if there are none.
+     */
+    public double average() {
+
+        return this.count > 0 ? (double) this.sum / this.count : 0.0;
+    }
+
+    /**
+     * Retrieves the number of distinct values.
+     */
+    public int distinctCount() {
+
+        return this.distinct.cardinality();
+    }
+
+    /**
+     * Retrieves the smallest value as a Roman numeral.
+     *
+     * @return The shared Roman numeral instance, or empty if there are no values
+     */
+    public Optional<RomanNumeral> minNumeral() {
+
+        return this.count > 0 ? Optional.of(RomanNumeral.canonical(this.min)) : Optional.empty();
+    }
+
+    /**
+     * Retrieves the largest value as a Roman numeral.
+     *
+     * @return The shared Roman numeral instance, or empty if there are no values
+     */
+    public Optional<RomanNumeral> maxNumeral() {
+
+        return this.count > 0 ? Optional.of(RomanNumeral.canonical(this.max)) : Optional.empty();
+    }
+
+    /**
+     * Retrieves the sum of the values as a Roman numeral. The sum of many values is often larger than
+     * {@link RomanNumeral#MAX_VALUE}, so it can be rendered in an extended notation.
+     *
+     * @param notation The notation of the Roman representation, if the sum is larger than
+     *                 {@link RomanNumeral#MAX_VALUE}
+     * @return Either the Roman numeral, or an exception describing why the sum cannot be represented (e.g. because
+     *         there are no values)
+     */
+    public Either<RomanNumeral, RomanNumeralException> sumNumeral(Notation notation) {
+
+        try {
+            return Either.createLeft(RomanNumeral.of(this.sum, notation));
+        }
+        catch (RomanNumeralException e) {
+            return Either.createRight(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("RomanSummaryStatistics(count=%d, failures=%d, sum=%d, min=%s, average=%f, max=%s, "
+                             + "distinctCount=%d)",
+                             this.count, this.failures, this.sum,
+                             minNumeral().map(RomanNumeral::stringValue).orElse(""), average(),
+                             maxNumeral().map(RomanNumeral::stringValue).orElse(""), distinctCount());
+    }
+}
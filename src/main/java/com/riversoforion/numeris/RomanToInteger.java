@@ -2,36 +2,36 @@ package com.riversoforion.numeris;
 
 import com.diffplug.common.base.Either;
 
-import java.util.ArrayDeque;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.LongStream;
+import java.util.function.ToLongFunction;
 
 
 /**
  * Implements the conversion from a Roman numeral to a numeric ({@code long}) value. This converter supports two
- * styles of operation: functional & imperative. The functional style only supports wrapped values (via the
- * {@code Function} interface).
+ * styles of operation: functional & imperative. The functional style supports primitive values (via the
+ * {@code ToLongFunction} interface, and {@link NumericResult}), and wrapped values (via the {@code Function}
+ * interface).
  * <p>
  * The following general rules apply to all conversion methods:
  * </p>
  * <ul>
  *     <li>Must not be {@code null}</li>
  *     <li>Must not be an empty or blank string</li>
- *     <li>Must not have any characters that are not valid Roman numerals (other than whitespace): {@code IVXLCDM}</li>
+ *     <li>Must not have any characters that are not valid Roman numerals (other than whitespace): {@code IVXLCDM},
+ *     or the group markers of the converter's {@link Notation notation}</li>
  *     <li>Must not convert to a value less than {@link com.riversoforion.numeris.RomanNumeral#MIN_VALUE}</li>
  *     <li>Must not convert to a value greater than {@link com.riversoforion.numeris.RomanNumeral#MAX_VALUE}</li>
  *     <li>May have leading and/or trailing spaces</li>
  *     <li>May be any combination of upper and lower characters</li>
  * </ul>
  * <p>
- * <em><strong>NOTE:</strong></em> This class is stateless and thread-safe.
+ * <em><strong>NOTE:</strong></em> This class is immutable and thread-safe.
  * </p>
  *
  * <h2>Functional Usage</h2>
@@ -51,9 +51,19 @@ import java.util.stream.LongStream;
  *                      .toArray();
  * </pre>
  * <p>
- * Note that, unlike {@code IntegerToRoman}, this class only supports boxed
- * {@code Long} values, not primitive {@code longs}.
+ * To avoid boxing every value, use the primitive {@code ToLongFunction} interface, or {@link NumericResult}:
  * </p>
+ * <pre>
+ * long total = Stream.of("XII", "V", "BBCCDD", "CMLV")
+ *                    .mapToLong(new RomanToInteger())
+ *                    .filter(status -> !RomanNumeralError.isFailure(status))
+ *                    .sum();
+ *
+ * long[] longs = Stream.of("XII", "V", "BBCCDD", "CMLV")
+ *                      .map(new RomanToInteger()::applyAsResult)
+ *                      .flatMapToLong(NumericResult::stream)
+ *                      .toArray();
+ * </pre>
  *
  * <h2>Imperative Usage</h2>
  * <p>
@@ -67,10 +77,74 @@ import java.util.stream.LongStream;
  *     // handle it
  * }
  * </pre>
+ * <p>
+ * Numerals embedded in larger buffers (e.g. a field of a CSV line, or a network packet) can be converted in place,
+ * from a range of a {@code CharSequence}, a range of an ASCII {@code byte[]}, or the remaining bytes of a
+ * {@code ByteBuffer}, without first copying them into a {@code String}.
+ * </p>
+ *
+ * <h2>Exception-free Usage</h2>
+ * <p>
+ * Where invalid input is common, the {@code tryConvert} methods avoid the cost of exceptions altogether. They return
+ * a {@code long} status, which is either the numeric value or a negative code describing the failure, including the
+ * position of the first character that could not be parsed:
+ * </p>
+ * <pre>
+ * long status = new RomanToInteger().tryConvert(field);
+ * if (RomanNumeralError.isFailure(status)) {
+ *     int position = RomanNumeralError.positionOf(status);
+ * }
+ * </pre>
+ *
+ * <h2>Batch Usage</h2>
+ * <p>
+ * Whole arrays can be converted at once, with failures reported compactly instead of as exceptions:
+ * </p>
+ * <pre>
+ * ConversionErrors errors = new ConversionErrors();
+ * long[] numbers = new RomanToInteger().convertAll(romanNumerals, errors);
+ * for (int i = errors.nextFailure(0); i >= 0; i = errors.nextFailure(i + 1)) {
+ *     // handle errors.error(i)
+ * }
+ * </pre>
  */
-public class RomanToInteger implements Function<String, Either<Long, RomanNumeralException>> {
+public class RomanToInteger implements
+        Function<String, Either<Long, RomanNumeralException>>,
+        ToLongFunction<CharSequence> {
+
+    private final Notation notation;
+    private final ConversionListener listener;
+
+    /**
+     * Creates a converter for the {@link Notation#STANDARD standard notation}.
+     */
+    public RomanToInteger() {
+
+        this(Notation.STANDARD);
+    }
+
+    /**
+     * Creates a converter for the given notation. The extended notations also accept numerals in the standard
+     * notation.
+     *
+     * @param notation The notation to read numerals in
+     */
+    public RomanToInteger(Notation notation) {
+
+        this(notation, ConversionListener.NONE);
+    }
+
+    /**
+     * Creates a converter for the given notation, which reports every conversion to the given listener.
+     *
+     * @param notation The notation to read numerals in
+     * @param listener The listener to report conversions to (e.g. {@link ConversionMetrics})
+     */
+    public RomanToInteger(Notation notation, ConversionListener listener) {
 
-    private static final Pattern VALID_SYMBOLS = Pattern.compile("^[CDILMVX]+$");
+        this.notation = Objects.requireNonNull(notation, "notation");
+        this.listener = Objects.requireNonNull(listener, "listener");
+    }
 
     /**
      * Implementation of the {@link Function functional interface}.
@@ -81,13 +155,38 @@ public class RomanToInteger implements Function<String, Either<Long, RomanNumera
     @Override
     public Either<Long, RomanNumeralException> apply(String romanValue) {
 
-        String normalized = normalizeNumeralValue(romanValue);
-        Optional<RomanNumeralException> validationResult = checkNumeralValue(normalized);
-        if (validationResult.isPresent()) {
-            return Either.createRight(validationResult.get());
+        long result = parse(romanValue);
+        if (result < 0) {
+            return Either.createRight(failure(romanValue, result, false));
         }
-        Either<long[], RomanNumeralException> decomposed = decomposeNumeral(normalized);
-        return decomposed.mapLeft(digits -> LongStream.of(digits).sum());
+        return Either.createLeft(result);
+    }
+
+    /**
+     * Implementation of the {@link ToLongFunction primitive functional interface}. Since a primitive function cannot
+     * return an error, failures are returned as negative statuses, which can be filtered out or decoded with
+     * {@link RomanNumeralError}.
+     *
+     * @param romanValue The Roman numeral to convert
+     * @return The numeric value of the Roman numeral, or a negative failure status
+     * @see #tryConvert(CharSequence)
+     */
+    @Override
+    public long applyAsLong(CharSequence romanValue) {
+
+        return parse(romanValue);
+    }
+
+    /**
+     * Converts the given Roman numeral to a primitive result, which is either the numeric value or the reason the
+     * conversion failed. The value is never boxed.
+     *
+     * @param romanValue The Roman numeral to convert
+     * @return The result of the conversion
+     */
+    public NumericResult applyAsResult(CharSequence romanValue) {
+
+        return NumericResult.ofStatus(parse(romanValue));
     }
 
     /**
@@ -99,95 +198,240 @@ public class RomanToInteger implements Function<String, Either<Long, RomanNumera
      */
     public long convert(String romanValue) throws RomanNumeralException {
 
-        var result = apply(romanValue);
-        if (result.isLeft()) {
-            return result.getLeft();
+        long result = parse(romanValue);
+        if (result < 0) {
+            throw failure(romanValue, result, true);
+        }
+        return result;
+    }
+
+    /**
+     * Converts the Roman numeral in the given range of characters to a numeric value, without copying it.
+     *
+     * @param romanValue The characters containing the Roman numeral to convert
+     * @param offset     The index of the first character of the Roman numeral
+     * @param length     The number of characters in the Roman numeral
+     * @return The numeric value of the Roman numeral
+     * @throws RomanNumeralException     If the numeral cannot be converted
+     * @throws IndexOutOfBoundsException If the range is not within the characters
+     */
+    public long convert(CharSequence romanValue, int offset, int length) throws RomanNumeralException {
+
+        if (romanValue == null) {
+            throw failure(null, empty(), true);
         }
-        else {
-            throw result.getRight();
+        Objects.checkFromIndexSize(offset, length, romanValue.length());
+        long result = parse(romanValue, offset, offset + length);
+        if (result < 0) {
+            throw failure(romanValue.subSequence(offset, offset + length).toString(), result, true);
         }
+        return result;
     }
 
-    private String normalizeNumeralValue(String romanValue) {
+    /**
+     * Converts the Roman numeral in the given range of ASCII bytes to a numeric value, without decoding it to a
+     * string.
+     *
+     * @param romanValue The bytes containing the Roman numeral to convert
+     * @param offset     The index of the first byte of the Roman numeral
+     * @param length     The number of bytes in the Roman numeral
+     * @return The numeric value of the Roman numeral
+     * @throws RomanNumeralException     If the numeral cannot be converted
+     * @throws IndexOutOfBoundsException If the range is not within the array
+     */
+    public long convert(byte[] romanValue, int offset, int length) throws RomanNumeralException {
 
         if (romanValue == null) {
-            return "";
+            throw failure(null, empty(), true);
+        }
+        Objects.checkFromIndexSize(offset, length, romanValue.length);
+        long result = parse(romanValue, offset, offset + length);
+        if (result < 0) {
+            throw failure(new String(romanValue, offset, length, StandardCharsets.ISO_8859_1), result, true);
         }
-        return romanValue.trim().toUpperCase(Locale.ROOT);
+        return result;
     }
 
-    private Optional<RomanNumeralException> checkNumeralValue(String romanValue) {
+    /**
+     * Converts the Roman numeral in the remaining ASCII bytes of the given buffer to a numeric value, without decoding
+     * it to a string. The position of the buffer is not changed.
+     *
+     * @param romanValue The buffer containing the Roman numeral to convert
+     * @return The numeric value of the Roman numeral
+     * @throws RomanNumeralException If the numeral cannot be converted
+     */
+    public long convert(ByteBuffer romanValue) throws RomanNumeralException {
 
-        if (romanValue.isEmpty()) {
-            return Optional.of(RomanNumeralException.emptyValue());
+        if (romanValue == null) {
+            throw failure(null, empty(), true);
+        }
+        long result = parse(romanValue);
+        if (result < 0) {
+            throw failure(StandardCharsets.ISO_8859_1.decode(romanValue.duplicate()).toString(), result, true);
         }
-        if (!VALID_SYMBOLS.matcher(romanValue).matches()) {
-            return Optional.of(RomanNumeralException.unparseable(romanValue));
+        return result;
+    }
+
+    /**
+     * Converts all the given Roman numerals to numeric values. Failures are recorded in the given
+     * {@link ConversionErrors} rather than as exceptions, and the corresponding elements of the result are {@code 0}.
+     *
+     * @param romanValues The Roman numerals to convert (e.g. a {@code String[]})
+     * @param errors      Receives the failures; any failures from a previous batch are cleared
+     * @return The numeric values, in the same order as the Roman numerals
+     */
+    public long[] convertAll(CharSequence[] romanValues, ConversionErrors errors) {
+
+        errors.reset(romanValues.length);
+        final long[] numericValues = new long[romanValues.length];
+        final int failures = convertRange(this.notation, Arrays.asList(romanValues), numericValues,
+                                          errors.codeArray(), 0, romanValues.length);
+        errors.indexFailures(failures);
+        if (this.listener != ConversionListener.NONE) {
+            this.listener.batchCompleted(ConversionListener.Direction.TO_INTEGER, romanValues.length, errors);
         }
-        return Optional.empty();
+        return numericValues;
     }
 
-    // Parses the Roman numeral value into its corresponding digit values
-    private Either<long[], RomanNumeralException> decomposeNumeral(String romanValue) {
+    // Converts one range of a batch, recording failures only as codes; returns the number of failures
+    static int convertRange(Notation notation, List<? extends CharSequence> romanValues, long[] numericValues,
+                            byte[] codes, int from, int to) {
 
-        final ParseState parseState = new ParseState(romanValue);
-        final List<Long> numbers = new LinkedList<>();
-        while (!parseState.isParsingComplete()) {
-            final Atom current = parseState.currentNumeral();
-            if (parseState.remaining().startsWith(current.name())) {
-                numbers.add(current.value());
-                parseState.removeCurrent();
-                if (!current.allowsMultiples()) {
-                    parseState.advanceNumeral();
-                }
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            final long result = ExtendedNumerals.parse(notation, romanValues.get(i));
+            if (result >= 0) {
+                numericValues[i] = result;
             }
             else {
-                parseState.advanceNumeral();
+                codes[i] = RomanNumeralError.codeOf(result);
+                failures++;
             }
         }
-        if (!parseState.remaining().isEmpty()) {
-            return Either.createRight(RomanNumeralException.unparseable(romanValue));
-        }
-        return Either.createLeft(numbers.stream().mapToLong(Long::longValue).toArray());
+        return failures;
+    }
+
+    /**
+     * Converts the given Roman numeral to a numeric value, without throwing or allocating on failure.
+     *
+     * @param romanValue The Roman numeral to convert
+     * @return The numeric value of the Roman numeral, or a negative failure status (see {@link RomanNumeralError})
+     */
+    public long tryConvert(CharSequence romanValue) {
+
+        return parse(romanValue);
     }
 
     /**
-     * Holds the state of a Roman numeral parsing operation.
+     * Converts the Roman numeral in the given range of characters to a numeric value, without throwing or allocating
+     * on failure.
+     *
+     * @param romanValue The characters containing the Roman numeral to convert
+     * @param offset     The index of the first character of the Roman numeral
+     * @param length     The number of characters in the Roman numeral
+     * @return The numeric value of the Roman numeral, or a negative failure status (see {@link RomanNumeralError}),
+     *         whose position is relative to the offset
+     * @throws IndexOutOfBoundsException If the range is not within the characters
      */
-    private static class ParseState {
+    public long tryConvert(CharSequence romanValue, int offset, int length) {
 
-        private final Deque<Atom> remainingNumerals;
-        private String remainingToParse;
+        if (romanValue == null) {
+            return empty();
+        }
+        Objects.checkFromIndexSize(offset, length, romanValue.length());
+        return parse(romanValue, offset, offset + length);
+    }
 
-        ParseState(String romanValue) {
+    /**
+     * Converts the Roman numeral in the given range of ASCII bytes to a numeric value, without throwing or allocating
+     * on failure.
+     *
+     * @param romanValue The bytes containing the Roman numeral to convert
+     * @param offset     The index of the first byte of the Roman numeral
+     * @param length     The number of bytes in the Roman numeral
+     * @return The numeric value of the Roman numeral, or a negative failure status (see {@link RomanNumeralError}),
+     *         whose position is relative to the offset
+     * @throws IndexOutOfBoundsException If the range is not within the array
+     */
+    public long tryConvert(byte[] romanValue, int offset, int length) {
 
-            this.remainingNumerals = new ArrayDeque<>(Arrays.asList(Atom.values()));
-            this.remainingToParse = romanValue;
+        if (romanValue == null) {
+            return empty();
         }
+        Objects.checkFromIndexSize(offset, length, romanValue.length);
+        return parse(romanValue, offset, offset + length);
+    }
+
+    /**
+     * Converts the Roman numeral in the remaining ASCII bytes of the given buffer to a numeric value, without throwing
+     * or allocating on failure. The position of the buffer is not changed.
+     *
+     * @param romanValue The buffer containing the Roman numeral to convert
+     * @return The numeric value of the Roman numeral, or a negative failure status (see {@link RomanNumeralError}),
+     *         whose position is relative to the buffer's position
+     */
+    public long tryConvert(ByteBuffer romanValue) {
+
+        return romanValue == null ? empty() : parse(romanValue);
+    }
+
+    // The parse methods use the converter's notation, and report the result to the listener
 
-        String remaining() {
+    private long parse(CharSequence romanValue) {
 
-            return this.remainingToParse;
+        if (this.listener == ConversionListener.NONE) {
+            return ExtendedNumerals.parse(this.notation, romanValue);
         }
+        final long start = Instrumentation.start(this.listener);
+        return observed(ExtendedNumerals.parse(this.notation, romanValue), start);
+    }
 
-        Atom currentNumeral() {
+    private long parse(CharSequence romanValue, int from, int to) {
 
-            return this.remainingNumerals.peekFirst();
+        if (this.listener == ConversionListener.NONE) {
+            return ExtendedNumerals.parse(this.notation, romanValue, from, to);
         }
+        final long start = Instrumentation.start(this.listener);
+        return observed(ExtendedNumerals.parse(this.notation, romanValue, from, to), start);
+    }
 
-        void advanceNumeral() {
+    private long parse(byte[] romanValue, int from, int to) {
 
-            this.remainingNumerals.pop();
+        if (this.listener == ConversionListener.NONE) {
+            return ExtendedNumerals.parse(this.notation, romanValue, from, to);
         }
+        final long start = Instrumentation.start(this.listener);
+        return observed(ExtendedNumerals.parse(this.notation, romanValue, from, to), start);
+    }
 
-        boolean isParsingComplete() {
+    private long parse(ByteBuffer romanValue) {
 
-            return this.remainingNumerals.isEmpty();
+        if (this.listener == ConversionListener.NONE) {
+            return ExtendedNumerals.parse(this.notation, romanValue);
         }
+        final long start = Instrumentation.start(this.listener);
+        return observed(ExtendedNumerals.parse(this.notation, romanValue), start);
+    }
 
-        void removeCurrent() {
+    // For null input, which is rejected before parsing
+    private long empty() {
 
-            this.remainingToParse = this.remainingToParse.substring(this.currentNumeral().name().length());
+        if (this.listener == ConversionListener.NONE) {
+            return NumeralParser.EMPTY;
         }
+        return observed(NumeralParser.EMPTY, Instrumentation.start(this.listener));
+    }
+
+    private long observed(long status, long start) {
+
+        Instrumentation.record(this.listener, ConversionListener.Direction.TO_INTEGER, status, start);
+        return status;
+    }
+
+    // Only called once parsing has failed, so the cost of normalizing the value for the message is acceptable
+    private static RomanNumeralException failure(String romanValue, long status, boolean withStackTrace) {
+
+        final String normalized = status == NumeralParser.EMPTY ? null : romanValue.trim().toUpperCase(Locale.ROOT);
+        return RomanNumeralException.fromStatus(status, normalized, withStackTrace);
     }
 }
@@ -0,0 +1,74 @@
+package com.riversoforion.numeris;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Classifies one byte at a time, through a lookup table. Used wherever the {@link VectorByteClassifier vector}
+ * implementation is unavailable, and for the tails of ranges that are shorter than a vector.
+ */
+final class ScalarByteClassifier implements ByteClassifier {
+
+    private static final boolean[] SYMBOL_OR_SPACE = new boolean[256];
+
+    static {
+        for (int b = 0; b <= ' '; b++) {
+            SYMBOL_OR_SPACE[b] = true;
+        }
+        for (int b = ' ' + 1; b < SYMBOL_OR_SPACE.length; b++) {
+            SYMBOL_OR_SPACE[b] = NumeralParser.symbolClass((char) b) != 0;
+        }
+    }
+
+    private final byte delimiter;
+
+    ScalarByteClassifier(byte delimiter) {
+
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public int firstInvalid(byte[] input, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (!SYMBOL_OR_SPACE[input[i] & 0xFF] && input[i] != this.delimiter) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int firstInvalid(ByteBuffer input, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            final byte b = input.get(i);
+            if (!SYMBOL_OR_SPACE[b & 0xFF] && b != this.delimiter) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int nextDelimiter(byte[] input, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (input[i] == this.delimiter) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    public int nextDelimiter(ByteBuffer input, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (input.get(i) == this.delimiter) {
+                return i;
+            }
+        }
+        return to;
+    }
+}
@@ -9,4 +9,5 @@ final class SharedConstants {
 
     static final long MIN_VALUE = 1L;
     static final long MAX_VALUE = 3_999L;
+    static final int MAX_LENGTH = 15;
 }
@@ -0,0 +1,78 @@
+package com.riversoforion.numeris;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Decoding of standard Roman numerals into array indexes, shared by the collections and collectors that are indexed by
+ * numeric value ({@link RomanNumeralArray}, {@link RomanNumeralMap}, {@link RomanNumeralSet}, {@link RomanCollectors},
+ * ...).
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class StandardKeys {
+
+    /**
+     * The length of an array indexed by every standard numeric value.
+     */
+    static final int CAPACITY = (int) SharedConstants.MAX_VALUE + 1;
+    /**
+     * The number of {@code long} words in a bitset of every standard numeric value.
+     */
+    static final int WORDS = (int) (SharedConstants.MAX_VALUE / Long.SIZE) + 1;
+    /**
+     * The index of a value that is out of range, or text that cannot be decoded.
+     */
+    static final int NO_KEY = -1;
+
+    /**
+     * Decodes a Roman numeral in the {@link Notation#STANDARD standard notation}, in the standard range.
+     *
+     * @return The numeric value, or the status of the failure
+     */
+    static long decode(CharSequence romanValue) {
+
+        // The standard grammar is lenient enough to accept a few values that are too large (e.g. 'MMMM')
+        final long status = ExtendedNumerals.parse(Notation.STANDARD, romanValue);
+        return status > SharedConstants.MAX_VALUE ? RomanNumeralError.VALUE_TOO_LARGE.status() : status;
+    }
+
+    /**
+     * Finds the index of a key, or {@link #NO_KEY} if it is out of range.
+     */
+    static int key(long numericValue) {
+
+        return numericValue >= SharedConstants.MIN_VALUE && numericValue <= SharedConstants.MAX_VALUE
+               ? (int) numericValue
+               : NO_KEY;
+    }
+
+    static int key(RomanNumeral numeral) {
+
+        return numeral == null ? NO_KEY : key(numeral.numericValue());
+    }
+
+    static int key(CharSequence romanValue) {
+
+        final long status = decode(romanValue);
+        return RomanNumeralError.isFailure(status) ? NO_KEY : (int) status;
+    }
+
+    static int requireKey(long numericValue) {
+
+        final int key = key(numericValue);
+        if (key == NO_KEY) {
+            throw new IllegalArgumentException(String.format("%d is not a Roman numeral value", numericValue));
+        }
+        return key;
+    }
+
+    static int requireKey(CharSequence romanValue) {
+
+        final int key = key(romanValue);
+        if (key == NO_KEY) {
+            throw new IllegalArgumentException(String.format("'%s' is not a Roman numeral", romanValue));
+        }
+        return key;
+    }
+}
@@ -0,0 +1,109 @@
+package com.riversoforion.numeris;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * Classifies a whole vector of bytes at a time, using the incubating Vector API. This class must only be loaded when
+ * the {@code jdk.incubator.vector} module is present (see {@link DelimitedNumerals}); the bytes left over after the
+ * last whole vector are classified by the {@link ScalarByteClassifier scalar} implementation.
+ */
+final class VectorByteClassifier implements ByteClassifier {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    // Below this many lanes, the hardware has no useful SIMD support, and the API falls back to slow emulation
+    private static final int MIN_LANES = 16;
+    private static final byte LOWER_CASE = 0x20;
+    private static final byte[] SYMBOLS = { 'i', 'v', 'x', 'l', 'c', 'd', 'm' };
+
+    private final byte delimiter;
+    private final ScalarByteClassifier tail;
+
+    VectorByteClassifier(byte delimiter) {
+
+        this.delimiter = delimiter;
+        this.tail = new ScalarByteClassifier(delimiter);
+    }
+
+    /**
+     * Determines whether the platform vectorizes byte operations well enough for this classifier to be worthwhile.
+     */
+    static boolean supported() {
+
+        return SPECIES.length() >= MIN_LANES;
+    }
+
+    @Override
+    public int firstInvalid(byte[] input, int from, int to) {
+
+        int i = from;
+        for (final int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            final VectorMask<Byte> invalid = valid(ByteVector.fromArray(SPECIES, input, i)).not();
+            if (invalid.anyTrue()) {
+                return i + invalid.firstTrue();
+            }
+        }
+        return this.tail.firstInvalid(input, i, to);
+    }
+
+    @Override
+    public int firstInvalid(ByteBuffer input, int from, int to) {
+
+        int i = from;
+        for (final int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            final VectorMask<Byte> invalid =
+                    valid(ByteVector.fromByteBuffer(SPECIES, input, i, ByteOrder.nativeOrder())).not();
+            if (invalid.anyTrue()) {
+                return i + invalid.firstTrue();
+            }
+        }
+        return this.tail.firstInvalid(input, i, to);
+    }
+
+    @Override
+    public int nextDelimiter(byte[] input, int from, int to) {
+
+        int i = from;
+        for (final int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            final VectorMask<Byte> delimiters = ByteVector.fromArray(SPECIES, input, i).eq(this.delimiter);
+            if (delimiters.anyTrue()) {
+                return i + delimiters.firstTrue();
+            }
+        }
+        return this.tail.nextDelimiter(input, i, to);
+    }
+
+    @Override
+    public int nextDelimiter(ByteBuffer input, int from, int to) {
+
+        int i = from;
+        for (final int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            final VectorMask<Byte> delimiters =
+                    ByteVector.fromByteBuffer(SPECIES, input, i, ByteOrder.nativeOrder()).eq(this.delimiter);
+            if (delimiters.anyTrue()) {
+                return i + delimiters.firstTrue();
+            }
+        }
+        return this.tail.nextDelimiter(input, i, to);
+    }
+
+    private VectorMask<Byte> valid(ByteVector bytes) {
+
+        // Bytes are signed, so whitespace is 0 to ' ', and anything from 0x80 up is negative
+        VectorMask<Byte> valid = bytes.compare(VectorOperators.GE, (byte) 0)
+                                      .and(bytes.compare(VectorOperators.LE, (byte) ' '))
+                                      .or(bytes.eq(this.delimiter));
+        // Setting the case bit maps upper case symbols to lower case, and no other byte to a lower case symbol
+        final ByteVector folded = bytes.or(LOWER_CASE);
+        for (byte symbol : SYMBOLS) {
+            valid = valid.or(folded.eq(symbol));
+        }
+        return valid;
+    }
+}
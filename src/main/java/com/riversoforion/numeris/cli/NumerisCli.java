@@ -0,0 +1,171 @@
+package com.riversoforion.numeris.cli;
+
+import com.riversoforion.numeris.server.NumerisServer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Command line entry point:
+ * <pre>
+ * numeris to-roman|to-integer INPUT OUTPUT [--threads N]
+ * numeris serve [--port N] [--threads N]
+ * </pre>
+ * Transcodes a newline-delimited file with a {@link Transcoder}, then reports the throughput and the number of lines
+ * that could not be converted on standard error; or runs a {@link NumerisServer} on the loopback interface until the
+ * process is interrupted. The server handles each exchange on a virtual thread if the runtime supports them (and no
+ * number of threads is given), or on a fixed pool of threads otherwise.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NumerisCli {
+
+    private static final int EXIT_OK = 0;
+    private static final int EXIT_CONVERSION_ERRORS = 1;
+    private static final int EXIT_USAGE = 2;
+    private static final int EXIT_IO_ERROR = 3;
+    private static final int DEFAULT_PORT = 8080;
+    // Exchanges mostly block on I/O, so a pool of platform threads needs a few per core
+    private static final int THREADS_PER_CORE = 4;
+
+    public static void main(String[] args) {
+
+        System.exit(run(args, System.err));
+    }
+
+    static int run(String[] args, PrintStream console) {
+
+        if (args.length > 0 && "serve".equals(args[0])) {
+            return serve(args, console);
+        }
+        if (args.length != 3 && args.length != 5) {
+            return usage(console);
+        }
+        final Transcoder.Direction direction;
+        switch (args[0]) {
+            case "to-roman" -> direction = Transcoder.Direction.TO_ROMAN;
+            case "to-integer" -> direction = Transcoder.Direction.TO_INTEGER;
+            default -> {
+                return usage(console);
+            }
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (args.length == 5) {
+            if (!"--threads".equals(args[3])) {
+                return usage(console);
+            }
+            try {
+                threads = Integer.parseInt(args[4]);
+            }
+            catch (NumberFormatException e) {
+                return usage(console);
+            }
+            if (threads < 1) {
+                return usage(console);
+            }
+        }
+
+        try {
+            final Transcoder.Summary summary = new Transcoder(direction, threads).transcode(Path.of(args[1]),
+                                                                                           Path.of(args[2]));
+            console.printf(Locale.ROOT,
+                           "%,d records in %.3f s (%,.0f records/s), %,d errors%n",
+                           summary.records(),
+                           summary.elapsed().toNanos() / 1e9,
+                           summary.recordsPerSecond(),
+                           summary.errors());
+            return summary.errors() == 0 ? EXIT_OK : EXIT_CONVERSION_ERRORS;
+        }
+        catch (IOException e) {
+            console.printf("Transcoding failed: %s%n", e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+    }
+
+    private static int serve(String[] args, PrintStream console) {
+
+        int port = DEFAULT_PORT;
+        // No number of threads means the default executor
+        int threads = 0;
+        for (int i = 1; i < args.length; i += 2) {
+            if (i + 1 == args.length) {
+                return usage(console);
+            }
+            final int value;
+            try {
+                value = Integer.parseInt(args[i + 1]);
+            }
+            catch (NumberFormatException e) {
+                return usage(console);
+            }
+            switch (args[i]) {
+                case "--port" -> port = value;
+                case "--threads" -> threads = value > 0 ? value : -1;
+                default -> {
+                    return usage(console);
+                }
+            }
+        }
+        if (port < 0 || port > 0xFFFF || threads < 0) {
+            return usage(console);
+        }
+
+        final ExecutorService executor = threads > 0 ? Executors.newFixedThreadPool(threads) : defaultExecutor();
+        final NumerisServer server;
+        try {
+            server = new NumerisServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), executor);
+        }
+        catch (IOException e) {
+            executor.shutdownNow();
+            console.printf("Serving failed: %s%n", e.getMessage());
+            return EXIT_IO_ERROR;
+        }
+        // The server runs until the JVM shuts down; the shutdown hook is the only place that stops it
+        final CountDownLatch stopped = new CountDownLatch(1);
+        final Thread shutdown = new Thread(() -> {
+            server.close();
+            executor.shutdownNow();
+            stopped.countDown();
+        });
+        Runtime.getRuntime().addShutdownHook(shutdown);
+        server.start();
+        console.printf("Listening on http://%s:%d/%n", server.address().getHostString(), server.address().getPort());
+        try {
+            stopped.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Interrupted without the JVM shutting down, so the server is stopped here instead of by the hook
+            Runtime.getRuntime().removeShutdownHook(shutdown);
+            shutdown.run();
+        }
+        return EXIT_OK;
+    }
+
+    // Virtual threads are only available from Java 21, so they are looked up rather than linked against
+    private static ExecutorService defaultExecutor() {
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * THREADS_PER_CORE);
+        }
+    }
+
+    private static int usage(PrintStream console) {
+
+        console.println("Usage: numeris to-roman|to-integer INPUT OUTPUT [--threads N]");
+        console.println("       numeris serve [--port N] [--threads N]");
+        return EXIT_USAGE;
+    }
+}
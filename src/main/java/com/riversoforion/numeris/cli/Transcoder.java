@@ -0,0 +1,318 @@
+package com.riversoforion.numeris.cli;
+
+import com.riversoforion.numeris.DelimitedNumerals;
+import com.riversoforion.numeris.IntegerToRoman;
+import com.riversoforion.numeris.RomanNumeral;
+import com.riversoforion.numeris.RomanNumeralError;
+import com.riversoforion.numeris.internal.Decimals;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Transcodes newline-delimited files of numeric values to Roman numerals, or vice versa.
+ * <p>
+ * The input file is memory-mapped and split into chunks at line boundaries. Chunks are converted in parallel, each
+ * into its own output buffer, and the buffers are written to the output file in the original order. Lines that cannot
+ * be converted are written as empty lines, so that output lines always correspond to input lines, and are counted in
+ * the {@link Summary}.
+ * </p>
+ * <p>
+ * Roman numerals are split into lines and decoded by {@link DelimitedNumerals}, which finds the line ends with the
+ * Vector API when it is {@link DelimitedNumerals#vectorized() available}.
+ * </p>
+ */
+public final class Transcoder {
+
+    /**
+     * The default size of the chunks that are converted in parallel.
+     */
+    static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+    // Largest region mapped at once; a single line must fit within it
+    private static final int MAX_WINDOW_SIZE = 256 << 20;
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final DelimitedNumerals LINES = new DelimitedNumerals(NEWLINE);
+
+    /**
+     * The direction of the conversion.
+     */
+    public enum Direction {
+        /**
+         * Numeric values to Roman numerals.
+         */
+        TO_ROMAN,
+        /**
+         * Roman numerals to numeric values.
+         */
+        TO_INTEGER
+    }
+
+    /**
+     * The outcome of transcoding a file.
+     */
+    @AllArgsConstructor(access = AccessLevel.PACKAGE)
+    @Getter
+    public static final class Summary {
+
+        /**
+         * The number of lines read.
+         */
+        private final long records;
+        /**
+         * The number of lines that could not be converted.
+         */
+        private final long errors;
+        /**
+         * The time taken to transcode the whole file.
+         */
+        private final Duration elapsed;
+
+        /**
+         * The throughput of the transcoding.
+         */
+        public double recordsPerSecond() {
+
+            final double seconds = this.elapsed.toNanos() / 1e9;
+            return seconds > 0 ? this.records / seconds : this.records;
+        }
+    }
+
+    private final Direction direction;
+    private final int threads;
+    private final int chunkSize;
+
+    /**
+     * Creates a transcoder.
+     *
+     * @param direction The direction of the conversion
+     * @param threads   The number of threads to convert chunks on
+     */
+    public Transcoder(Direction direction, int threads) {
+
+        this(direction, threads, DEFAULT_CHUNK_SIZE);
+    }
+
+    Transcoder(Direction direction, int threads, int chunkSize) {
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+        this.direction = direction;
+        this.threads = threads;
+        this.chunkSize = Math.min(chunkSize, MAX_WINDOW_SIZE);
+    }
+
+    /**
+     * Transcodes the input file into the output file, replacing it if it already exists.
+     *
+     * @param input  The file to read
+     * @param output The file to write
+     * @return A summary of the work done
+     * @throws IOException If either file cannot be accessed, or a line is too long
+     */
+    public Summary transcode(Path input, Path output) throws IOException {
+
+        final long started = System.nanoTime();
+        final ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output,
+                                                StandardOpenOption.CREATE,
+                                                StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final Deque<Future<Chunk>> pending = new ArrayDeque<>();
+            long records = 0;
+            long errors = 0;
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                final int windowSize = (int) Math.min(MAX_WINDOW_SIZE, size - position);
+                final ByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+                final boolean lastWindow = position + windowSize == size;
+                final int windowEnd = lastWindow ? windowSize : lastLineEnd(window, 0, windowSize);
+                if (windowEnd == 0) {
+                    throw new IOException(String.format("Line at offset %d is too long", position));
+                }
+                int chunkStart = 0;
+                while (chunkStart < windowEnd) {
+                    final int chunkEnd = chunkStart + this.chunkSize >= windowEnd
+                                         ? windowEnd
+                                         : nextLineEnd(window, chunkStart + this.chunkSize, windowEnd);
+                    final ByteBuffer slice = window.slice(chunkStart, chunkEnd - chunkStart);
+                    pending.add(executor.submit(() -> convert(slice)));
+                    while (pending.size() > this.threads * 2) {
+                        final Chunk chunk = write(pending.remove(), out);
+                        records += chunk.records;
+                        errors += chunk.errors;
+                    }
+                    chunkStart = chunkEnd;
+                }
+                position += windowEnd;
+            }
+            while (!pending.isEmpty()) {
+                final Chunk chunk = write(pending.remove(), out);
+                records += chunk.records;
+                errors += chunk.errors;
+            }
+            return new Summary(records, errors, Duration.ofNanos(System.nanoTime() - started));
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // The index just after the last newline in the range, or the start of the range if there is none
+    private static int lastLineEnd(ByteBuffer buffer, int from, int to) {
+
+        for (int i = to - 1; i >= from; i--) {
+            if (buffer.get(i) == NEWLINE) {
+                return i + 1;
+            }
+        }
+        return from;
+    }
+
+    // The index just after the first newline in the range, or the end of the range if there is none
+    private static int nextLineEnd(ByteBuffer buffer, int from, int to) {
+
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == NEWLINE) {
+                return i + 1;
+            }
+        }
+        return to;
+    }
+
+    private static Chunk write(Future<Chunk> pending, FileChannel out) throws IOException {
+
+        final Chunk chunk;
+        try {
+            chunk = pending.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while transcoding", e);
+        }
+        catch (ExecutionException e) {
+            throw new IOException("Failed to transcode chunk", e.getCause());
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(chunk.output, 0, chunk.length);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        return chunk;
+    }
+
+    // Converts every line of the chunk; runs on a worker thread, so all scratch state is local
+    private Chunk convert(ByteBuffer input) {
+
+        if (this.direction == Direction.TO_INTEGER) {
+            final Chunk chunk = new Chunk(input.limit());
+            chunk.records = LINES.decode(input, (from, to, status) -> {
+                if (!toInteger(status, chunk)) {
+                    chunk.errors++;
+                }
+                chunk.put(NEWLINE);
+            });
+            return chunk;
+        }
+        // Numerals (with their newlines) are about 1.8 times as long as their decimal values on average, so that is
+        // usually enough; inputs with many long numerals (e.g. 3888) grow the buffer, rather than every chunk
+        // reserving room for the worst case
+        final Chunk chunk = new Chunk(input.limit() * 2);
+        final IntegerToRoman encoder = new IntegerToRoman();
+        final char[] scratch = new char[RomanNumeral.MAX_LENGTH];
+        final ByteBuffer line = input.duplicate();
+        int lineStart = 0;
+        while (lineStart < input.limit()) {
+            int lineEnd = nextLineEnd(input, lineStart, input.limit());
+            final int next = lineEnd;
+            if (lineEnd > lineStart && input.get(lineEnd - 1) == NEWLINE) {
+                lineEnd--;
+            }
+            if (lineEnd > lineStart && input.get(lineEnd - 1) == CARRIAGE_RETURN) {
+                lineEnd--;
+            }
+            line.limit(lineEnd).position(lineStart);
+            chunk.records++;
+            if (!toRoman(line, encoder, scratch, chunk)) {
+                chunk.errors++;
+            }
+            chunk.put(NEWLINE);
+            lineStart = next;
+        }
+        return chunk;
+    }
+
+    private static boolean toRoman(ByteBuffer line, IntegerToRoman encoder, char[] scratch, Chunk chunk) {
+
+        final long value = Decimals.parse(line);
+        if (RomanNumeralError.isFailure(value)) {
+            return false;
+        }
+        final long status = encoder.tryConvert(value, scratch, 0);
+        if (RomanNumeralError.isFailure(status)) {
+            return false;
+        }
+        chunk.ensureCapacity((int) status);
+        for (int i = 0; i < status; i++) {
+            chunk.output[chunk.length++] = (byte) scratch[i];
+        }
+        return true;
+    }
+
+    private static boolean toInteger(long numericValue, Chunk chunk) {
+
+        if (RomanNumeralError.isFailure(numericValue)) {
+            return false;
+        }
+        chunk.ensureCapacity(Decimals.MAX_LENGTH);
+        chunk.length += Decimals.write(numericValue, chunk.output, chunk.length);
+        return true;
+    }
+
+    /**
+     * The converted output of one chunk of input, plus its own counts, so that workers never share state.
+     */
+    private static final class Chunk {
+
+        private byte[] output;
+        private int length;
+        private long records;
+        private long errors;
+
+        Chunk(int initialCapacity) {
+
+            this.output = new byte[Math.max(initialCapacity, 64)];
+        }
+
+        void ensureCapacity(int additional) {
+
+            final int required = this.length + additional + 1;
+            if (required > this.output.length) {
+                this.output = Arrays.copyOf(this.output, Math.max(this.output.length * 2, required));
+            }
+        }
+
+        void put(byte b) {
+
+            ensureCapacity(1);
+            this.output[this.length++] = b;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.riversoforion.numeris.internal;
+
+import com.riversoforion.numeris.RomanNumeralError;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Reads and writes numeric values as ASCII decimal text, without creating strings, for the command line transcoder and
+ * the conversion server.
+ * <p>
+ * <em><strong>NOTE:</strong></em> This package is shared by the {@code cli} and {@code server} packages, and is not
+ * part of the library API.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Decimals {
+
+    /**
+     * The longest decimal value (including sign) that could possibly be in range, and the most bytes that
+     * {@link #write(long, byte[], int)} writes.
+     */
+    public static final int MAX_LENGTH = 20;
+
+    /**
+     * Parses an optionally signed decimal value from the remaining bytes of a buffer, ignoring surrounding whitespace.
+     * The position of the buffer is not changed.
+     * <p>
+     * A value that could never be converted to a Roman numeral is reported as a failure status (see
+     * {@link RomanNumeralError}), so that text which is not a number is not mistaken for a value out of range:
+     * </p>
+     * <ul>
+     *     <li>{@link RomanNumeralError#EMPTY_VALUE} if there is nothing but whitespace</li>
+     *     <li>{@link RomanNumeralError#UNPARSEABLE} if the text is not a decimal number</li>
+     *     <li>{@link RomanNumeralError#VALUE_TOO_SMALL} if the number is negative</li>
+     *     <li>{@link RomanNumeralError#VALUE_TOO_LARGE} if the number is too long to be in range</li>
+     * </ul>
+     *
+     * @param text The text to parse, from its position to its limit
+     * @return The non-negative value, or a failure status
+     */
+    public static long parse(ByteBuffer text) {
+
+        int from = text.position();
+        int to = text.limit();
+        while (from < to && (text.get(from) & 0xFF) <= ' ') {
+            from++;
+        }
+        while (to > from && (text.get(to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return RomanNumeralError.EMPTY_VALUE.status();
+        }
+        boolean negative = false;
+        if (text.get(from) == '-' || text.get(from) == '+') {
+            negative = text.get(from) == '-';
+            from++;
+        }
+        if (from == to) {
+            return RomanNumeralError.UNPARSEABLE.status();
+        }
+        for (int i = from; i < to; i++) {
+            final int digit = text.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return RomanNumeralError.UNPARSEABLE.status();
+            }
+        }
+        if (to - from >= MAX_LENGTH - 1) {
+            return negative ? RomanNumeralError.VALUE_TOO_SMALL.status() : RomanNumeralError.VALUE_TOO_LARGE.status();
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + text.get(i) - '0';
+        }
+        return negative && value != 0 ? RomanNumeralError.VALUE_TOO_SMALL.status() : value;
+    }
+
+    /**
+     * Writes a non-negative value in decimal.
+     *
+     * @param value       The value to write
+     * @param destination The array to write into, with room for up to {@link #MAX_LENGTH} bytes from the offset
+     * @param offset      The index of the first byte to write
+     * @return The number of bytes written
+     */
+    public static int write(long value, byte[] destination, int offset) {
+
+        int length = 1;
+        for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+            length++;
+        }
+        // Digits are written least significant first, from the end
+        long remaining = value;
+        for (int i = offset + length - 1; i >= offset; i--) {
+            destination[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,413 @@
+package com.riversoforion.numeris.server;
+
+import com.riversoforion.numeris.internal.Decimals;
+import com.sun.net.httpserver.Headers;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+
+/**
+ * The formats of batch request and response bodies. Both are read and written one element at a time, so that a batch
+ * of any size is converted in constant memory, and its response is streamed as it is converted.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+enum BatchFormat {
+    /**
+     * One element per line; a failed conversion is written as an empty line.
+     */
+    LINES("text/plain; charset=us-ascii") {
+        @Override
+        ElementReader reader(InputStream body) {
+
+            return new LineReader(body);
+        }
+
+        @Override
+        ElementWriter writer(OutputStream body) {
+
+            return new LineWriter(body);
+        }
+    },
+    /**
+     * A JSON array of strings or numbers; a failed conversion is written as {@code null}.
+     */
+    JSON("application/json") {
+        @Override
+        ElementReader reader(InputStream body) {
+
+            return new JsonReader(body);
+        }
+
+        @Override
+        ElementWriter writer(OutputStream body) {
+
+            return new JsonWriter(body);
+        }
+    };
+
+    /**
+     * The {@code Content-Type} of bodies in this format.
+     */
+    private final String contentType;
+
+    /**
+     * Determines the format of a request body from its {@code Content-Type}; anything but JSON is read as lines.
+     */
+    static BatchFormat of(Headers requestHeaders) {
+
+        final String contentType = requestHeaders.getFirst("Content-Type");
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(JSON.contentType)
+               ? JSON
+               : LINES;
+    }
+
+    abstract ElementReader reader(InputStream body);
+
+    abstract ElementWriter writer(OutputStream body);
+
+    /**
+     * Reads the elements of a request body into a reusable buffer, as ASCII bytes.
+     */
+    abstract static class ElementReader {
+
+        // Longer than any valid element (a Roman numeral, or a decimal value in range), so longer ones are just invalid
+        static final int MAX_ELEMENT_LENGTH = 64;
+        private static final byte TRUNCATED = 0x7F;
+        private static final int BUFFER_SIZE = 8192;
+
+        final byte[] element = new byte[MAX_ELEMENT_LENGTH + 1];
+        int length;
+
+        private final ByteBuffer elementText = ByteBuffer.wrap(this.element);
+        private final InputStream body;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private long offset;
+
+        ElementReader(InputStream body) {
+
+            this.body = body;
+        }
+
+        /**
+         * Reads up to the first element.
+         *
+         * @return {@code false} if the body is not in the expected format
+         */
+        abstract boolean start() throws IOException;
+
+        /**
+         * Reads the next element into {@link #element}, with its length in {@link #length}. An element that is too
+         * long to be valid is truncated to one more byte than the {@link #MAX_ELEMENT_LENGTH maximum}, which is never
+         * part of a valid element.
+         *
+         * @return {@code false} if there are no more elements
+         * @throws IOException If the body cannot be read, or is malformed
+         */
+        abstract boolean next() throws IOException;
+
+        /**
+         * Parses the current element as a decimal value, with {@link Decimals#parse(ByteBuffer)}.
+         *
+         * @return The non-negative value, or a failure status if the element is not a decimal number, or could never
+         *         be in range
+         */
+        final long decimalValue() {
+
+            return Decimals.parse(this.elementText.limit(this.length).position(0));
+        }
+
+        final void append(int b) {
+
+            if (this.length < MAX_ELEMENT_LENGTH) {
+                this.element[this.length++] = (byte) b;
+            }
+            else if (this.length == MAX_ELEMENT_LENGTH) {
+                // A truncated element must not convert successfully (e.g. a long run of Xs would otherwise be valid)
+                this.element[this.length++] = TRUNCATED;
+            }
+        }
+
+        // The next byte of the body, or -1 at the end
+        final int read() throws IOException {
+
+            if (this.position == this.limit) {
+                this.offset += this.limit;
+                this.limit = Math.max(this.body.read(this.buffer), 0);
+                this.position = 0;
+                if (this.limit == 0) {
+                    return -1;
+                }
+            }
+            return this.buffer[this.position++] & 0xFF;
+        }
+
+        final IOException malformed(String expected) {
+
+            // At the end of the body, the offset is the length of the body
+            final long at = this.offset + this.position - (this.limit == 0 ? 0 : 1);
+            return new IOException(String.format("Malformed body at offset %d: expected %s", at, expected));
+        }
+    }
+
+    /**
+     * Writes the elements of a response body.
+     */
+    interface ElementWriter {
+
+        void start() throws IOException;
+
+        void text(char[] chars, int length) throws IOException;
+
+        void number(long value) throws IOException;
+
+        void failure() throws IOException;
+
+        void end() throws IOException;
+    }
+
+    private static final class LineReader extends ElementReader {
+
+        private LineReader(InputStream body) {
+
+            super(body);
+        }
+
+        @Override
+        boolean start() {
+
+            return true;
+        }
+
+        @Override
+        boolean next() throws IOException {
+
+            this.length = 0;
+            int b = read();
+            if (b < 0) {
+                return false;
+            }
+            while (b >= 0 && b != '\n') {
+                append(b);
+                b = read();
+            }
+            return true;
+        }
+    }
+
+    private static final class JsonReader extends ElementReader {
+
+        private static final int NONE = -2;
+
+        private boolean first = true;
+        // A byte read past the end of a number, to be seen by the next call
+        private int pending = NONE;
+
+        private JsonReader(InputStream body) {
+
+            super(body);
+        }
+
+        @Override
+        boolean start() throws IOException {
+
+            return skipWhitespace() == '[';
+        }
+
+        @Override
+        boolean next() throws IOException {
+
+            this.length = 0;
+            int b = skipWhitespace();
+            if (b == ']') {
+                return false;
+            }
+            if (!this.first) {
+                if (b != ',') {
+                    throw malformed("',' or ']'");
+                }
+                b = skipWhitespace();
+            }
+            this.first = false;
+            if (b == '"') {
+                readString();
+            }
+            else if (b >= '0' && b <= '9' || b == '-' || b == 'n') {
+                // Numbers (and null, which is never a valid element) are taken as they are
+                while (b >= '0' && b <= '9' || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E'
+                       || b >= 'a' && b <= 'z') {
+                    append(b);
+                    b = read();
+                }
+                this.pending = b;
+            }
+            else {
+                throw malformed("a string or a number");
+            }
+            return true;
+        }
+
+        private int skipWhitespace() throws IOException {
+
+            int b = this.pending != NONE ? this.pending : read();
+            this.pending = NONE;
+            while (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                b = read();
+            }
+            if (b < 0) {
+                throw malformed("more of the array");
+            }
+            return b;
+        }
+
+        private void readString() throws IOException {
+
+            int b;
+            while ((b = read()) != '"') {
+                if (b < 0) {
+                    throw malformed("'\"'");
+                }
+                if (b == '\\') {
+                    b = read();
+                    if (b == 'u') {
+                        int c = 0;
+                        for (int i = 0; i < 4; i++) {
+                            final int digit = Character.digit(read(), 16);
+                            if (digit < 0) {
+                                throw malformed("a hexadecimal digit");
+                            }
+                            c = c << 4 | digit;
+                        }
+                        // Anything beyond ASCII cannot be part of a valid element
+                        b = c < 0x80 ? c : 0x7F;
+                    }
+                    else {
+                        b = switch (b) {
+                            case 'b' -> '\b';
+                            case 'f' -> '\f';
+                            case 'n' -> '\n';
+                            case 'r' -> '\r';
+                            case 't' -> '\t';
+                            case '"', '\\', '/' -> b;
+                            default -> throw malformed("an escape sequence");
+                        };
+                    }
+                }
+                append(b);
+            }
+        }
+    }
+
+    private static final class LineWriter implements ElementWriter {
+
+        private final OutputStream body;
+        private final byte[] digits = new byte[Decimals.MAX_LENGTH];
+
+        private LineWriter(OutputStream body) {
+
+            this.body = body;
+        }
+
+        @Override
+        public void start() {
+
+        }
+
+        @Override
+        public void text(char[] chars, int length) throws IOException {
+
+            for (int i = 0; i < length; i++) {
+                this.body.write(chars[i]);
+            }
+            this.body.write('\n');
+        }
+
+        @Override
+        public void number(long value) throws IOException {
+
+            this.body.write(this.digits, 0, Decimals.write(value, this.digits, 0));
+            this.body.write('\n');
+        }
+
+        @Override
+        public void failure() throws IOException {
+
+            this.body.write('\n');
+        }
+
+        @Override
+        public void end() {
+
+        }
+    }
+
+    private static final class JsonWriter implements ElementWriter {
+
+        private final OutputStream body;
+        private final byte[] digits = new byte[Decimals.MAX_LENGTH];
+        private boolean first = true;
+
+        private JsonWriter(OutputStream body) {
+
+            this.body = body;
+        }
+
+        @Override
+        public void start() throws IOException {
+
+            this.body.write('[');
+        }
+
+        @Override
+        public void text(char[] chars, int length) throws IOException {
+
+            separate();
+            // Roman numerals never need escaping
+            this.body.write('"');
+            for (int i = 0; i < length; i++) {
+                this.body.write(chars[i]);
+            }
+            this.body.write('"');
+        }
+
+        @Override
+        public void number(long value) throws IOException {
+
+            separate();
+            this.body.write(this.digits, 0, Decimals.write(value, this.digits, 0));
+        }
+
+        @Override
+        public void failure() throws IOException {
+
+            separate();
+            this.body.write('n');
+            this.body.write('u');
+            this.body.write('l');
+            this.body.write('l');
+        }
+
+        @Override
+        public void end() throws IOException {
+
+            this.body.write(']');
+        }
+
+        private void separate() throws IOException {
+
+            if (!this.first) {
+                this.body.write(',');
+            }
+            this.first = false;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.riversoforion.numeris.server;
+
+import com.riversoforion.numeris.ConversionListener;
+import com.riversoforion.numeris.IntegerToRoman;
+import com.riversoforion.numeris.Notation;
+import com.riversoforion.numeris.RomanNumeral;
+import com.riversoforion.numeris.RomanNumeralError;
+import com.riversoforion.numeris.RomanNumeralException;
+import com.riversoforion.numeris.RomanToInteger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Handles the conversion endpoints for one direction:
+ * <ul>
+ *     <li>{@code GET /to-roman/42} or {@code GET /to-integer/XLII} converts a single value</li>
+ *     <li>{@code POST /to-roman} or {@code POST /to-integer} converts a batch, in one of the {@link BatchFormat}s</li>
+ * </ul>
+ */
+final class ConversionHandler implements HttpHandler {
+
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    // Flushing the buffer sends a chunk of a streamed response
+    private static final int CHUNK_SIZE = 64 << 10;
+    private static final String TEXT = "text/plain; charset=us-ascii";
+
+    private final ConversionListener.Direction direction;
+    private final IntegerToRoman encoder;
+    private final RomanToInteger decoder;
+    private final ServerMetrics metrics;
+
+    ConversionHandler(ConversionListener.Direction direction, ServerMetrics metrics) {
+
+        this.direction = direction;
+        this.encoder = new IntegerToRoman(Notation.STANDARD, metrics.conversions());
+        this.decoder = new RomanToInteger(Notation.STANDARD, metrics.conversions());
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+
+        final long started = System.nanoTime();
+        try (exchange) {
+            final String path = exchange.getRequestURI().getRawPath();
+            // Contexts match by prefix, so the rest of the path may not even start with a separator
+            final String rest = path.substring(exchange.getHttpContext().getPath().length());
+            if (rest.isEmpty() || "/".equals(rest)) {
+                if (!"POST".equals(exchange.getRequestMethod())) {
+                    notAllowed(exchange, "POST");
+                }
+                else {
+                    convertBatch(exchange);
+                }
+            }
+            else if (rest.charAt(0) != '/' || rest.indexOf('/', 1) >= 0) {
+                respond(exchange, NOT_FOUND, "Not found");
+            }
+            else if (!"GET".equals(exchange.getRequestMethod())) {
+                notAllowed(exchange, "GET");
+            }
+            else {
+                // A '+' in a path is not a space
+                final String value = rest.substring(1).replace("+", "%2B");
+                convertSingle(exchange, URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        }
+        finally {
+            this.metrics.requestCompleted(System.nanoTime() - started);
+        }
+    }
+
+    private void convertSingle(HttpExchange exchange, String value) throws IOException {
+
+        if (this.direction == ConversionListener.Direction.TO_ROMAN) {
+            final long numericValue;
+            try {
+                numericValue = Long.parseLong(value.trim());
+            }
+            catch (NumberFormatException e) {
+                respond(exchange, BAD_REQUEST, String.format("%s is not a number", value));
+                return;
+            }
+            try {
+                respond(exchange, OK, this.encoder.convert(numericValue));
+            }
+            catch (RomanNumeralException e) {
+                respond(exchange, BAD_REQUEST, e.getMessage());
+            }
+        }
+        else {
+            try {
+                respond(exchange, OK, Long.toString(this.decoder.convert(value)));
+            }
+            catch (RomanNumeralException e) {
+                respond(exchange, BAD_REQUEST, e.getMessage());
+            }
+        }
+    }
+
+    private void convertBatch(HttpExchange exchange) throws IOException {
+
+        final BatchFormat format = BatchFormat.of(exchange.getRequestHeaders());
+        final InputStream body = exchange.getRequestBody();
+        final BatchFormat.ElementReader reader = format.reader(body);
+        try {
+            if (!reader.start()) {
+                respond(exchange, BAD_REQUEST, "Expected a JSON array");
+                return;
+            }
+        }
+        catch (IOException e) {
+            respond(exchange, BAD_REQUEST, e.getMessage());
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", format.contentType());
+        // A length of 0 means that the response is streamed, in chunks
+        exchange.sendResponseHeaders(OK, 0);
+        final OutputStream output = new BufferedOutputStream(exchange.getResponseBody(), CHUNK_SIZE);
+        final BatchFormat.ElementWriter writer = format.writer(output);
+        final char[] scratch = new char[RomanNumeral.MAX_LENGTH];
+        writer.start();
+        try {
+            while (reader.next()) {
+                // Elements that are too long are truncated, in a way that still fails to convert
+                if (this.direction == ConversionListener.Direction.TO_ROMAN) {
+                    final long value = reader.decimalValue();
+                    // Text that is not a number never reaches the encoder, but is still counted, with its own error
+                    final long status = RomanNumeralError.isFailure(value)
+                                        ? failed(value)
+                                        : this.encoder.tryConvert(value, scratch, 0);
+                    if (RomanNumeralError.isFailure(status)) {
+                        writer.failure();
+                    }
+                    else {
+                        writer.text(scratch, (int) status);
+                    }
+                }
+                else {
+                    final long status = this.decoder.tryConvert(reader.element, 0, reader.length);
+                    if (RomanNumeralError.isFailure(status)) {
+                        writer.failure();
+                    }
+                    else {
+                        writer.number(status);
+                    }
+                }
+            }
+        }
+        catch (IOException e) {
+            // The body turned out to be malformed part way through (or the client went away), so the response just
+            // ends with the last converted element, which leaves a JSON response incomplete
+            output.flush();
+            return;
+        }
+        writer.end();
+        output.flush();
+        // Whatever the client sent after the end of the batch is discarded, so that the connection can be reused
+        body.transferTo(OutputStream.nullOutputStream());
+    }
+
+    private long failed(long status) {
+
+        this.metrics.conversions().failed(this.direction, RomanNumeralError.fromStatus(status).orElseThrow(), -1L);
+        return status;
+    }
+
+    private static void notAllowed(HttpExchange exchange, String allowed) throws IOException {
+
+        exchange.getResponseHeaders().set("Allow", allowed);
+        respond(exchange, METHOD_NOT_ALLOWED, "Method not allowed");
+    }
+
+    static void respond(HttpExchange exchange, int status, String text) throws IOException {
+
+        respond(exchange, status, TEXT, text + "\n");
+    }
+
+    static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        // The request body must be consumed for the connection to be kept alive
+        exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
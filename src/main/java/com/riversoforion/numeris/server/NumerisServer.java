@@ -0,0 +1,87 @@
+package com.riversoforion.numeris.server;
+
+import com.riversoforion.numeris.ConversionListener;
+import com.riversoforion.numeris.ConversionMetrics;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+
+/**
+ * A small, local HTTP server for converting values, built on the JDK's {@code com.sun.net.httpserver}:
+ * <ul>
+ *     <li>{@code GET /to-roman/{value}} and {@code GET /to-integer/{numeral}} convert a single value, and respond with
+ *     {@code 400 Bad Request} if it cannot be converted</li>
+ *     <li>{@code POST /to-roman} and {@code POST /to-integer} convert a batch: either one element per line, or (with a
+ *     {@code Content-Type} of {@code application/json}) a JSON array. The response is in the same format, with an
+ *     empty line or {@code null} for each element that could not be converted, and is streamed as the batch is
+ *     converted, so batches of any size are converted in constant memory</li>
+ *     <li>{@code GET /stats} reports the throughput and latency of the server, as JSON</li>
+ * </ul>
+ * Only standard notation is supported. Connections are kept alive between requests, so that a load generator on the
+ * same machine can measure the throughput of the conversions rather than of connection setup.
+ * <p>
+ * Every exchange is handled on a thread of the given {@link Executor}. Exchanges block on I/O, so on a runtime that
+ * supports them, an executor with a virtual thread per task scales best; otherwise, a fixed pool of platform threads
+ * with a few threads per core will do.
+ * </p>
+ */
+public final class NumerisServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ServerMetrics metrics = new ServerMetrics();
+
+    /**
+     * Creates a server, which does not accept connections until it is {@link #start() started}.
+     *
+     * @param address  The address to listen on; use port 0 for any free port
+     * @param executor The executor that handles exchanges
+     * @throws IOException If the server cannot listen on the address
+     */
+    public NumerisServer(InetSocketAddress address, Executor executor) throws IOException {
+
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(Objects.requireNonNull(executor, "executor"));
+        this.server.createContext("/to-roman", new ConversionHandler(ConversionListener.Direction.TO_ROMAN,
+                                                                     this.metrics));
+        this.server.createContext("/to-integer", new ConversionHandler(ConversionListener.Direction.TO_INTEGER,
+                                                                       this.metrics));
+        this.server.createContext("/stats", new StatsHandler(this.metrics));
+    }
+
+    /**
+     * Starts accepting connections, in a background thread.
+     */
+    public void start() {
+
+        this.server.start();
+    }
+
+    /**
+     * Retrieves the address the server listens on, including the actual port if it was created with port 0.
+     */
+    public InetSocketAddress address() {
+
+        return this.server.getAddress();
+    }
+
+    /**
+     * Retrieves the metrics of every conversion performed by the server.
+     */
+    public ConversionMetrics conversions() {
+
+        return this.metrics.conversions();
+    }
+
+    /**
+     * Stops the server immediately, closing all connections. The executor is not shut down.
+     */
+    @Override
+    public void close() {
+
+        this.server.stop(0);
+    }
+}
@@ -0,0 +1,102 @@
+package com.riversoforion.numeris.server;
+
+import com.riversoforion.numeris.ConversionListener;
+import com.riversoforion.numeris.ConversionMetrics;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * The throughput and latency of a {@link NumerisServer}: every conversion is recorded by a shared
+ * {@link ConversionMetrics}, and every request (including batches, which may contain any number of conversions) is
+ * counted and timed here, in the same kind of power-of-two histogram.
+ */
+final class ServerMetrics {
+
+    private static final ConversionListener.Direction[] DIRECTIONS = ConversionListener.Direction.values();
+    private static final double[] PERCENTILES = { 0.5, 0.9, 0.99 };
+
+    /**
+     * The conversion metrics, to be installed as the listener of every converter.
+     */
+    @Getter
+    private final ConversionMetrics conversions = new ConversionMetrics(true);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder[] requestLatencies = new LongAdder[ConversionMetrics.LATENCY_BUCKETS];
+    private final long startedNanos = System.nanoTime();
+
+    ServerMetrics() {
+
+        for (int i = 0; i < this.requestLatencies.length; i++) {
+            this.requestLatencies[i] = new LongAdder();
+        }
+    }
+
+    void requestCompleted(long elapsedNanos) {
+
+        this.requests.increment();
+        final int bucket = elapsedNanos <= 0 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(elapsedNanos);
+        this.requestLatencies[bucket].increment();
+    }
+
+    /**
+     * Renders a snapshot of the metrics as a JSON object. Rates are averages since the server started, and latency
+     * percentiles are in nanoseconds, rounded up to the upper bound of their histogram bucket.
+     */
+    String toJson() {
+
+        final double uptime = Math.max(System.nanoTime() - this.startedNanos, 1) / 1e9;
+        final long requestCount = this.requests.sum();
+        final long[] requestHistogram = new long[this.requestLatencies.length];
+        for (int i = 0; i < requestHistogram.length; i++) {
+            requestHistogram[i] = this.requestLatencies[i].sum();
+        }
+        final StringBuilder json = new StringBuilder(512);
+        json.append(String.format(Locale.ROOT, "{\"uptimeSeconds\":%.3f,", uptime))
+            .append(String.format(Locale.ROOT, "\"requests\":{\"count\":%d,\"perSecond\":%.1f,\"latencyNanos\":",
+                                  requestCount, requestCount / uptime));
+        appendPercentiles(json, requestHistogram);
+        json.append('}');
+        for (ConversionListener.Direction direction : DIRECTIONS) {
+            final long successes = this.conversions.successes(direction);
+            final long failures = this.conversions.failures(direction);
+            json.append(",\"").append(direction.name().toLowerCase(Locale.ROOT).replace('_', '-')).append("\":")
+                .append(String.format(Locale.ROOT, "{\"successes\":%d,\"failures\":%d,\"perSecond\":%.1f,",
+                                      successes, failures, (successes + failures) / uptime))
+                .append("\"latencyNanos\":");
+            appendPercentiles(json, this.conversions.latencyHistogram(direction));
+            json.append('}');
+        }
+        return json.append("}\n").toString();
+    }
+
+    private static void appendPercentiles(StringBuilder json, long[] histogram) {
+
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        json.append('{');
+        for (int p = 0; p < PERCENTILES.length; p++) {
+            if (p > 0) {
+                json.append(',');
+            }
+            json.append("\"p").append(Math.round(PERCENTILES[p] * 100)).append("\":");
+            if (total == 0) {
+                json.append("null");
+                continue;
+            }
+            final long rank = (long) Math.ceil(PERCENTILES[p] * total);
+            long seen = 0;
+            int bucket = 0;
+            while (seen + histogram[bucket] < rank) {
+                seen += histogram[bucket++];
+            }
+            // Bucket i holds latencies below 2^(i+1)
+            json.append(bucket >= Long.SIZE - 2 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1);
+        }
+        json.append('}');
+    }
+}
@@ -0,0 +1,38 @@
+package com.riversoforion.numeris.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import lombok.AllArgsConstructor;
+
+import java.io.IOException;
+
+
+/**
+ * Handles {@code GET /stats}, which reports the {@link ServerMetrics} as JSON.
+ */
+@AllArgsConstructor
+final class StatsHandler implements HttpHandler {
+
+    private final ServerMetrics metrics;
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+
+        final long started = System.nanoTime();
+        try (exchange) {
+            if (!"/stats".equals(exchange.getRequestURI().getRawPath())) {
+                ConversionHandler.respond(exchange, 404, "Not found");
+            }
+            else if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                ConversionHandler.respond(exchange, 405, "Method not allowed");
+            }
+            else {
+                ConversionHandler.respond(exchange, 200, "application/json", this.metrics.toJson());
+            }
+        }
+        finally {
+            this.metrics.requestCompleted(System.nanoTime() - started);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.riversoforion.numeris;
+
+import com.riversoforion.numeris.ConversionListener.Direction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+
+@DisplayName("Conversion metrics")
+class ConversionMetricsTest {
+
+    @Test
+    @DisplayName("numeric values to Roman numerals")
+    void toRoman() throws RomanNumeralException {
+
+        var metrics = new ConversionMetrics();
+        var itor = new IntegerToRoman(Notation.STANDARD, metrics);
+
+        itor.convert(42);
+        itor.convert(42, new StringBuilder());
+        itor.apply(0L);
+        itor.apply((Long) null);
+        itor.tryConvert(4000, new char[RomanNumeral.MAX_LENGTH], 0);
+        assertThatExceptionOfType(RomanNumeralException.class).isThrownBy(() -> itor.convert(-1, new char[1], 0));
+        itor.convertAll(new long[]{ 1, 2, 5000 }, new ConversionErrors());
+
+        assertThat(metrics.successes(Direction.TO_ROMAN)).isEqualTo(4);
+        assertThat(metrics.failures(Direction.TO_ROMAN)).isEqualTo(5);
+        assertThat(metrics.failures(Direction.TO_ROMAN, RomanNumeralError.EMPTY_VALUE)).isEqualTo(1);
+        assertThat(metrics.failures(Direction.TO_ROMAN, RomanNumeralError.VALUE_TOO_SMALL)).isEqualTo(2);
+        assertThat(metrics.failures(Direction.TO_ROMAN, RomanNumeralError.VALUE_TOO_LARGE)).isEqualTo(2);
+        assertThat(metrics.successes(Direction.TO_INTEGER)).isZero();
+        assertThat(metrics.latencyHistogram(Direction.TO_ROMAN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Roman numerals to numeric values")
+    void toInteger() throws RomanNumeralException {
+
+        var metrics = new ConversionMetrics();
+        var rtoi = new RomanToInteger(Notation.STANDARD, metrics);
+
+        rtoi.convert("XLII");
+        rtoi.applyAsLong("xlii");
+        rtoi.apply("ABC");
+        rtoi.tryConvert((CharSequence) null);
+        assertThatExceptionOfType(RomanNumeralException.class).isThrownBy(() -> rtoi.convert("  "));
+        rtoi.convertAll(new String[]{ "I", "II", "IIV", null }, new ConversionErrors());
+
+        assertThat(metrics.successes(Direction.TO_INTEGER)).isEqualTo(4);
+        assertThat(metrics.failures(Direction.TO_INTEGER, RomanNumeralError.UNPARSEABLE)).isEqualTo(2);
+        assertThat(metrics.failures(Direction.TO_INTEGER, RomanNumeralError.EMPTY_VALUE)).isEqualTo(3);
+        assertThat(metrics.failures(Direction.TO_ROMAN)).isZero();
+
+        metrics.reset();
+        assertThat(metrics.successes(Direction.TO_INTEGER)).isZero();
+        assertThat(metrics.failures(Direction.TO_INTEGER)).isZero();
+    }
+
+    @Test
+    @DisplayName("Roman numeral values")
+    void romanNumerals() throws RomanNumeralException {
+
+        var metrics = new ConversionMetrics();
+        RomanNumeral.installListener(metrics);
+        try {
+            RomanNumeral.of(12);
+            RomanNumeral.parse("XII");
+            RomanNumeral.of(5000, Notation.PARENTHESES);
+            assertThatExceptionOfType(RomanNumeralException.class).isThrownBy(() -> RomanNumeral.of(5000));
+            assertThatExceptionOfType(RomanNumeralException.class).isThrownBy(() -> RomanNumeral.parse("MMMM"));
+        }
+        finally {
+            RomanNumeral.installListener(ConversionListener.NONE);
+        }
+        RomanNumeral.of(12);
+
+        assertThat(metrics.successes(Direction.TO_ROMAN)).isEqualTo(2);
+        assertThat(metrics.successes(Direction.TO_INTEGER)).isEqualTo(1);
+        assertThat(metrics.failures(Direction.TO_ROMAN, RomanNumeralError.VALUE_TOO_LARGE)).isEqualTo(1);
+        assertThat(metrics.failures(Direction.TO_INTEGER, RomanNumeralError.VALUE_TOO_LARGE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("counts are exact under concurrency, and latencies are recorded")
+    void concurrency() {
+
+        var metrics = new ConversionMetrics(true);
+        var itor = new IntegerToRoman(Notation.STANDARD, metrics);
+
+        LongStream.rangeClosed(-999, 3999 * 25).parallel().forEach(itor::apply);
+
+        assertThat(metrics.successes(Direction.TO_ROMAN)).isEqualTo(3999);
+        assertThat(metrics.failures(Direction.TO_ROMAN, RomanNumeralError.VALUE_TOO_SMALL)).isEqualTo(1000);
+        assertThat(metrics.failures(Direction.TO_ROMAN, RomanNumeralError.VALUE_TOO_LARGE)).isEqualTo(3999 * 24);
+        var histogram = metrics.latencyHistogram(Direction.TO_ROMAN);
+        assertThat(histogram).hasSize(ConversionMetrics.LATENCY_BUCKETS);
+        assertThat(Arrays.stream(histogram).sum()).isEqualTo(3999 * 25 + 1000);
+    }
+}
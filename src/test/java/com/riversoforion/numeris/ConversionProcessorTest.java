@@ -0,0 +1,276 @@
+package com.riversoforion.numeris;
+
+import com.diffplug.common.base.Either;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@DisplayName("Reactive conversion processors")
+class ConversionProcessorTest {
+
+    // Runs the drain loop on the signalling thread, so that every test is deterministic
+    private static final Executor DIRECT = Runnable::run;
+
+    /**
+     * An upstream that publishes elements only when told to, and records the demand it receives.
+     */
+    private static final class Upstream<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private long requested;
+        private boolean cancelled;
+
+        private Upstream(Flow.Subscriber<? super T> subscriber) {
+
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+
+            this.requested += n;
+        }
+
+        @Override
+        public void cancel() {
+
+            this.cancelled = true;
+        }
+
+        @SafeVarargs
+        private void publish(T... items) {
+
+            for (T item : items) {
+                assertThat(this.requested).isPositive();
+                this.requested--;
+                this.subscriber.onNext(item);
+            }
+        }
+    }
+
+    /**
+     * A subscriber that requests elements only when told to, and records every signal.
+     */
+    private static final class Downstream<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean complete;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+
+            this.items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+
+            this.complete = true;
+        }
+    }
+
+    @Test
+    @DisplayName("failures are published inline as typed results")
+    void results() {
+
+        var processor = ConversionProcessor.ofResults(new RomanToInteger(), DIRECT, 4);
+        var upstream = new Upstream<String>(processor);
+        var downstream = new Downstream<Either<Long, RomanNumeralException>>();
+        processor.subscribe(downstream);
+
+        downstream.subscription.request(10);
+        upstream.publish("XIV", "bad", "MCM");
+        processor.onComplete();
+
+        assertThat(downstream.items).hasSize(3);
+        assertThat(downstream.items.get(0).getLeft()).isEqualTo(14L);
+        assertThat(downstream.items.get(1).getRight().error()).isEqualTo(RomanNumeralError.UNPARSEABLE);
+        assertThat(downstream.items.get(2).getLeft()).isEqualTo(1900L);
+        assertThat(downstream.complete).isTrue();
+    }
+
+    @Test
+    @DisplayName("failures are routed to a separate channel")
+    void values() {
+
+        var failures = new ArrayList<RomanNumeralException>();
+        var processor = ConversionProcessor.ofValues(new IntegerToRoman(), failures::add, DIRECT, 4);
+        var upstream = new Upstream<Long>(processor);
+        var downstream = new Downstream<String>();
+        processor.subscribe(downstream);
+
+        downstream.subscription.request(10);
+        upstream.publish(1L, 0L, 42L, 4000L);
+        processor.onComplete();
+
+        assertThat(downstream.items).containsExactly("I", "XLII");
+        assertThat(failures).extracting(RomanNumeralException::error)
+                            .containsExactly(RomanNumeralError.VALUE_TOO_SMALL, RomanNumeralError.VALUE_TOO_LARGE);
+        assertThat(downstream.complete).isTrue();
+    }
+
+    @Test
+    @DisplayName("demand is respected, and requested from upstream in batches")
+    void backpressure() {
+
+        var processor = ConversionProcessor.ofResults(new IntegerToRoman(), DIRECT, 8);
+        var upstream = new Upstream<Long>(processor);
+        var downstream = new Downstream<Either<String, RomanNumeralException>>();
+        processor.subscribe(downstream);
+        assertThat(upstream.requested).isEqualTo(8);
+
+        upstream.publish(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(downstream.items).isEmpty();
+        assertThat(upstream.requested).isZero();
+
+        downstream.subscription.request(2);
+        assertThat(downstream.items).hasSize(2);
+        // The whole chunk was converted, so a batch's worth of demand is replenished
+        assertThat(upstream.requested).isEqualTo(6);
+
+        downstream.subscription.request(Long.MAX_VALUE);
+        upstream.publish(9L);
+        processor.onComplete();
+        assertThat(downstream.items).extracting(Either::getLeft)
+                                    .containsExactly("I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX");
+        assertThat(downstream.complete).isTrue();
+    }
+
+    @Test
+    @DisplayName("errors are passed on, and cancel upstream")
+    void errors() {
+
+        var processor = ConversionProcessor.ofResults(new IntegerToRoman(), DIRECT, 4);
+        var upstream = new Upstream<Long>(processor);
+        var downstream = new Downstream<Either<String, RomanNumeralException>>();
+        processor.subscribe(downstream);
+
+        processor.onError(new IllegalStateException("upstream failed"));
+        assertThat(downstream.error).hasMessage("upstream failed");
+
+        var invalid = ConversionProcessor.ofResults(new IntegerToRoman(), DIRECT, 4);
+        var invalidUpstream = new Upstream<Long>(invalid);
+        var invalidDownstream = new Downstream<Either<String, RomanNumeralException>>();
+        invalid.subscribe(invalidDownstream);
+        invalidDownstream.subscription.request(0);
+        assertThat(invalidDownstream.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(invalidUpstream.cancelled).isTrue();
+
+        var second = new Downstream<Either<String, RomanNumeralException>>();
+        processor.subscribe(second);
+        assertThat(second.error).isInstanceOf(IllegalStateException.class);
+        assertThat(upstream.cancelled).isFalse();
+    }
+
+    @Test
+    @DisplayName("executor rejections are reported")
+    void rejected() {
+
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("full");
+        };
+        var processor = ConversionProcessor.ofResults(new IntegerToRoman(), rejecting, 4);
+        var upstream = new Upstream<Long>(processor);
+        var downstream = new Downstream<Either<String, RomanNumeralException>>();
+        processor.subscribe(downstream);
+
+        assertThat(downstream.error).isInstanceOf(RejectedExecutionException.class);
+        assertThat(upstream.cancelled).isTrue();
+    }
+
+    @Test
+    @DisplayName("cancellation stops publication")
+    void cancel() {
+
+        var processor = ConversionProcessor.ofResults(new IntegerToRoman(), DIRECT, 4);
+        var upstream = new Upstream<Long>(processor);
+        var downstream = new Downstream<Either<String, RomanNumeralException>>();
+        processor.subscribe(downstream);
+
+        downstream.subscription.request(1);
+        upstream.publish(1L, 2L);
+        downstream.subscription.cancel();
+        downstream.subscription.request(1);
+
+        assertThat(downstream.items).hasSize(1);
+        assertThat(upstream.cancelled).isTrue();
+        assertThat(downstream.complete).isFalse();
+    }
+
+    @Test
+    @DisplayName("order is preserved on a thread pool")
+    void concurrent() throws InterruptedException {
+
+        var failures = new ArrayList<RomanNumeralException>();
+        var encoder = ConversionProcessor.ofValues(new IntegerToRoman(), failures::add);
+        var decoder = ConversionProcessor.ofValues(new RomanToInteger(), failures::add);
+        var values = new ArrayList<Long>();
+        var finished = new CountDownLatch(1);
+        try (var publisher = new SubmissionPublisher<Long>()) {
+            publisher.subscribe(encoder);
+            encoder.subscribe(decoder);
+            decoder.subscribe(new Flow.Subscriber<>() {
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(Long item) {
+
+                    values.add(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+
+                    finished.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+
+                    finished.countDown();
+                }
+            });
+            for (long value = 0; value <= RomanNumeral.MAX_VALUE; value++) {
+                publisher.submit(value);
+            }
+        }
+
+        assertThat(finished.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(values).hasSize((int) RomanNumeral.MAX_VALUE);
+        for (int i = 0; i < values.size(); i++) {
+            assertThat(values.get(i)).isEqualTo(i + 1L);
+        }
+        assertThat(failures).hasSize(1);
+    }
+}
@@ -0,0 +1,126 @@
+package com.riversoforion.numeris;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+@DisplayName("Bulk validation and decoding of delimited numerals")
+class DelimitedNumeralsTest {
+
+    private static byte[] ascii(String text) {
+
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static List<String> decode(DelimitedNumerals numerals, ByteBuffer input) {
+
+        var fields = new ArrayList<String>();
+        var count = numerals.decode(input, (from, to, status) -> fields.add(from + "-" + to + "=" + status));
+        assertThat(count).isEqualTo(fields.size());
+        return fields;
+    }
+
+    @ParameterizedTest(name = "vectorized: {0}")
+    @ValueSource(booleans = { false, true })
+    @DisplayName("validation finds the first invalid byte")
+    void validate(boolean vectorized) {
+
+        var numerals = new DelimitedNumerals((byte) ',', vectorized);
+        var valid = ascii(" XIV,mcm ,\tix\r\n,".repeat(20));
+
+        assertThat(numerals.validate(valid, 0, valid.length)).isEqualTo(-1);
+        for (int position : new int[] { 0, 15, 63, 64, valid.length - 1 }) {
+            for (byte invalid : ascii("AZ0(.;")) {
+                var input = Arrays.copyOf(valid, valid.length);
+                input[position] = invalid;
+                assertThat(numerals.validate(input, 0, input.length)).isEqualTo(position);
+                assertThat(numerals.validate(input, position + 1, input.length)).isEqualTo(-1);
+            }
+            var input = Arrays.copyOf(valid, valid.length);
+            input[position] = (byte) 0xC9;
+            assertThat(numerals.validate(input, 0, input.length)).isEqualTo(position);
+        }
+    }
+
+    @ParameterizedTest(name = "vectorized: {0}")
+    @ValueSource(booleans = { false, true })
+    @DisplayName("buffers are validated from their position, without changing it")
+    void validateBuffers(boolean vectorized) {
+
+        var numerals = new DelimitedNumerals((byte) '\n', vectorized);
+        var input = ascii("BAD\n" + "MMXXII\n".repeat(30) + "CXV");
+        var direct = ByteBuffer.allocateDirect(input.length).put(input).position(4);
+
+        for (var buffer : List.of(ByteBuffer.wrap(input).position(4), direct, direct.asReadOnlyBuffer())) {
+            assertThat(numerals.validate(buffer)).isEqualTo(-1);
+            assertThat(numerals.validate(buffer.duplicate().position(1))).isZero();
+            assertThat(buffer.position()).isEqualTo(4);
+        }
+        input[100] = '?';
+        assertThat(numerals.validate(ByteBuffer.wrap(input).position(4))).isEqualTo(96);
+    }
+
+    @ParameterizedTest(name = "vectorized: {0}")
+    @ValueSource(booleans = { false, true })
+    @DisplayName("fields are decoded between delimiters")
+    void decode(boolean vectorized) {
+
+        var numerals = new DelimitedNumerals((byte) ',', vectorized);
+        var input = ascii("XIV, mcm ,,ABC,IIII,");
+
+        assertThat(decode(numerals, ByteBuffer.wrap(input))).containsExactly(
+                "0-3=14",
+                "4-9=1900",
+                "10-10=" + NumeralParser.EMPTY,
+                "11-14=" + RomanNumeralError.UNPARSEABLE.status(0),
+                "15-19=4");
+        var direct = ByteBuffer.allocateDirect(input.length).put(input).position(4).limit(14);
+        assertThat(decode(numerals, direct)).containsExactly(
+                "0-5=1900",
+                "6-6=" + NumeralParser.EMPTY,
+                "7-10=" + RomanNumeralError.UNPARSEABLE.status(0));
+        assertThat(direct.position()).isEqualTo(4);
+    }
+
+    @ParameterizedTest(name = "vectorized: {0}")
+    @ValueSource(booleans = { false, true })
+    @DisplayName("every valid value is decoded from a long buffer")
+    void decodeAll(boolean vectorized) {
+
+        var numerals = new DelimitedNumerals((byte) '\n', vectorized);
+        var itor = new IntegerToRoman();
+        var text = new StringBuilder();
+        for (long value = RomanNumeral.MIN_VALUE; value <= RomanNumeral.MAX_VALUE; value++) {
+            text.append(itor.apply(value).getLeft()).append('\n');
+        }
+        var input = ascii(text.toString());
+        var values = new ArrayList<Long>();
+
+        var count = numerals.decode(input, 0, input.length, (from, to, status) -> values.add(status));
+
+        assertThat(count).isEqualTo((int) RomanNumeral.MAX_VALUE);
+        for (int i = 0; i < values.size(); i++) {
+            assertThat(values.get(i)).isEqualTo(i + 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("delimiters must not be Roman numeral symbols")
+    void invalidDelimiter() {
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new DelimitedNumerals((byte) 'X'));
+        assertThatIllegalArgumentException().isThrownBy(() -> new DelimitedNumerals((byte) 'c'));
+        assertThat(new DelimitedNumerals((byte) ';').delimiter()).isEqualTo((byte) ';');
+    }
+}
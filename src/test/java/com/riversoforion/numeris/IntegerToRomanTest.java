@@ -13,6 +13,9 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.LongStream;
@@ -245,6 +248,203 @@ class IntegerToRomanTest {
                     .isThrownBy(() -> itor.convert(numericValue))
                     .withMessage(String.format("%d is too large", numericValue));
         }
+
+        @ParameterizedTest(name = "{0} throws with a stack trace")
+        @ValueSource(longs = { MIN_VALUE - 1, MAX_VALUE + 1 })
+        @DisplayName("thrown exceptions have stack traces")
+        void stackTraces(long numericValue) {
+
+            assertThatExceptionOfType(RomanNumeralException.class)
+                    .isThrownBy(() -> itor.convert(numericValue))
+                    .satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("imperative usage with caller-supplied buffers")
+    class Buffers {
+
+        @ParameterizedTest(name = "{0} converts to {1}")
+        @CsvSource(textBlock = """
+                               1,    I
+                               42,   XLII
+                               3888, MMMDCCCLXXXVIII
+                               """)
+        @DisplayName("character arrays")
+        void charArrays(long numericValue, String expectedStringValue) throws RomanNumeralException {
+
+            var buffer = new char[RomanNumeral.MAX_LENGTH + 3];
+            Arrays.fill(buffer, '-');
+            int written = itor.convert(numericValue, buffer, 3);
+            assertThat(written).isEqualTo(expectedStringValue.length());
+            assertThat(new String(buffer, 0, 3 + written)).isEqualTo("---" + expectedStringValue);
+        }
+
+        @ParameterizedTest(name = "{0} converts to {1}")
+        @CsvSource(textBlock = """
+                               1,    I
+                               42,   XLII
+                               3888, MMMDCCCLXXXVIII
+                               """)
+        @DisplayName("string builders")
+        void stringBuilders(long numericValue, String expectedStringValue) throws RomanNumeralException {
+
+            var builder = new StringBuilder("Chapter ");
+            assertThat(itor.convert(numericValue, builder)).isEqualTo(expectedStringValue.length());
+            assertThat(builder).hasToString("Chapter " + expectedStringValue);
+        }
+
+        @ParameterizedTest(name = "{0} converts to {1}")
+        @CsvSource(textBlock = """
+                               1,    I
+                               42,   XLII
+                               3888, MMMDCCCLXXXVIII
+                               """)
+        @DisplayName("appendables")
+        void appendables(long numericValue, String expectedStringValue) throws RomanNumeralException, IOException {
+
+            var writer = new StringWriter();
+            assertThat(itor.convert(numericValue, (Appendable) writer)).isEqualTo(expectedStringValue.length());
+            assertThat(writer).hasToString(expectedStringValue);
+        }
+
+        @ParameterizedTest(name = "{0} is not allowed")
+        @CsvSource(textBlock = """
+                               0,    VALUE_TOO_SMALL
+                               -12,  VALUE_TOO_SMALL
+                               4000, VALUE_TOO_LARGE
+                               """)
+        @DisplayName("out of range values without exceptions")
+        void outOfRangeWithoutExceptions(long numericValue, RomanNumeralError expectedError) {
+
+            long status = itor.tryConvert(numericValue, new char[RomanNumeral.MAX_LENGTH], 0);
+            assertThat(RomanNumeralError.isFailure(status)).isTrue();
+            assertThat(RomanNumeralError.fromStatus(status)).contains(expectedError);
+        }
+
+        @Test
+        @DisplayName("valid values without exceptions")
+        void validWithoutExceptions() {
+
+            var buffer = new char[RomanNumeral.MAX_LENGTH];
+            assertThat(itor.tryConvert(1984, buffer, 0)).isEqualTo(9);
+            assertThat(new String(buffer, 0, 9)).isEqualTo("MCMLXXXIV");
+        }
+
+        @Test
+        @DisplayName("buffer too small")
+        void bufferTooSmall() {
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> itor.convert(3888, new char[RomanNumeral.MAX_LENGTH], 1));
+        }
+
+        @ParameterizedTest(name = "{0} is not allowed")
+        @ValueSource(longs = { MIN_VALUE - 1, MAX_VALUE + 1 })
+        @DisplayName("out of range values")
+        void outOfRange(long numericValue) {
+
+            var builder = new StringBuilder();
+            assertThatExceptionOfType(RomanNumeralException.class)
+                    .isThrownBy(() -> itor.convert(numericValue, builder));
+            assertThat(builder).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("batch usage")
+    class Batch {
+
+        @Test
+        @DisplayName("valid values")
+        void validValues() {
+
+            var errors = new ConversionErrors();
+            assertThat(itor.convertAll(new long[]{ 1, 42, 987, 3999 }, errors))
+                    .containsExactly("I", "XLII", "CMLXXXVII", "MMMCMXCIX");
+            assertThat(errors.isEmpty()).isTrue();
+            assertThat(errors.size()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("failures are recorded by index")
+        void failures() {
+
+            var errors = new ConversionErrors();
+            assertThat(itor.convertAll(new long[]{ 0, 5, MAX_VALUE + 1, 10 }, errors))
+                    .containsExactly(null, "V", null, "X");
+            assertThat(errors.count()).isEqualTo(2);
+            assertThat(errors.failures().stream()).containsExactly(0, 2);
+            assertThat(errors.error(0)).contains(RomanNumeralError.VALUE_TOO_SMALL);
+            assertThat(errors.error(1)).isEmpty();
+            assertThat(errors.error(2)).contains(RomanNumeralError.VALUE_TOO_LARGE);
+            assertThat(errors.codes()).containsExactly(RomanNumeralError.VALUE_TOO_SMALL.code(),
+                                                       RomanNumeralError.NONE,
+                                                       RomanNumeralError.VALUE_TOO_LARGE.code(),
+                                                       RomanNumeralError.NONE);
+        }
+    }
+
+    @Nested
+    @DisplayName("extended notations")
+    class ExtendedNotations {
+
+        // '^' stands for the combining overline, which is hard to read in source
+        @ParameterizedTest(name = "{0} converts to {1} and {2}")
+        @CsvSource(textBlock = """
+                               3999,                MMMCMXCIX,          MMMCMXCIX
+                               4000,                I^V^,               (IV)
+                               4600,                I^V^DC,             (IV)DC
+                               3000000,             M^M^M^,             (MMM)
+                               5500000,             V^^D^,              ((V))(D)
+                               1000001,             M^I,                (M)I
+                               2000000000005,       M^^^M^^^V,          (((MM)))V
+                               """)
+        @DisplayName("large values")
+        void largeValues(long numericValue, String expectedVinculum, String expectedParentheses)
+                throws RomanNumeralException {
+
+            assertThat(new IntegerToRoman(Notation.VINCULUM).convert(numericValue))
+                    .isEqualTo(expectedVinculum.replace('^', '\u0305'));
+            assertThat(new IntegerToRoman(Notation.PARENTHESES).convert(numericValue))
+                    .isEqualTo(expectedParentheses);
+        }
+
+        @Test
+        @DisplayName("the standard range is unchanged")
+        void standardRange() throws RomanNumeralException {
+
+            var vinculum = new IntegerToRoman(Notation.VINCULUM);
+            var parentheses = new IntegerToRoman(Notation.PARENTHESES);
+            for (long value = MIN_VALUE; value <= MAX_VALUE; value++) {
+                var expected = itor.convert(value);
+                assertThat(vinculum.convert(value)).isEqualTo(expected);
+                assertThat(parentheses.convert(value)).isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("the longest numerals fit the maximum length")
+        void maxLength() throws RomanNumeralException {
+
+            for (Notation notation : Notation.values()) {
+                var longest = notation == Notation.STANDARD ? 3888 : 8_888_888_888_888_888_888L;
+                var buffer = new char[notation.maxLength()];
+                assertThat(new IntegerToRoman(notation).convert(longest, buffer, 0)).isEqualTo(notation.maxLength());
+            }
+        }
+
+        @Test
+        @DisplayName("only values below the minimum are rejected")
+        void outOfRange() {
+
+            var converter = new IntegerToRoman(Notation.PARENTHESES);
+            assertThat(converter.apply(0L).getRight()).hasMessage("0 is too small");
+            assertThat(converter.tryConvert(-1, new char[1], 0)).isEqualTo(RomanNumeralError.VALUE_TOO_SMALL.status());
+            var errors = new ConversionErrors();
+            assertThat(converter.convertAll(new long[]{ 0, 4000 }, errors)).containsExactly(null, "(IV)");
+            assertThat(errors.count()).isEqualTo(1);
+        }
     }
 
     @Nested
@@ -288,6 +488,17 @@ class IntegerToRomanTest {
             assertThat(results).containsExactly(expectedDigits);
         }
 
+        @Test
+        @DisplayName("table-driven encoding of every valid value")
+        void encodeAllValues() throws RomanNumeralException {
+
+            var buffer = new char[RomanNumeral.MAX_LENGTH + 2];
+            for (long value = MIN_VALUE; value <= MAX_VALUE; value++) {
+                int length = NumeralEncoder.encode((int) value, buffer, 2);
+                assertThat(new String(buffer, 2, length)).isEqualTo(itor.convert(value));
+            }
+        }
+
         static Stream<Arguments> unfoldDigitsFromValue() {
 
             return Stream.of(
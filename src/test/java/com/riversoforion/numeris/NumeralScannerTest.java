@@ -0,0 +1,87 @@
+package com.riversoforion.numeris;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@DisplayName("Scanning free text for Roman numerals")
+class NumeralScannerTest {
+
+    private static List<String> scan(NumeralScanner scanner, String text) {
+
+        var matches = new ArrayList<String>();
+        var count = scanner.scan(CharBuffer.wrap(text),
+                                 (offset, length, value) -> matches.add(offset + "+" + length + "=" + value));
+        assertThat(count).isEqualTo(matches.size());
+        return matches;
+    }
+
+    @ParameterizedTest(name = "\"{0}\" contains {1}")
+    @CsvSource(delimiter = '|', textBlock = """
+                                            Louis XIV                      | [6+3=14]
+                                            XIV                            | [0+3=14]
+                                            Chapter XII. Part IV-V, Art. C | [8+3=12, 18+2=4, 21+1=5, 29+1=100]
+                                            MIXED mix XIVth (XL)           | [17+2=40]
+                                            VX IIX XLX IIII                | [7+3=50, 11+4=4]
+                                            no numerals here               | []
+                                            """)
+    @DisplayName("default rules")
+    void defaultRules(String text, String expectedMatches) {
+
+        assertThat(scan(new NumeralScanner(), text)).hasToString(expectedMatches);
+    }
+
+    @Test
+    @DisplayName("custom rules")
+    void customRules() {
+
+        assertThat(scan(new NumeralScanner(Character::isLetterOrDigit, true), "mix MIX xIv"))
+                .containsExactly("0+3=1009", "4+3=1009", "8+3=14");
+        assertThat(scan(new NumeralScanner(NumeralScanner.NO_BOUNDARIES, false), "XIVth 3C"))
+                .containsExactly("0+3=14", "7+1=100");
+        assertThat(scan(new NumeralScanner(c -> c != ' ', false), "Louis XIV, and XV"))
+                .containsExactly("15+2=15");
+    }
+
+    @Test
+    @DisplayName("buffers are scanned from their position, without changing it")
+    void bufferPosition() {
+
+        var buffer = CharBuffer.wrap("I, II, III");
+        buffer.position(3);
+        var matches = new ArrayList<Long>();
+        new NumeralScanner().scan(buffer, (offset, length, value) -> matches.add(offset));
+        assertThat(matches).containsExactly(0L, 4L);
+        assertThat(buffer.position()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("readers are scanned across buffer boundaries")
+    void reader() throws IOException, RomanNumeralException {
+
+        var text = new StringBuilder();
+        var expected = new ArrayList<String>();
+        var itor = new IntegerToRoman();
+        for (int value = 1; value <= RomanNumeral.MAX_VALUE; value++) {
+            var numeral = itor.convert(value);
+            expected.add(text.length() + "+" + numeral.length() + "=" + value);
+            text.append(numeral).append(value % 2 == 0 ? ' ' : '\n');
+        }
+        var matches = new ArrayList<String>();
+        var count = new NumeralScanner().scan(new StringReader(text.toString()),
+                                              (offset, length, value) -> matches.add(
+                                                      offset + "+" + length + "=" + value));
+        assertThat(count).isEqualTo(RomanNumeral.MAX_VALUE);
+        assertThat(matches).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,81 @@
+package com.riversoforion.numeris;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+
+@DisplayName("Parallel batch conversion")
+class ParallelConverterTest {
+
+    private static final ExecutorService FIXED_POOL = Executors.newFixedThreadPool(3);
+
+    // Values from well below to well above the valid range, so every kind of failure appears in every range
+    private static final long[] NUMBERS = LongStream.rangeClosed(-500, RomanNumeral.MAX_VALUE + 500)
+                                                    .map(value -> value * 7 % (RomanNumeral.MAX_VALUE + 1000))
+                                                    .toArray();
+
+    @AfterAll
+    static void shutdown() {
+
+        FIXED_POOL.shutdownNow();
+    }
+
+    static Stream<Arguments> converters() {
+
+        return Stream.of(
+                arguments("common pool", new ParallelConverter()),
+                arguments("small ranges on a fork/join pool", new ParallelConverter(new ForkJoinPool(4), 100)),
+                arguments("small ranges on a fixed pool", new ParallelConverter(FIXED_POOL, 100))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("converters")
+    @DisplayName("numeric values to Roman numerals match the sequential batch")
+    void toRoman(String description, ParallelConverter converter) {
+
+        var sequentialErrors = new ConversionErrors();
+        var parallelErrors = new ConversionErrors();
+
+        var expected = new IntegerToRoman().convertAll(NUMBERS, sequentialErrors);
+        var actual = converter.convertAll(NUMBERS, parallelErrors);
+
+        assertThat(actual).containsExactly(expected);
+        assertThat(parallelErrors.count()).isPositive().isEqualTo(sequentialErrors.count());
+        assertThat(parallelErrors.failures()).isEqualTo(sequentialErrors.failures());
+        assertThat(parallelErrors.codes()).isEqualTo(sequentialErrors.codes());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("converters")
+    @DisplayName("Roman numerals to numeric values match the sequential batch")
+    void toInteger(String description, ParallelConverter converter) {
+
+        var romanValues = Arrays.stream(new IntegerToRoman().convertAll(NUMBERS, new ConversionErrors()))
+                                .map(romanValue -> romanValue == null ? "bad" : romanValue.toLowerCase())
+                                .toArray(String[]::new);
+        var sequentialErrors = new ConversionErrors();
+        var parallelErrors = new ConversionErrors();
+
+        var expected = new RomanToInteger().convertAll(romanValues, sequentialErrors);
+
+        assertThat(converter.convertAll(romanValues, parallelErrors)).containsExactly(expected);
+        assertThat(parallelErrors.failures()).isEqualTo(sequentialErrors.failures());
+        assertThat(converter.convertAll(List.of(romanValues), parallelErrors)).containsExactly(expected);
+        assertThat(parallelErrors.codes()).isEqualTo(sequentialErrors.codes());
+    }
+}
@@ -0,0 +1,120 @@
+package com.riversoforion.numeris;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+@DisplayName("Collectors of Roman numerals")
+class RomanCollectorsTest {
+
+    private static final List<String> NUMERALS = List.of("XII", "v", "bad", "CMLV", "XII", "MMMM", "iiii");
+
+    private record Chapter(String number) { }
+
+    @Test
+    @DisplayName("summary statistics")
+    void summarizing() {
+
+        var stats = NUMERALS.stream().collect(RomanCollectors.summarizing());
+
+        assertThat(stats.count()).isEqualTo(5);
+        assertThat(stats.failures()).isEqualTo(2);
+        assertThat(stats.sum()).isEqualTo(988);
+        assertThat(stats.min()).isEqualTo(4);
+        assertThat(stats.max()).isEqualTo(955);
+        assertThat(stats.average()).isEqualTo(988 / 5.0);
+        assertThat(stats.distinctCount()).isEqualTo(4);
+        assertThat(stats.minNumeral()).containsSame(RomanNumeral.canonical(4));
+        assertThat(stats.maxNumeral().map(RomanNumeral::stringValue)).hasValue("CMLV");
+        assertThat(stats.sumNumeral(Notation.STANDARD).getLeft().stringValue()).isEqualTo("CMLXXXVIII");
+    }
+
+    @Test
+    @DisplayName("empty summary statistics")
+    void empty() {
+
+        var stats = Stream.of("bad").collect(RomanCollectors.summarizing());
+
+        assertThat(stats.count()).isZero();
+        assertThat(stats.failures()).isEqualTo(1);
+        assertThat(stats.average()).isZero();
+        assertThat(stats.minNumeral()).isEmpty();
+        assertThat(stats.maxNumeral()).isEmpty();
+        assertThat(stats.sumNumeral(Notation.STANDARD).getRight().error()).isEqualTo(RomanNumeralError.VALUE_TOO_SMALL);
+        assertThatIllegalArgumentException().isThrownBy(() -> stats.accept(4000L));
+    }
+
+    @Test
+    @DisplayName("single aggregates ignore invalid numerals")
+    void aggregates() {
+
+        assertThat(NUMERALS.stream().collect(RomanCollectors.summing())).isEqualTo(988);
+        assertThat(NUMERALS.stream().collect(RomanCollectors.averaging())).isEqualTo(988 / 5.0);
+        assertThat(NUMERALS.stream().collect(RomanCollectors.minimum()).map(RomanNumeral::numericValue)).hasValue(4L);
+        assertThat(NUMERALS.stream().collect(RomanCollectors.maximum()).map(RomanNumeral::numericValue)).hasValue(955L);
+        assertThat(NUMERALS.stream().collect(RomanCollectors.countingDistinct())).isEqualTo(4);
+        assertThat(Stream.of("bad").collect(RomanCollectors.maximum())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("numerals beyond the standard range are failures, unlike with RomanToInteger")
+    void overRange() {
+
+        assertThat(new RomanToInteger().tryConvert("MMMM")).isEqualTo(4_000);
+
+        var stats = Stream.of("MMMM", "X").collect(RomanCollectors.summarizing());
+
+        assertThat(stats.count()).isEqualTo(1);
+        assertThat(stats.failures()).isEqualTo(1);
+        assertThat(stats.max()).isEqualTo(10);
+        assertThat(Stream.of("MMMM", "X").collect(RomanCollectors.summing())).isEqualTo(10);
+        assertThat(Stream.of("MMMM").collect(RomanCollectors.maximum())).isEmpty();
+        assertThat(Stream.of("MMMM", "mmmm").collect(RomanCollectors.countingDistinct())).isZero();
+        assertThat(new RomanNumeralLongMap().containsKey("MMMM")).isFalse();
+    }
+
+    @Test
+    @DisplayName("fields of elements")
+    void fields() {
+
+        var chapters = Stream.of("I", "II", "III", "IV").map(Chapter::new).collect(Collectors.toList());
+
+        assertThat(chapters.stream().collect(RomanCollectors.summing(Chapter::number))).isEqualTo(10);
+        assertThat(chapters.stream().collect(RomanCollectors.summingToNumeral(Chapter::number, Notation.STANDARD))
+                           .getLeft().stringValue()).isEqualTo("X");
+        assertThat(chapters.stream().collect(RomanCollectors.summarizing(Chapter::number)).maxNumeral()
+                           .map(RomanNumeral::stringValue)).hasValue("IV");
+    }
+
+    @Test
+    @DisplayName("parallel streams combine partial results")
+    void parallel() {
+
+        var encoder = new IntegerToRoman();
+        var numerals = LongStream.rangeClosed(1, RomanNumeral.MAX_VALUE)
+                                 .mapToObj(value -> encoder.apply(value).getLeft())
+                                 .collect(Collectors.toList());
+
+        var stats = numerals.parallelStream().collect(RomanCollectors.summarizing());
+
+        assertThat(stats.count()).isEqualTo(RomanNumeral.MAX_VALUE);
+        assertThat(stats.sum()).isEqualTo(RomanNumeral.MAX_VALUE * (RomanNumeral.MAX_VALUE + 1) / 2);
+        assertThat(stats.min()).isEqualTo(1);
+        assertThat(stats.max()).isEqualTo(RomanNumeral.MAX_VALUE);
+        assertThat(stats.distinctCount()).isEqualTo((int) RomanNumeral.MAX_VALUE);
+        assertThat(numerals.parallelStream().collect(RomanCollectors.summing())).isEqualTo(stats.sum());
+        assertThat(numerals.parallelStream().collect(RomanCollectors.countingDistinct())).isEqualTo(3999);
+        assertThat(numerals.parallelStream().collect(RomanCollectors.minimum()))
+                .containsSame(RomanNumeral.canonical(1));
+        assertThat(numerals.parallelStream().collect(RomanCollectors.summingToNumeral(Notation.PARENTHESES)).getLeft()
+                           .numericValue()).isEqualTo(stats.sum());
+    }
+}
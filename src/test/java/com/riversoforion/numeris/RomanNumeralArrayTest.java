@@ -0,0 +1,130 @@
+package com.riversoforion.numeris;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+@DisplayName("Packed arrays of Roman numerals")
+class RomanNumeralArrayTest {
+
+    @Test
+    @DisplayName("append values, numerals and text")
+    void append() throws RomanNumeralException {
+
+        var array = new RomanNumeralArray();
+
+        array.add(12);
+        array.add(RomanNumeral.of(3_999));
+        assertThat(array.add("cmlv")).isTrue();
+        assertThat(array.add("bad")).isFalse();
+        assertThat(array.add("MMMM")).isFalse();
+        assertThat(array.add((CharSequence) null)).isFalse();
+
+        assertThat(array.size()).isEqualTo(3);
+        assertThat(array.toArray()).containsExactly(12, 3_999, 955);
+        assertThat(array.getNumeral(2)).isSameAs(RomanNumeral.of(955));
+        assertThat(array.getString(1)).isEqualTo("MMMCMXCIX");
+        assertThat(array).hasToString("[XII, MMMCMXCIX, CMLV]");
+    }
+
+    @Test
+    @DisplayName("rejected values are not appended")
+    void rejected() throws RomanNumeralException {
+
+        var array = RomanNumeralArray.of(5);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> array.add(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> array.add(4_000));
+        var extended = RomanNumeral.of(4_000, Notation.PARENTHESES);
+        assertThatIllegalArgumentException().isThrownBy(() -> array.add(extended));
+
+        assertThat(array.size()).isEqualTo(1);
+        assertThat(array).hasToString("[V]");
+    }
+
+    @Test
+    @DisplayName("bulk append")
+    void bulk() {
+
+        var array = RomanNumeralArray.of(1, 2);
+        var errors = new ConversionErrors();
+
+        assertThat(array.addAll(new String[] { "III", "nope", "IV", "" }, errors)).isEqualTo(2);
+        assertThat(errors.failures().stream()).containsExactly(1, 3);
+        assertThat(errors.error(1)).hasValue(RomanNumeralError.UNPARSEABLE);
+
+        array.addAll(new long[] { 0, 5, 6, 7 }, 1, 3);
+        array.addAll(RomanNumeralArray.of(7));
+
+        assertThat(array.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7);
+        assertThatIllegalArgumentException().isThrownBy(() -> array.addAll(new long[] { 8, 4_000 }, 0, 2));
+        assertThat(array.size()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("grow from empty")
+    void grow() {
+
+        var array = new RomanNumeralArray(0);
+        for (long value = RomanNumeral.MAX_VALUE; value >= RomanNumeral.MIN_VALUE; value--) {
+            array.add(value);
+        }
+        array.trimToSize();
+
+        assertThat(array.size()).isEqualTo(3_999);
+        assertThat(array.get(0)).isEqualTo(3_999);
+        assertThat(array.get(3_998)).isEqualTo(1);
+        assertThatThrownBy(() -> array.get(3_999)).isInstanceOf(IndexOutOfBoundsException.class);
+
+        array.clear();
+        assertThat(array.isEmpty()).isTrue();
+        assertThat(array.stream().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("sort and search")
+    void search() {
+
+        var array = RomanNumeralArray.of(40, 9, 1_000, 4, 90);
+
+        array.sort();
+
+        assertThat(array.toArray()).containsExactly(4, 9, 40, 90, 1_000);
+        assertThat(array.binarySearch(90)).isEqualTo(3);
+        assertThat(array.binarySearch(50)).isEqualTo(-4);
+        assertThat(array.binarySearch(0)).isEqualTo(-1);
+        assertThat(array.binarySearch(5_000)).isEqualTo(-6);
+    }
+
+    @Test
+    @DisplayName("primitive iteration and views")
+    void iteration() {
+
+        var array = RomanNumeralArray.of(3, 1, 2);
+        var seen = new ArrayList<Long>();
+
+        array.forEach((long value) -> seen.add(value));
+        assertThat(seen).containsExactly(3L, 1L, 2L);
+
+        var iterator = array.iterator();
+        assertThat(iterator.nextLong()).isEqualTo(3);
+        assertThat(array.stream().sum()).isEqualTo(6);
+
+        List<String> strings = array.asStrings();
+        array.set(0, 10);
+        assertThat(strings).containsExactly("X", "I", "II");
+        assertThat(array.asNumerals()).extracting(RomanNumeral::numericValue).containsExactly(10L, 1L, 2L);
+        assertThatThrownBy(() -> strings.add("V")).isInstanceOf(UnsupportedOperationException.class);
+
+        assertThat(array).isEqualTo(RomanNumeralArray.of(10, 1, 2))
+                         .hasSameHashCodeAs(RomanNumeralArray.of(10, 1, 2))
+                         .isNotEqualTo(RomanNumeralArray.of(10, 1));
+    }
+}
@@ -0,0 +1,127 @@
+package com.riversoforion.numeris;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+
+@DisplayName("Maps keyed by Roman numeral")
+class RomanNumeralMapTest {
+
+    @Test
+    @DisplayName("keys as numerals, values and text")
+    void keys() throws RomanNumeralException {
+
+        var map = new RomanNumeralMap<String>();
+
+        assertThat(map.put("XII", "twelve")).isNull();
+        assertThat(map.put(RomanNumeral.of(4), "four")).isNull();
+        assertThat(map.put(12, "dozen")).isEqualTo("twelve");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(RomanNumeral.of(12))).isEqualTo("dozen");
+        assertThat(map.get("iiii")).isEqualTo("four");
+        assertThat(map.get(4)).isEqualTo("four");
+        assertThat(map.containsKey("bad")).isFalse();
+        assertThat(map.get(0)).isNull();
+        assertThat(map.get(RomanNumeral.of(4_000, Notation.PARENTHESES))).isNull();
+        assertThat(map).hasToString("{IV=four, XII=dozen}");
+
+        assertThat(map.remove("IV")).isEqualTo("four");
+        assertThat(map.remove(4)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("invalid keys and values")
+    void invalid() throws RomanNumeralException {
+
+        var map = new RomanNumeralMap<String>();
+        var extended = RomanNumeral.of(5_000, Notation.PARENTHESES);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> map.put(4_000, "x"));
+        assertThatIllegalArgumentException().isThrownBy(() -> map.put("MMMM", "x"));
+        assertThatIllegalArgumentException().isThrownBy(() -> map.put(extended, "x"));
+        assertThatNullPointerException().isThrownBy(() -> map.put(1, null));
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("iteration and map view")
+    void view() throws RomanNumeralException {
+
+        var map = new RomanNumeralMap<String>();
+        map.put(3_999, "last");
+        map.put(1, "first");
+        map.put(64, "sixty-four");
+        var keys = new ArrayList<Long>();
+
+        map.forEach((numeral, value) -> keys.add(numeral.numericValue()));
+        assertThat(keys).containsExactly(1L, 64L, 3_999L);
+
+        Map<RomanNumeral, String> view = map.asMap();
+        assertThat(view).containsEntry(RomanNumeral.of(64), "sixty-four").hasSize(3);
+        assertThat(view.get("LXIV")).isNull();
+
+        view.entrySet().removeIf(entry -> entry.getKey().numericValue() == 1);
+        view.entrySet().iterator().next().setValue("sixty-four!");
+        view.put(RomanNumeral.of(2), "second");
+
+        assertThat(map.get(64)).isEqualTo("sixty-four!");
+        assertThat(map.get(2)).isEqualTo("second");
+        assertThat(map.containsKey(1)).isFalse();
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("long values")
+    void longValues() throws RomanNumeralException {
+
+        var map = new RomanNumeralLongMap();
+
+        assertThat(map.addTo("XII", 24)).isEqualTo(24);
+        assertThat(map.addTo(RomanNumeral.of(12), 1L << 40)).isEqualTo(24 + (1L << 40));
+        assertThat(map.put(64, 0)).isZero();
+        assertThat(map.put("LXIV", -1)).isZero();
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(64)).isEqualTo(-1);
+        assertThat(map.containsKey(64)).isTrue();
+        assertThat(map.get("I")).isZero();
+        assertThat(map.getOrDefault("I", 7)).isEqualTo(7);
+        assertThat(map.getOrDefault("bad", 7)).isEqualTo(7);
+        assertThat(map).hasToString("{XII=1099511627800, LXIV=-1}");
+
+        assertThat(map.remove(12)).isEqualTo(24 + (1L << 40));
+        assertThat(map.containsKey(12)).isFalse();
+        assertThat(map.get(12)).isZero();
+        assertThatIllegalArgumentException().isThrownBy(() -> map.addTo(0, 1));
+    }
+
+    @Test
+    @DisplayName("int values")
+    void intValues() {
+
+        var map = new RomanNumeralIntMap();
+        for (String numeral : new String[] { "I", "ii", "II", "iiii", "IV", "IV" }) {
+            map.addTo(numeral, 1);
+        }
+        var counts = new ArrayList<String>();
+
+        map.forEach((numeral, count) -> counts.add(numeral.stringValue() + ":" + count));
+
+        assertThat(counts).containsExactly("I:1", "II:2", "IV:3");
+        assertThat(map.getOrDefault(3, -1)).isEqualTo(-1);
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(4)).isZero();
+    }
+}
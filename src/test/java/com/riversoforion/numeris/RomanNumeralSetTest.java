@@ -0,0 +1,143 @@
+package com.riversoforion.numeris;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+@DisplayName("Sets of Roman numerals")
+class RomanNumeralSetTest {
+
+    @Test
+    @DisplayName("add values, numerals and text")
+    void add() throws RomanNumeralException {
+
+        var set = new RomanNumeralSet();
+
+        assertThat(set.add(12)).isTrue();
+        assertThat(set.add("xii")).isFalse();
+        assertThat(set.add(RomanNumeral.of(3_999))).isTrue();
+        assertThat(set.add("iiii")).isTrue();
+
+        assertThat(set.cardinality()).isEqualTo(3);
+        assertThat(set.contains("IV")).isTrue();
+        assertThat(set.contains(RomanNumeral.of(12))).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains("bad")).isFalse();
+        assertThat(set).hasToString("{IV, XII, MMMCMXCIX}")
+                       .containsExactly(RomanNumeral.of(4), RomanNumeral.of(12), RomanNumeral.of(3_999));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> set.add(4_000));
+        assertThatIllegalArgumentException().isThrownBy(() -> set.add("MMMM"));
+        assertThat(set.remove(12)).isTrue();
+        assertThat(set.remove(12)).isFalse();
+        assertThat(set.toArray()).containsExactly(4, 3_999);
+    }
+
+    @Test
+    @DisplayName("set algebra")
+    void algebra() {
+
+        var owned = RomanNumeralSet.range(1, 12);
+        var wanted = RomanNumeralSet.of(3, 12, 13, 100);
+
+        assertThat(owned.copy().union(wanted).toArray()).hasSize(14).startsWith(1, 2).endsWith(12, 13, 100);
+        assertThat(owned.copy().intersect(wanted).toArray()).containsExactly(3, 12);
+        assertThat(wanted.copy().subtract(owned).toArray()).containsExactly(13, 100);
+        assertThat(RomanNumeralSet.of(1, 2, 3).xor(RomanNumeralSet.of(3, 4)).toArray()).containsExactly(1, 2, 4);
+        assertThat(owned.intersects(wanted)).isTrue();
+        assertThat(owned.intersects(RomanNumeralSet.of(13))).isFalse();
+        assertThat(owned.containsAll(RomanNumeralSet.of(1, 12))).isTrue();
+        assertThat(owned.containsAll(wanted)).isFalse();
+        assertThat(owned).isEqualTo(RomanNumeralSet.range(1, 12)).hasSameHashCodeAs(RomanNumeralSet.range(1, 12));
+    }
+
+    @Test
+    @DisplayName("range operations")
+    void ranges() {
+
+        var set = RomanNumeralSet.range(60, 3_999);
+
+        assertThat(set.cardinality()).isEqualTo(3_940);
+        set.removeRange(100, 3_900);
+        assertThat(set.cardinality()).isEqualTo(40 + 99);
+        assertThat(set.subSet(50, 70).toArray()).containsExactly(60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70);
+        set.retainRange(3_990, Long.MAX_VALUE);
+        assertThat(set.toArray()).containsExactly(3_990, 3_991, 3_992, 3_993, 3_994, 3_995, 3_996, 3_997, 3_998, 3_999);
+        set.removeRange(Long.MIN_VALUE, 3_995);
+        assertThat(set.cardinality()).isEqualTo(4);
+        set.retainRange(10, 1);
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(RomanNumeralSet.range(5, 4).isEmpty()).isTrue();
+        assertThatIllegalArgumentException().isThrownBy(() -> RomanNumeralSet.range(0, 4));
+    }
+
+    @Test
+    @DisplayName("navigation")
+    void navigation() {
+
+        var set = RomanNumeralSet.of(1, 63, 64, 3_999);
+
+        assertThat(set.nextValue(Long.MIN_VALUE)).isEqualTo(1);
+        assertThat(set.nextValue(2)).isEqualTo(63);
+        assertThat(set.nextValue(65)).isEqualTo(3_999);
+        assertThat(set.nextValue(4_000)).isEqualTo(-1);
+        assertThat(set.previousValue(Long.MAX_VALUE)).isEqualTo(3_999);
+        assertThat(set.previousValue(3_998)).isEqualTo(64);
+        assertThat(set.previousValue(62)).isEqualTo(1);
+        assertThat(set.previousValue(0)).isEqualTo(-1);
+        assertThat(set.first().map(RomanNumeral::numericValue)).hasValue(1L);
+        assertThat(set.last().map(RomanNumeral::numericValue)).hasValue(3_999L);
+        assertThat(new RomanNumeralSet().first()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("iteration and streams")
+    void iteration() {
+
+        var set = RomanNumeralSet.of(5, 10, 50, 100);
+        var iterator = set.iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next().numericValue() % 10 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(set.toArray()).containsExactly(5);
+        assertThat(RomanNumeralSet.range(1, 100).stream().sum()).isEqualTo(5_050);
+        assertThat(new RomanNumeralSet().stream().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("agrees with java.util.BitSet")
+    void bitSet() {
+
+        var random = new SplittableRandom(42);
+        var left = new RomanNumeralSet();
+        var right = new RomanNumeralSet();
+        var expectedLeft = new BitSet();
+        var expectedRight = new BitSet();
+        for (int i = 0; i < 1_000; i++) {
+            long value = random.nextLong(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE + 1);
+            left.add(value);
+            expectedLeft.set((int) value);
+            value = random.nextLong(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE + 1);
+            right.add(value);
+            expectedRight.set((int) value);
+        }
+
+        expectedLeft.andNot(expectedRight);
+        left.subtract(right);
+        expectedLeft.xor(expectedRight);
+        left.xor(right);
+
+        assertThat(left.cardinality()).isEqualTo(expectedLeft.cardinality());
+        assertThat(left.stream().toArray()).containsExactly(expectedLeft.stream().asLongStream().toArray());
+    }
+}
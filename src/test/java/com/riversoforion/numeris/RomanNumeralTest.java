@@ -5,7 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 
 @DisplayName("RomanNumeral value class")
@@ -35,6 +40,63 @@ class RomanNumeralTest {
         assertThat(RomanNumeral.parse(romanValue).numericValue()).isEqualTo(expectedNumericValue);
     }
 
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+                           ' dvi    ', DVI
+                           mmCCxXiI,   MMCCXXII
+                           """)
+    void parseCanonicalizesStringValue(String romanValue, String expectedRomanValue) throws RomanNumeralException {
+
+        assertThat(RomanNumeral.parse(romanValue).stringValue()).isEqualTo(expectedRomanValue);
+    }
+
+    @Test
+    void parseOutOfRange() {
+
+        assertThatExceptionOfType(RomanNumeralException.class)
+                .isThrownBy(() -> RomanNumeral.parse("MMMM"))
+                .withMessage("4000 is too large");
+    }
+
+    @Test
+    void extendedNotations() throws RomanNumeralException {
+
+        var large = RomanNumeral.of(4600, Notation.PARENTHESES);
+        assertThat(large.stringValue()).isEqualTo("(IV)DC");
+        assertThat(RomanNumeral.parse(" (iv)dc", Notation.PARENTHESES)).isEqualTo(large);
+        assertThat(RomanNumeral.parse("MMMM", Notation.VINCULUM).stringValue()).isEqualTo("I\u0305V\u0305");
+        assertThat(RomanNumeral.of(1984, Notation.VINCULUM)).isSameAs(RomanNumeral.of(1984));
+        assertThatExceptionOfType(RomanNumeralException.class)
+                .isThrownBy(() -> RomanNumeral.of(4000, Notation.STANDARD))
+                .withMessage("4000 is too large");
+    }
+
+    @Test
+    void stringValuesAreShared() throws RomanNumeralException {
+
+        var input = new String("  xlii ");
+        var numeral = RomanNumeral.parse(input);
+        assertThat(numeral.stringValue()).isEqualTo("XLII")
+                                         .isSameAs(RomanNumeral.of(42).stringValue());
+        assertThat(numeral).hasToString("RomanNumeral(numericValue=42, stringValue=XLII)");
+    }
+
+    @Test
+    void extendedStringValuesAreEncodedOnDemand() throws RomanNumeralException {
+
+        var numeral = RomanNumeral.parse("((v))(d)", Notation.PARENTHESES);
+        assertThat(numeral.numericValue()).isEqualTo(5_500_000);
+        assertThat(numeral.stringValue()).isEqualTo("((V))(D)");
+        assertThat(numeral).hasToString("RomanNumeral(numericValue=5500000, stringValue=((V))(D))");
+    }
+
+    @Test
+    void instancesAreShared() throws RomanNumeralException {
+
+        assertThat(RomanNumeral.of(1984)).isSameAs(RomanNumeral.of(1984))
+                                         .isSameAs(RomanNumeral.parse("mcmlxxxiv"));
+    }
+
     @Test
     void hashCodeAndEquals() throws RomanNumeralException {
 
@@ -42,6 +104,92 @@ class RomanNumeralTest {
         var rnFromString = RomanNumeral.parse("CCLVIII");
         assertThat(rnFromNumber).hasSameHashCodeAs(rnFromString)
                                 .isEqualTo(rnFromString)
-                                .isNotSameAs(rnFromString);
+                                .isSameAs(rnFromString);
+    }
+
+    @ParameterizedTest
+    @CsvSource(textBlock = """
+                           XII,     plus,  III, XV
+                           XII,     minus, III, IX
+                           XII,     times, III, XXXVI
+                           MMMCMXC, plus,  X,   VALUE_TOO_LARGE
+                           III,     minus, III, VALUE_TOO_SMALL
+                           MM,      times, II,  VALUE_TOO_LARGE
+                           """)
+    void arithmetic(String left, String operation, String right, String expected) throws RomanNumeralException {
+
+        var first = RomanNumeral.parse(left);
+        var second = RomanNumeral.parse(right);
+        var result = switch (operation) {
+            case "plus" -> first.plus(second);
+            case "minus" -> first.minus(second);
+            default -> first.times(second);
+        };
+        if (result.isLeft()) {
+            assertThat(result.getLeft().stringValue()).isEqualTo(expected);
+            assertThat(result.getLeft()).isSameAs(RomanNumeral.parse(expected));
+        }
+        else {
+            assertThat(result.getRight().error()).hasToString(expected);
+        }
+    }
+
+    @Test
+    void extendedArithmetic() throws RomanNumeralException {
+
+        var large = RomanNumeral.of(5000, Notation.PARENTHESES);
+        assertThat(large.plus(RomanNumeral.of(1)).getLeft().stringValue()).isEqualTo("(V)I");
+        assertThat(large.minus(4999).getLeft()).isSameAs(RomanNumeral.of(1));
+        assertThat(RomanNumeral.of(1).plus(large).getRight().error()).isEqualTo(RomanNumeralError.VALUE_TOO_LARGE);
+        assertThat(large.times(Long.MAX_VALUE).getRight().error()).isEqualTo(RomanNumeralError.VALUE_TOO_LARGE);
+        assertThat(large.times(Long.MIN_VALUE).getRight().error()).isEqualTo(RomanNumeralError.VALUE_TOO_SMALL);
+        assertThat(large.plus(Long.MAX_VALUE).getRight().error()).isEqualTo(RomanNumeralError.VALUE_TOO_LARGE);
+        assertThat(large.minus(Long.MIN_VALUE).getRight().error()).isEqualTo(RomanNumeralError.VALUE_TOO_LARGE);
+    }
+
+    @Test
+    void comparison() throws RomanNumeralException {
+
+        var small = RomanNumeral.of(9);
+        var large = RomanNumeral.of(5000, Notation.VINCULUM);
+        assertThat(small).isLessThan(large)
+                         .isEqualByComparingTo(RomanNumeral.parse("ix"));
+        assertThat(RomanNumeral.min(small, large)).isSameAs(small);
+        assertThat(RomanNumeral.max(small, large)).isSameAs(large);
+    }
+
+    @Test
+    void range() throws RomanNumeralException {
+
+        var encoder = new IntegerToRoman();
+        assertThat(RomanNumeral.range(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE).map(RomanNumeral::stringValue))
+                .containsExactlyElementsOf(LongStream.rangeClosed(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE)
+                                                     .mapToObj(value -> encoder.apply(value).getLeft())
+                                                     .collect(Collectors.toList()));
+        assertThat(RomanNumeral.range(8, 10)).containsExactly(RomanNumeral.of(8), RomanNumeral.of(9),
+                                                              RomanNumeral.of(10));
+        assertThat(RomanNumeral.range(10, 9)).isEmpty();
+        assertThat(RomanNumeral.rangeIterator(3_999, 3_999)).toIterable().containsExactly(RomanNumeral.of(3_999));
+        assertThatExceptionOfType(RomanNumeralException.class).isThrownBy(() -> RomanNumeral.range(0, 10));
+        assertThatExceptionOfType(RomanNumeralException.class).isThrownBy(() -> RomanNumeral.rangeIterator(1, 4_000));
+    }
+
+    @Test
+    void rangeSplitsEvenly() throws RomanNumeralException {
+
+        var spliterator = RomanNumeral.range(1, 1_000).spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(1_000);
+
+        var prefix = spliterator.trySplit();
+        assertThat(prefix.getExactSizeIfKnown()).isEqualTo(500);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(500);
+        prefix.tryAdvance(first -> assertThat(first.numericValue()).isEqualTo(1));
+        spliterator.tryAdvance(first -> assertThat(first.numericValue()).isEqualTo(501));
+
+        assertThat(RomanNumeral.range(1, RomanNumeral.MAX_VALUE).parallel().mapToLong(RomanNumeral::numericValue).sum())
+                .isEqualTo(RomanNumeral.MAX_VALUE * (RomanNumeral.MAX_VALUE + 1) / 2);
+        assertThat(RomanNumeral.range(1, 2_000).parallel().filter(numeral -> numeral.numericValue() % 2 == 0).count())
+                .isEqualTo(1_000);
     }
 }
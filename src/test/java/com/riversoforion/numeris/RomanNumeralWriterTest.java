@@ -0,0 +1,135 @@
+package com.riversoforion.numeris;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+@DisplayName("Writing Roman numerals as ASCII")
+class RomanNumeralWriterTest {
+
+    private static final IntegerToRoman ENCODER = new IntegerToRoman();
+
+    private static String expected(long[] values, String delimiter) {
+
+        return LongStream.of(values)
+                         .mapToObj(value -> ENCODER.apply(value).getLeft() + delimiter)
+                         .collect(Collectors.joining());
+    }
+
+    @Test
+    @DisplayName("every value to a stream")
+    void stream() throws Exception {
+
+        var values = LongStream.rangeClosed(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE).toArray();
+        var output = new ByteArrayOutputStream();
+
+        try (var writer = new RomanNumeralWriter(output, ", ")) {
+            writer.writeAll(values, 0, values.length);
+        }
+
+        assertThat(output.toString(StandardCharsets.US_ASCII)).isEqualTo(expected(values, ", "));
+    }
+
+    @Test
+    @DisplayName("to a channel")
+    void channel() throws Exception {
+
+        var values = LongStream.rangeClosed(3_800, RomanNumeral.MAX_VALUE).toArray();
+        var output = new ByteArrayOutputStream();
+        var channel = Channels.newChannel(output);
+
+        try (var writer = new RomanNumeralWriter(channel)) {
+            writer.writeAll(values, 0, values.length);
+            writer.write(RomanNumeral.of(12, Notation.STANDARD));
+        }
+
+        assertThat(output.toString(StandardCharsets.US_ASCII)).isEqualTo(expected(values, "\n") + "XII\n");
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    @DisplayName("repeated flushes of a tiny buffer")
+    void tinyBuffer() throws Exception {
+
+        var values = new long[] { 3_888, 1, 2_444, 9, 3_888 };
+        var output = new ByteArrayOutputStream();
+        var drains = new int[1];
+        RomanNumeralWriter.Sink sink = (bytes, length) -> {
+            drains[0]++;
+            output.write(bytes, 0, length);
+        };
+
+        try (var writer = new RomanNumeralWriter(sink, "\r\n", 20)) {
+            writer.writeAll(values, 0, values.length);
+        }
+
+        assertThat(output.toString(StandardCharsets.US_ASCII)).isEqualTo(expected(values, "\r\n"));
+        assertThat(drains[0]).isEqualTo(values.length);
+    }
+
+    @Test
+    @DisplayName("to a byte buffer, which may overflow")
+    void byteBuffer() throws Exception {
+
+        var destination = ByteBuffer.allocate(24);
+        var writer = new RomanNumeralWriter(destination, "|");
+
+        writer.write(8);
+        writer.write(3_888);
+        writer.flush();
+        writer.write(4);
+        writer.write(5);
+        assertThatExceptionOfType(BufferOverflowException.class).isThrownBy(writer::flush);
+        assertThat(destination.position()).isEqualTo(21);
+
+        var drained = new String(destination.array(), 0, destination.position(), StandardCharsets.US_ASCII);
+        destination.clear();
+        writer.close();
+
+        assertThat(drained).isEqualTo("VIII|MMMDCCCLXXXVIII|");
+        assertThat(new String(destination.array(), 0, destination.position(), StandardCharsets.US_ASCII))
+                .isEqualTo("IV|V|");
+    }
+
+    @Test
+    @DisplayName("out of range values are not written")
+    void outOfRange() throws IOException {
+
+        var output = new ByteArrayOutputStream();
+        var writer = new RomanNumeralWriter(output);
+
+        assertThatExceptionOfType(RomanNumeralException.class).isThrownBy(() -> writer.write(0))
+                                                               .extracting(RomanNumeralException::error)
+                                                               .isEqualTo(RomanNumeralError.VALUE_TOO_SMALL);
+        assertThatExceptionOfType(RomanNumeralException.class)
+                .isThrownBy(() -> writer.writeAll(new long[] { 1, 4_000, 2 }, 0, 3))
+                .extracting(RomanNumeralException::error)
+                .isEqualTo(RomanNumeralError.VALUE_TOO_LARGE);
+        writer.close();
+
+        assertThat(output.toString(StandardCharsets.US_ASCII)).isEqualTo("I\n");
+    }
+
+    @Test
+    @DisplayName("the delimiter must be ASCII")
+    void delimiter() {
+
+        var output = new ByteArrayOutputStream();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new RomanNumeralWriter(output, "\u00a7"));
+        assertThatIllegalArgumentException().isThrownBy(() -> new RomanNumeralWriter((bytes, length) -> { }, "\n", 16));
+    }
+}
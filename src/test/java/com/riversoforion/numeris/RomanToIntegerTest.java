@@ -6,15 +6,24 @@ import org.assertj.core.condition.MappedCondition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
 
 
 @DisplayName("Roman numeral-to-integer conversion")
@@ -196,6 +205,504 @@ class RomanToIntegerTest {
         }
     }
 
+    @Nested
+    @DisplayName("imperative usage with slices of larger buffers")
+    class Slices {
+
+        @ParameterizedTest(name = "{0} [{1}, {2}] converts to {3}")
+        @CsvSource(textBlock = """
+                               '12,XLII,7',   3, 4, 42
+                               'id= cmlv ;',  3, 6, 955
+                               'MMXXII',      0, 6, 2022
+                               """)
+        @DisplayName("character sequences")
+        void charSequences(String line, int offset, int length, long expectedNumericValue) throws RomanNumeralException {
+
+            assertThat(rtoi.convert(line, offset, length)).isEqualTo(expectedNumericValue);
+            assertThat(rtoi.convert(new StringBuilder(line), offset, length)).isEqualTo(expectedNumericValue);
+        }
+
+        @ParameterizedTest(name = "{0} [{1}, {2}] converts to {3}")
+        @CsvSource(textBlock = """
+                               '12,XLII,7',   3, 4, 42
+                               'id= cmlv ;',  3, 6, 955
+                               'MMXXII',      0, 6, 2022
+                               """)
+        @DisplayName("ASCII bytes")
+        void asciiBytes(String line, int offset, int length, long expectedNumericValue) throws RomanNumeralException {
+
+            byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+            assertThat(rtoi.convert(bytes, offset, length)).isEqualTo(expectedNumericValue);
+            assertThat(rtoi.convert(ByteBuffer.wrap(bytes, offset, length))).isEqualTo(expectedNumericValue);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(offset).limit(offset + length);
+            assertThat(rtoi.convert(direct)).isEqualTo(expectedNumericValue);
+            assertThat(direct.position()).isEqualTo(offset);
+        }
+
+        @ParameterizedTest(name = "{0} [{1}, {2}] is invalid")
+        @CsvSource(textBlock = """
+                               '12,XLIIA,7',  3, 5, XLIIA
+                               'id= cmmv ;',  3, 6, CMMV
+                               """)
+        @DisplayName("invalid slices")
+        void invalidSlices(String line, int offset, int length, String expectedValue) {
+
+            byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+            String expectedMessage = String.format("%s is not a valid a Roman numeral", expectedValue);
+            assertThatExceptionOfType(RomanNumeralException.class)
+                    .isThrownBy(() -> rtoi.convert(line, offset, length))
+                    .withMessage(expectedMessage);
+            assertThatExceptionOfType(RomanNumeralException.class)
+                    .isThrownBy(() -> rtoi.convert(bytes, offset, length))
+                    .withMessage(expectedMessage);
+            assertThatExceptionOfType(RomanNumeralException.class)
+                    .isThrownBy(() -> rtoi.convert(ByteBuffer.wrap(bytes, offset, length)))
+                    .withMessage(expectedMessage);
+        }
+
+        @Test
+        @DisplayName("blank slices")
+        void blankSlices() {
+
+            assertThatExceptionOfType(RomanNumeralException.class)
+                    .isThrownBy(() -> rtoi.convert("XX    XX", 2, 4))
+                    .withMessage("Empty value");
+        }
+
+        @Test
+        @DisplayName("out of bounds slices")
+        void outOfBounds() {
+
+            assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                    .isThrownBy(() -> rtoi.convert("XLII", 2, 4));
+        }
+    }
+
+    @Nested
+    @DisplayName("exception-free usage")
+    class ExceptionFree {
+
+        @ParameterizedTest(name = "{0} converts to {1}")
+        @CsvSource(textBlock = """
+                               I,         1
+                               ' xlii ',  42
+                               MMMCMXCIX, 3999
+                               """)
+        @DisplayName("valid numerals")
+        void validNumerals(String romanNumeral, long expectedNumericValue) {
+
+            long status = rtoi.tryConvert(romanNumeral);
+            assertThat(RomanNumeralError.isFailure(status)).isFalse();
+            assertThat(status).isEqualTo(expectedNumericValue);
+            assertThat(RomanNumeralError.fromStatus(status)).isEmpty();
+            assertThat(RomanNumeralError.positionOf(status)).isEqualTo(-1);
+        }
+
+        @ParameterizedTest(name = "{0} fails at position {1}")
+        @CsvSource(textBlock = """
+                               ABC,       0
+                               MMDL1,     4
+                               CMM,       2
+                               ' XLXL',   4
+                               '  xiia ', 5
+                               """)
+        @DisplayName("unparseable numerals report the offending position")
+        void unparseableNumerals(String romanNumeral, int expectedPosition) {
+
+            long status = rtoi.tryConvert(romanNumeral);
+            assertThat(RomanNumeralError.isFailure(status)).isTrue();
+            assertThat(RomanNumeralError.fromStatus(status)).contains(RomanNumeralError.UNPARSEABLE);
+            assertThat(RomanNumeralError.positionOf(status)).isEqualTo(expectedPosition);
+        }
+
+        @ParameterizedTest(name = "{0} is empty")
+        @NullAndEmptySource
+        @ValueSource(strings = { " ", " \t " })
+        @DisplayName("empty values")
+        void emptyValues(String emptyValue) {
+
+            long status = rtoi.tryConvert(emptyValue);
+            assertThat(RomanNumeralError.fromStatus(status)).contains(RomanNumeralError.EMPTY_VALUE);
+            assertThat(RomanNumeralError.positionOf(status)).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("positions are relative to the slice")
+        void slices() {
+
+            long status = rtoi.tryConvert("12,XLIIA,7".getBytes(StandardCharsets.US_ASCII), 3, 5);
+            assertThat(RomanNumeralError.positionOf(status)).isEqualTo(4);
+            status = rtoi.tryConvert(ByteBuffer.wrap("12,XLIIA,7".getBytes(StandardCharsets.US_ASCII), 3, 5));
+            assertThat(RomanNumeralError.positionOf(status)).isEqualTo(4);
+            assertThat(rtoi.tryConvert("12,XLII,7", 3, 4)).isEqualTo(42);
+        }
+
+        @Test
+        @DisplayName("thrown exceptions report the position and capture a stack trace")
+        void thrownExceptions() {
+
+            var exception = catchThrowableOfType(() -> rtoi.convert("MMDL1"), RomanNumeralException.class);
+            assertThat(exception.error()).isEqualTo(RomanNumeralError.UNPARSEABLE);
+            assertThat(exception.position()).hasValue(4);
+            assertThat(exception.getStackTrace()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("returned exceptions do not capture a stack trace")
+        void returnedExceptions() {
+
+            var exception = rtoi.apply("MMDL1").getRight();
+            assertThat(exception.getStackTrace()).isEmpty();
+            assertThat(exception.position()).hasValue(4);
+            assertThat(exception.getMessage()).isEqualTo("MMDL1 is not a valid a Roman numeral");
+        }
+    }
+
+    @Nested
+    @DisplayName("primitive functional usage")
+    class PrimitiveFunctional {
+
+        @ParameterizedTest(name = "{0} converts to {1}")
+        @CsvSource(textBlock = """
+                               I,         1
+                               ' xlii ',  42
+                               MMMM,      4000
+                               """)
+        @DisplayName("valid numerals")
+        void validNumerals(String romanNumeral, long expectedNumericValue) {
+
+            assertThat(rtoi.applyAsLong(romanNumeral)).isEqualTo(expectedNumericValue);
+            NumericResult result = rtoi.applyAsResult(romanNumeral);
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.value()).isEqualTo(expectedNumericValue);
+            assertThat(result.orElse(-1)).isEqualTo(expectedNumericValue);
+            assertThat(result.toOptional()).hasValue(expectedNumericValue);
+            assertThat(result.error()).isEmpty();
+            assertThat(result.position()).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("invalid numerals")
+        void invalidNumerals() {
+
+            NumericResult result = rtoi.applyAsResult("MMDL1");
+            assertThat(result.isFailure()).isTrue();
+            assertThat(result.error()).contains(RomanNumeralError.UNPARSEABLE);
+            assertThat(result.position()).isEqualTo(4);
+            assertThat(result.orElse(-1)).isEqualTo(-1);
+            assertThat(result.toOptional()).isEmpty();
+            assertThat(result).hasToString("NumericResult[UNPARSEABLE at 4]");
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(result::value);
+
+            assertThat(rtoi.applyAsResult(" ").error()).contains(RomanNumeralError.EMPTY_VALUE);
+            assertThat(RomanNumeralError.isFailure(rtoi.applyAsLong(null))).isTrue();
+        }
+
+        @Test
+        @DisplayName("common results are shared")
+        void sharedResults() {
+
+            assertThat(rtoi.applyAsResult("XLII")).isSameAs(rtoi.applyAsResult("xlii"));
+            assertThat(rtoi.applyAsResult("")).isSameAs(rtoi.applyAsResult(null));
+            assertThat(rtoi.applyAsResult("MMMM")).isEqualTo(rtoi.applyAsResult("MMMM"));
+            assertThat(rtoi.applyAsResult("ABC")).isEqualTo(rtoi.applyAsResult("AXY"));
+        }
+
+        @Test
+        @DisplayName("streams")
+        void streams() {
+
+            long total = Stream.of("XII", "V", "BBCCDD", "CMLV")
+                               .mapToLong(rtoi)
+                               .filter(status -> !RomanNumeralError.isFailure(status))
+                               .sum();
+            assertThat(total).isEqualTo(972);
+            long[] values = Stream.of("XII", "V", "BBCCDD", "CMLV")
+                                  .map(rtoi::applyAsResult)
+                                  .flatMapToLong(NumericResult::stream)
+                                  .toArray();
+            assertThat(values).containsExactly(12, 5, 955);
+        }
+    }
+
+    @Nested
+    @DisplayName("extended notations")
+    class ExtendedNotations {
+
+        // '^' stands for the combining overline, which is hard to read in source
+        @ParameterizedTest(name = "{0} converts to {1}")
+        @CsvSource(textBlock = """
+                               MMMCMXCIX,  3999
+                               I^V^,       4000
+                               ' i^v^dc ', 4600
+                               M^M^M^,     3000000
+                               V^^D^,      5500000
+                               M^I,        1000001
+                               """)
+        @DisplayName("vinculum")
+        void vinculum(String romanNumeral, long expectedNumericValue) throws RomanNumeralException {
+
+            assertThat(new RomanToInteger(Notation.VINCULUM).convert(romanNumeral.replace('^', '\u0305')))
+                    .isEqualTo(expectedNumericValue);
+        }
+
+        @ParameterizedTest(name = "{0} converts to {1}")
+        @CsvSource(textBlock = """
+                               MMMCMXCIX,   3999
+                               (IV),        4000
+                               ' (iv)dc ',  4600
+                               (MMM),       3000000
+                               ((V))(D),    5500000
+                               (((MM)))V,   2000000000005
+                               """)
+        @DisplayName("parentheses")
+        void parentheses(String romanNumeral, long expectedNumericValue) throws RomanNumeralException {
+
+            var converter = new RomanToInteger(Notation.PARENTHESES);
+            assertThat(converter.convert(romanNumeral)).isEqualTo(expectedNumericValue);
+            var bytes = romanNumeral.getBytes(StandardCharsets.US_ASCII);
+            assertThat(converter.tryConvert(bytes, 0, bytes.length)).isEqualTo(expectedNumericValue);
+            assertThat(converter.tryConvert(ByteBuffer.wrap(bytes))).isEqualTo(expectedNumericValue);
+        }
+
+        @ParameterizedTest(name = "{0} fails at position {1}")
+        @CsvSource(textBlock = """
+                               (IV,             3
+                               IV),             2
+                               (IV)(X),         4
+                               ((I))((V)),      5
+                               (),              1
+                               (((((((I))))))), 0
+                               ((((((X)))))),   7
+                               """)
+        @DisplayName("malformed parentheses")
+        void malformedParentheses(String romanNumeral, int expectedPosition) {
+
+            long status = new RomanToInteger(Notation.PARENTHESES).tryConvert(romanNumeral);
+            assertThat(RomanNumeralError.fromStatus(status)).contains(RomanNumeralError.UNPARSEABLE);
+            assertThat(RomanNumeralError.positionOf(status)).isEqualTo(expectedPosition);
+        }
+
+        @ParameterizedTest(name = "{0} round trips")
+        @ValueSource(longs = { 1, 3999, 4000, 999_999_999, 8_888_888_888_888_888_888L, Long.MAX_VALUE })
+        @DisplayName("round trips")
+        void roundTrips(long numericValue) throws RomanNumeralException {
+
+            for (Notation notation : Notation.values()) {
+                if (numericValue <= notation.maxValue()) {
+                    var romanNumeral = new IntegerToRoman(notation).convert(numericValue);
+                    assertThat(new RomanToInteger(notation).convert(romanNumeral)).isEqualTo(numericValue);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("the standard notation does not accept group markers")
+        void standardNotation() {
+
+            assertThat(RomanNumeralError.positionOf(rtoi.tryConvert("(IV)"))).isZero();
+            assertThat(RomanNumeralError.positionOf(rtoi.tryConvert("I\u0305V\u0305"))).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("batch usage")
+    class Batch {
+
+        @Test
+        @DisplayName("valid values")
+        void validValues() {
+
+            var errors = new ConversionErrors();
+            assertThat(rtoi.convertAll(new String[]{ "I", " xlii ", "CMLXXXVII" }, errors))
+                    .containsExactly(1, 42, 987);
+            assertThat(errors.isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("failures are recorded by index")
+        void failures() {
+
+            var errors = new ConversionErrors();
+            assertThat(rtoi.convertAll(new CharSequence[]{ "V", null, new StringBuilder("XLXL"), "  " }, errors))
+                    .containsExactly(5, 0, 0, 0);
+            assertThat(errors.count()).isEqualTo(3);
+            assertThat(errors.nextFailure(0)).isEqualTo(1);
+            assertThat(errors.error(1)).contains(RomanNumeralError.EMPTY_VALUE);
+            assertThat(errors.error(2)).contains(RomanNumeralError.UNPARSEABLE);
+            assertThat(errors.error(3)).contains(RomanNumeralError.EMPTY_VALUE);
+        }
+
+        @Test
+        @DisplayName("errors are cleared between batches")
+        void reuse() {
+
+            var errors = new ConversionErrors();
+            rtoi.convertAll(new String[]{ "bad", "X" }, errors);
+            assertThat(errors.count()).isEqualTo(1);
+            rtoi.convertAll(new String[]{ "V", "X" }, errors);
+            assertThat(errors.isEmpty()).isTrue();
+            assertThat(errors.code(0)).isEqualTo(RomanNumeralError.NONE);
+        }
+    }
+
+    @Nested
+    @DisplayName("implementation details")
+    class ImplDetails {
+
+        @Test
+        @DisplayName("round trip of every valid value")
+        void roundTrip() {
+
+            var itor = new IntegerToRoman();
+            LongStream.rangeClosed(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE).forEach(value -> {
+                var romanValue = itor.apply(value).getLeft();
+                assertThat(NumeralParser.parse(romanValue)).isEqualTo(value);
+                assertThat(NumeralParser.parse(romanValue.toLowerCase())).isEqualTo(value);
+            });
+        }
+
+        @ParameterizedTest(name = "{0} parses to {1}")
+        @CsvSource(textBlock = """
+                               IIII,      4
+                               XXXXX,     50
+                               CMD,       1400
+                               MMMM,      4000
+                               '  xiv ',  14
+                               """)
+        @DisplayName("lenient forms accepted by the grammar")
+        void lenientForms(String romanNumeral, long expectedNumericValue) {
+
+            assertThat(NumeralParser.parse(romanNumeral)).isEqualTo(expectedNumericValue);
+        }
+
+        @ParameterizedTest(name = "{0} is rejected")
+        @ValueSource(strings = { "VV", "LL", "DD", "IM", "XM", "VX", "X I", "IXI X" })
+        @DisplayName("invalid symbol sequences")
+        void invalidSequences(String romanNumeral) {
+
+            assertThat(RomanNumeralError.fromStatus(NumeralParser.parse(romanNumeral)))
+                    .contains(RomanNumeralError.UNPARSEABLE);
+        }
+
+        @Test
+        @DisplayName("every canonical numeral is in the lookup table")
+        void canonicalLookup() {
+
+            var itor = new IntegerToRoman();
+            LongStream.rangeClosed(RomanNumeral.MIN_VALUE, RomanNumeral.MAX_VALUE).forEach(value -> {
+                var romanValue = itor.apply(value).getLeft();
+                var bytes = romanValue.getBytes(StandardCharsets.US_ASCII);
+                var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+                assertThat(CanonicalNumerals.lookup(romanValue, 0, romanValue.length())).isEqualTo(value);
+                assertThat(CanonicalNumerals.lookup(bytes, 0, bytes.length)).isEqualTo(value);
+                assertThat(CanonicalNumerals.lookup(direct)).isEqualTo(value);
+                assertThat(direct.position()).isZero();
+            });
+        }
+
+        @ParameterizedTest(name = "{0} is not in the lookup table")
+        @ValueSource(strings = { "", "xiv", " XIV", "XIV ", "IIII", "MMMM", "CMD", "XLX", "ABC", "MMMCMXCIXI" })
+        @DisplayName("non-canonical numerals fall back to the parser")
+        void nonCanonicalLookup(String romanNumeral) {
+
+            assertThat(CanonicalNumerals.lookup(romanNumeral, 0, romanNumeral.length()))
+                    .isEqualTo(CanonicalNumerals.MISS);
+            var bytes = romanNumeral.getBytes(StandardCharsets.US_ASCII);
+            assertThat(CanonicalNumerals.lookup(bytes, 0, bytes.length)).isEqualTo(CanonicalNumerals.MISS);
+        }
+
+        @Test
+        @DisplayName("every slot of the lookup table holds exactly one distinct canonical numeral")
+        void minimalLookup() {
+
+            var itor = new IntegerToRoman();
+            var seen = new HashSet<String>();
+            assertThat(CanonicalNumerals.SIZE).isEqualTo(RomanNumeral.MAX_VALUE);
+            assertThat(CanonicalNumerals.KEYS).hasNumberOfRows(CanonicalNumerals.SIZE);
+            for (int slot = 0; slot < CanonicalNumerals.SIZE; slot++) {
+                var key = CanonicalNumerals.KEYS[slot];
+                assertThat(key).as("slot %d", slot).isNotNull();
+                var romanValue = String.valueOf(key);
+                assertThat(seen.add(romanValue)).as("slot %d holds a duplicate, %s", slot, romanValue).isTrue();
+                var value = CanonicalNumerals.lookup(romanValue, 0, key.length);
+                assertThat(itor.apply(value).getLeft()).isEqualTo(romanValue);
+            }
+        }
+
+        @Test
+        @DisplayName("the precomputed displacements are the ones that the search finds")
+        void precomputedDisplacements() {
+
+            // If the hash or the table layout changes, run the search and paste its result into CanonicalNumerals
+            assertThat(searchDisplacements(CanonicalNumerals.SEED)).containsExactly(CanonicalNumerals.DISPLACEMENTS);
+        }
+    }
+
+    // Finds a displacement for every bucket of the lookup table, with the "hash and displace" method: from the largest
+    // bucket to the smallest, the first displacement that places all of its numerals in free slots; returns null if
+    // some bucket cannot be placed with this seed
+    private static int[] searchDisplacements(long seed) {
+
+        final int size = CanonicalNumerals.SIZE;
+        final int buckets = CanonicalNumerals.BUCKETS;
+        final var itor = new IntegerToRoman();
+        final long[] hashes = new long[size];
+        // The members of bucket b are members[starts[b]] to members[starts[b + 1] - 1], in ascending order
+        final int[] starts = new int[buckets + 1];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = CanonicalNumerals.hash(seed, itor.apply(i + 1).getLeft().toCharArray());
+            starts[CanonicalNumerals.bucket(hashes[i]) + 1]++;
+        }
+        int largest = 0;
+        for (int b = 0; b < buckets; b++) {
+            largest = Math.max(largest, starts[b + 1]);
+            starts[b + 1] += starts[b];
+        }
+        final int[] members = new int[size];
+        final int[] next = Arrays.copyOf(starts, buckets);
+        for (int i = 0; i < size; i++) {
+            members[next[CanonicalNumerals.bucket(hashes[i])]++] = i;
+        }
+
+        final int[] displacements = new int[buckets];
+        final boolean[] occupied = new boolean[size];
+        final int[] positions = new int[size];
+        for (int bucketSize = largest; bucketSize > 0; bucketSize--) {
+            for (int b = 0; b < buckets; b++) {
+                if (starts[b + 1] - starts[b] != bucketSize) {
+                    continue;
+                }
+                int displacement = 0;
+                while (!place(members, starts[b], starts[b + 1], hashes, displacement, occupied, positions)) {
+                    if (++displacement == 1 << 20) {
+                        return null;
+                    }
+                }
+                displacements[b] = displacement;
+            }
+        }
+        return displacements;
+    }
+
+    // Places all the numerals of a bucket with the given displacement, if all of their slots (and only they) are free
+    private static boolean place(int[] members, int from, int to, long[] hashes, int displacement,
+                                 boolean[] occupied, int[] positions) {
+
+        for (int k = from; k < to; k++) {
+            final int position = CanonicalNumerals.position(hashes[members[k]], displacement);
+            if (occupied[position]) {
+                for (int j = from; j < k; j++) {
+                    occupied[positions[members[j]]] = false;
+                }
+                return false;
+            }
+            occupied[position] = true;
+            positions[members[k]] = position;
+        }
+        return true;
+    }
+
     private MappedCondition<Either<Long, RomanNumeralException>, Long> correctResultCondition(Long expectedNumericValue) {
 
         return MappedCondition.mappedCondition(
@@ -0,0 +1,118 @@
+package com.riversoforion.numeris.cli;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@DisplayName("Bulk file transcoding")
+class TranscoderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("numeric values to Roman numerals")
+    void toRoman() throws IOException {
+
+        var input = write("input.txt", "1\n42\r\n  3999 \n0\nabc\n4000\n-7\n1984");
+        var output = this.directory.resolve("output.txt");
+
+        var summary = new Transcoder(Transcoder.Direction.TO_ROMAN, 2).transcode(input, output);
+
+        assertThat(Files.readAllLines(output)).containsExactly("I", "XLII", "MMMCMXCIX", "", "", "", "", "MCMLXXXIV");
+        assertThat(summary.records()).isEqualTo(8);
+        assertThat(summary.errors()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Roman numerals to numeric values")
+    void toInteger() throws IOException {
+
+        var input = write("input.txt", "I\nxlii\r\n  MMMCMXCIX \n\nABC\nMMMM\n");
+        var output = this.directory.resolve("output.txt");
+
+        var summary = new Transcoder(Transcoder.Direction.TO_INTEGER, 2).transcode(input, output);
+
+        assertThat(Files.readAllLines(output)).containsExactly("1", "42", "3999", "", "", "4000");
+        assertThat(summary.records()).isEqualTo(6);
+        assertThat(summary.errors()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("output much longer than the input")
+    void longNumerals() throws IOException {
+
+        var input = write("input.txt", "3888\n".repeat(10_000));
+        var output = this.directory.resolve("output.txt");
+
+        var summary = new Transcoder(Transcoder.Direction.TO_ROMAN, 1).transcode(input, output);
+
+        assertThat(Files.readString(output)).isEqualTo("MMMDCCCLXXXVIII\n".repeat(10_000));
+        assertThat(summary.errors()).isZero();
+    }
+
+    @ParameterizedTest(name = "chunks of {0} bytes")
+    @ValueSource(ints = { 1, 7, 64, 4096 })
+    @DisplayName("order is preserved across chunks")
+    void orderPreserved(int chunkSize) throws IOException {
+
+        var values = IntStream.rangeClosed(1, 3999).mapToObj(Integer::toString).collect(Collectors.toList());
+        var input = write("input.txt", String.join("\n", values) + "\n");
+        var numerals = this.directory.resolve("numerals.txt");
+        var output = this.directory.resolve("output.txt");
+
+        new Transcoder(Transcoder.Direction.TO_ROMAN, 4, chunkSize).transcode(input, numerals);
+        var summary = new Transcoder(Transcoder.Direction.TO_INTEGER, 4, chunkSize).transcode(numerals, output);
+
+        assertThat(Files.readAllLines(output)).isEqualTo(values);
+        assertThat(summary.records()).isEqualTo(3999);
+        assertThat(summary.errors()).isZero();
+    }
+
+    @Test
+    @DisplayName("command line reports a summary")
+    void commandLine() throws IOException {
+
+        var input = write("input.txt", "1\n2\nbad\n");
+        var output = this.directory.resolve("output.txt");
+        var console = new ByteArrayOutputStream();
+
+        int status = NumerisCli.run(new String[]{ "to-roman", input.toString(), output.toString(), "--threads", "1" },
+                                    new PrintStream(console, true, StandardCharsets.UTF_8));
+
+        assertThat(status).isEqualTo(1);
+        assertThat(console.toString(StandardCharsets.UTF_8)).startsWith("3 records in").contains("1 errors");
+    }
+
+    @Test
+    @DisplayName("command line usage errors")
+    void usage() {
+
+        var console = new ByteArrayOutputStream();
+
+        int status = NumerisCli.run(new String[]{ "sideways", "a", "b" },
+                                    new PrintStream(console, true, StandardCharsets.UTF_8));
+
+        assertThat(status).isEqualTo(2);
+        assertThat(console.toString(StandardCharsets.UTF_8)).startsWith("Usage:");
+    }
+
+    private Path write(String name, String content) throws IOException {
+
+        return Files.writeString(this.directory.resolve(name), content);
+    }
+}
@@ -0,0 +1,79 @@
+package com.riversoforion.numeris.internal;
+
+import com.riversoforion.numeris.RomanNumeralError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@DisplayName("Decimal text")
+class DecimalsTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "42|42",
+            "' \t+3999\r'|3999",
+            "-0|0",
+            "000000000000000001|1",
+    })
+    @DisplayName("parse values")
+    void parse(String text, long expected) {
+
+        assertThat(Decimals.parse(ascii(text))).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "''|EMPTY_VALUE",
+            "'  '|EMPTY_VALUE",
+            "-|UNPARSEABLE",
+            "4x|UNPARSEABLE",
+            "4 2|UNPARSEABLE",
+            "abcdefghijklmnopqrstuvwxyz|UNPARSEABLE",
+            "-7|VALUE_TOO_SMALL",
+            "-9223372036854775808|VALUE_TOO_SMALL",
+            "9223372036854775807|VALUE_TOO_LARGE",
+            "123456789012345678901234567890|VALUE_TOO_LARGE",
+    })
+    @DisplayName("report text that could never be converted with its own error")
+    void failures(String text, RomanNumeralError expected) {
+
+        final long status = Decimals.parse(ascii(text));
+
+        assertThat(RomanNumeralError.isFailure(status)).isTrue();
+        assertThat(RomanNumeralError.fromStatus(status)).hasValue(expected);
+    }
+
+    @Test
+    @DisplayName("parse between position and limit")
+    void parseRemaining() {
+
+        final ByteBuffer buffer = ascii("12\n345\n");
+
+        assertThat(Decimals.parse(buffer.position(3).limit(6))).isEqualTo(345);
+        assertThat(buffer.position()).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 7, 10, 3_999, 1_000_000, Long.MAX_VALUE })
+    @DisplayName("write non-negative values")
+    void write(long value) {
+
+        final byte[] destination = new byte[Decimals.MAX_LENGTH + 2];
+        final int length = Decimals.write(value, destination, 2);
+
+        assertThat(new String(destination, 2, length, StandardCharsets.US_ASCII)).isEqualTo(Long.toString(value));
+    }
+
+    private static ByteBuffer ascii(String text) {
+
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
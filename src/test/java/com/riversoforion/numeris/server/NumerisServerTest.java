@@ -0,0 +1,155 @@
+package com.riversoforion.numeris.server;
+
+import com.riversoforion.numeris.ConversionListener.Direction;
+import com.riversoforion.numeris.RomanNumeralError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+@DisplayName("Conversion server")
+class NumerisServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ExecutorService executor;
+    private NumerisServer server;
+
+    @BeforeEach
+    void start() throws IOException {
+
+        this.executor = Executors.newFixedThreadPool(4);
+        this.server = new NumerisServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), this.executor);
+        this.server.start();
+    }
+
+    @AfterEach
+    void stop() {
+
+        this.server.close();
+        this.executor.shutdownNow();
+    }
+
+    @ParameterizedTest(name = "GET {0}")
+    @CsvSource({
+            "/to-roman/1984, 200, MCMLXXXIV",
+            "/to-roman/0, 400, 0 is too small",
+            "/to-roman/abc, 400, abc is not a number",
+            "/to-integer/MCMLXXXIV, 200, 1984",
+            "/to-integer/%20mcm, 200, 1900",
+            "/to-roman/1/2, 404, Not found",
+            "/to-roman, 405, Method not allowed",
+    })
+    @DisplayName("single values")
+    void single(String path, int status, String body) throws IOException, InterruptedException {
+
+        var response = send(HttpRequest.newBuilder(uri(path)));
+
+        assertThat(response.statusCode()).isEqualTo(status);
+        assertThat(response.body()).isEqualTo(body + "\n");
+    }
+
+    @Test
+    @DisplayName("batches of lines")
+    void lines() throws IOException, InterruptedException {
+
+        var response = post("/to-roman", "text/plain", "1\n42\r\n  3999 \n0\nabc\n4000\n1984");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("I\nXLII\nMMMCMXCIX\n\n\n\nMCMLXXXIV\n");
+        assertThat(this.server.conversions().failures(Direction.TO_ROMAN, RomanNumeralError.VALUE_TOO_SMALL))
+                .isEqualTo(1);
+        assertThat(this.server.conversions().failures(Direction.TO_ROMAN, RomanNumeralError.UNPARSEABLE)).isEqualTo(1);
+        assertThat(this.server.conversions().failures(Direction.TO_ROMAN, RomanNumeralError.VALUE_TOO_LARGE))
+                .isEqualTo(1);
+
+        response = post("/to-integer", "text/plain", "I\nxlii\n\nABC\n" + "X".repeat(100) + "\n");
+
+        assertThat(response.body()).isEqualTo("1\n42\n\n\n\n");
+    }
+
+    @Test
+    @DisplayName("batches of JSON")
+    void json() throws IOException, InterruptedException {
+
+        var response = post("/to-integer", "application/json", "[\"XIV\", \"bad\", 12, null, \"\\u004dCM\"]");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/json");
+        assertThat(response.body()).isEqualTo("[14,null,null,null,1900]");
+
+        assertThat(post("/to-roman", "application/json", " [ 1, \"2\" , -3 ] ").body())
+                .isEqualTo("[\"I\",\"II\",null]");
+        assertThat(post("/to-roman", "application/json", "[]").body()).isEqualTo("[]");
+        assertThat(post("/to-roman", "application/json", "{}").statusCode()).isEqualTo(400);
+        // Malformed part way through, so the response ends early
+        assertThat(post("/to-roman", "application/json", "[1, 2 3]").body()).isEqualTo("[\"I\",\"II\"");
+    }
+
+    @Test
+    @DisplayName("large batches are streamed")
+    void streamed() throws IOException, InterruptedException {
+
+        var values = IntStream.rangeClosed(1, 3999).mapToObj(Integer::toString).collect(Collectors.joining("\n"));
+        var batch = (values + "\n").repeat(10);
+
+        var numerals = post("/to-roman", "text/plain", batch);
+        var numbers = post("/to-integer", "text/plain", numerals.body());
+
+        assertThat(numerals.headers().firstValue("Transfer-Encoding")).hasValue("chunked");
+        assertThat(numbers.body()).isEqualTo(batch);
+        assertThat(this.server.conversions().successes(Direction.TO_ROMAN)).isEqualTo(39990);
+        assertThat(this.server.conversions().successes(Direction.TO_INTEGER)).isEqualTo(39990);
+    }
+
+    @Test
+    @DisplayName("statistics")
+    void stats() throws IOException, InterruptedException {
+
+        // Conversions are counted before they are responded to, but requests only after
+        send(HttpRequest.newBuilder(uri("/to-roman/42")));
+        send(HttpRequest.newBuilder(uri("/to-integer/bad")));
+
+        var response = send(HttpRequest.newBuilder(uri("/stats")));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).startsWith("{\"uptimeSeconds\":")
+                                   .contains("\"requests\":{\"count\":")
+                                   .contains("\"to-roman\":{\"successes\":1,\"failures\":0,")
+                                   .contains("\"to-integer\":{\"successes\":0,\"failures\":1,");
+    }
+
+    private URI uri(String path) {
+
+        return URI.create("http://127.0.0.1:" + this.server.address().getPort() + path);
+    }
+
+    private HttpResponse<String> post(String path, String contentType, String body)
+            throws IOException, InterruptedException {
+
+        return send(HttpRequest.newBuilder(uri(path))
+                               .header("Content-Type", contentType)
+                               .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+
+        return this.client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}